@@ -2,10 +2,12 @@ package seedu.resireg;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.resireg.commons.core.Config;
 import seedu.resireg.commons.core.LogsCenter;
@@ -13,6 +15,7 @@ import seedu.resireg.commons.core.Version;
 import seedu.resireg.commons.exceptions.DataConversionException;
 import seedu.resireg.commons.util.ConfigUtil;
 import seedu.resireg.commons.util.StringUtil;
+import seedu.resireg.logic.BinPurgeScheduler;
 import seedu.resireg.logic.Logic;
 import seedu.resireg.logic.LogicManager;
 import seedu.resireg.model.Model;
@@ -22,7 +25,8 @@ import seedu.resireg.model.ReadOnlyUserPrefs;
 import seedu.resireg.model.ResiReg;
 import seedu.resireg.model.UserPrefs;
 import seedu.resireg.model.util.SampleDataUtil;
-import seedu.resireg.storage.JsonResiRegStorage;
+import seedu.resireg.storage.AutosaveService;
+import seedu.resireg.storage.JsonSpilledStateStack;
 import seedu.resireg.storage.JsonUserPrefsStorage;
 import seedu.resireg.storage.ResiRegStorage;
 import seedu.resireg.storage.Storage;
@@ -43,8 +47,10 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected AutosaveService autosaveService;
     protected Model model;
     protected Config config;
+    protected BinPurgeScheduler binPurgeScheduler;
 
     @Override
     public void init() throws Exception {
@@ -56,16 +62,20 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        ResiRegStorage resiRegStorage = new JsonResiRegStorage(userPrefs.getResiRegFilePath());
+        ResiRegStorage resiRegStorage = StorageManager.createResiRegStorage(userPrefs.getResiRegFilePath(),
+                userPrefs.getResiRegFileFormat());
         storage = new StorageManager(resiRegStorage, userPrefsStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        autosaveService = new AutosaveService(storage);
+        logic = new LogicManager(model, storage, autosaveService);
 
         ui = new UiManager(logic);
+
+        binPurgeScheduler = new BinPurgeScheduler(logic, Platform::runLater, Clock.systemDefaultZone());
     }
 
     /**
@@ -90,9 +100,11 @@ public class MainApp extends Application {
             initialData = new ResiReg();
         }
 
-        // delete expired items on start up
+        // expired bin items are deleted by the BinPurgeScheduler once the app starts
         ModelManager modelManager = new ModelManager(initialData, userPrefs);
-        modelManager.deleteExpiredBinItems();
+        // old undo states are kept next to the data file
+        modelManager.setSpilledStateStack(
+                new JsonSpilledStateStack(userPrefs.getResiRegFilePath().toAbsolutePath().getParent()));
         return modelManager;
     }
 
@@ -172,11 +184,15 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting ResiReg " + MainApp.VERSION);
         ui.start(primaryStage);
+        binPurgeScheduler.start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping ResiReg ] =============================");
+        binPurgeScheduler.stop();
+        // the last changes are written before the preferences, so they do not overwrite the window settings
+        autosaveService.stop();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
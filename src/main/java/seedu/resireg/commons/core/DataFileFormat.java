@@ -0,0 +1,11 @@
+package seedu.resireg.commons.core;
+
+/**
+ * The formats which the ResiReg data file can be saved in.
+ */
+public enum DataFileFormat {
+    /** Human-readable json, which is the default. */
+    JSON,
+    /** A compact binary format, which is faster to save and load for large registers. */
+    BINARY
+}
@@ -0,0 +1,103 @@
+package seedu.resireg.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.resireg.commons.exceptions.IllegalValueException;
+
+/**
+ * Helper functions for handling comma-separated values.
+ */
+public class CsvUtil {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed on the same line.";
+    public static final String MESSAGE_TEXT_AFTER_QUOTE = "A quoted field is followed by text other than a comma.";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Splits one line of comma-separated values into its fields.
+     * A field may be quoted, in which case it may contain commas, and a quote in it is written as two quotes.
+     * A quoted field may not contain a line break, so every record can be read as a single line.
+     *   <br>examples:<pre>
+     *       splitLine("a,b") == ["a", "b"]
+     *       splitLine("\"a, b\",\"say \"\"hi\"\"\"") == ["a, b", "say \"hi\""]
+     *       splitLine("") == [""]
+     *       </pre>
+     *
+     * @throws IllegalValueException if a quoted field is not closed, or is followed by other text.
+     */
+    public static List<String> splitLine(String line) throws IllegalValueException {
+        requireNonNull(line);
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+
+        while (true) {
+            if (i < line.length() && line.charAt(i) == QUOTE) {
+                i = readQuotedField(line, i + 1, field);
+                if (i < line.length() && line.charAt(i) != SEPARATOR) {
+                    throw new IllegalValueException(MESSAGE_TEXT_AFTER_QUOTE);
+                }
+            } else {
+                int end = line.indexOf(SEPARATOR, i);
+                end = end == -1 ? line.length() : end;
+                field.append(line, i, end);
+                i = end;
+            }
+
+            fields.add(field.toString());
+            field.setLength(0);
+            if (i >= line.length()) {
+                return fields;
+            }
+            i++; // skips the separator
+        }
+    }
+
+    /**
+     * Joins {@code fields} into one line of comma-separated values, which {@link #splitLine(String)} splits back
+     * into the same fields. Only fields containing commas or quotes are quoted.
+     * Line breaks in a field are replaced with spaces, since a record must fit on a single line.
+     */
+    public static String joinLine(List<String> fields) {
+        requireNonNull(fields);
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                line.append(SEPARATOR);
+            }
+            String field = fields.get(i).replace('\r', ' ').replace('\n', ' ');
+            if (field.indexOf(SEPARATOR) == -1 && field.indexOf(QUOTE) == -1) {
+                line.append(field);
+            } else {
+                line.append(QUOTE).append(field.replace("\"", "\"\"")).append(QUOTE);
+            }
+        }
+        return line.toString();
+    }
+
+    /**
+     * Appends the quoted field of {@code line} which starts at {@code start}, just after its opening quote, to
+     * {@code field}, and returns the index just after its closing quote.
+     */
+    private static int readQuotedField(String line, int start, StringBuilder field) throws IllegalValueException {
+        int i = start;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c != QUOTE) {
+                field.append(c);
+                i++;
+            } else if (i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                field.append(QUOTE);
+                i += 2;
+            } else {
+                return i + 1;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_UNTERMINATED_QUOTE);
+    }
+}
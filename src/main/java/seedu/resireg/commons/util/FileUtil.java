@@ -1,10 +1,17 @@
 package seedu.resireg.commons.util;
 
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +19,16 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +92,91 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, as in {@link #writeAtomically(Path, ContentWriter, boolean)}.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeAtomically(file, outputStream -> outputStream.write(bytes), false);
+    }
+
+    /**
+     * Returns the path of the backup which {@link #writeAtomically(Path, ContentWriter, boolean)} keeps of
+     * {@code file}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes a file with the content written by {@code contentWriter}, creating its missing parent directories.
+     *
+     * The content is written to a temporary file next to {@code file}, which is forced to the disk and then
+     * renamed over {@code file}, so a crash leaves either the old file or the new file, but never part of one.
+     * If {@code keepBackup} is true, the file being replaced is kept at {@link #getBackupPath(Path)}.
+     * The stream given to {@code contentWriter} may be closed by it.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter, boolean keepBackup)
+            throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        createParentDirsOfFile(absoluteFile);
+        Path directory = absoluteFile.getParent();
+        Path temporaryFile = Files.createTempFile(directory, absoluteFile.getFileName().toString(),
+                TEMPORARY_FILE_SUFFIX);
+
+        try {
+            try (FileOutputStream outputStream = new FileOutputStream(temporaryFile.toFile())) {
+                contentWriter.write(new FilterOutputStream(outputStream) {
+                    @Override
+                    public void write(byte[] bytes, int offset, int length) throws IOException {
+                        out.write(bytes, offset, length);
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        flush(); // the file is closed once it is on the disk
+                    }
+                });
+                outputStream.getFD().sync();
+            }
+            if (keepBackup && Files.exists(absoluteFile)) {
+                backUp(absoluteFile);
+            }
+            try {
+                Files.move(temporaryFile, absoluteFile, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            syncDirectory(directory);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Makes the backup of {@code file} the same as {@code file}. The backup is a link to the file where the file
+     * system allows it, so it costs nothing to keep.
+     */
+    private static void backUp(Path file) throws IOException {
+        Path backup = getBackupPath(file);
+        Files.deleteIfExists(backup);
+        try {
+            Files.createLink(backup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, so that a file renamed into it stays renamed after a
+     * crash. Some platforms cannot open a directory, in which case the rename is left to the file system.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the directory cannot be synced on this platform
+        }
     }
 
 }
@@ -0,0 +1,36 @@
+package seedu.resireg.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of immutable values, so that equal values created from the same string can share a single instance.
+ * Safe to use from multiple threads.
+ *
+ * @param <T> Type of the values in the pool.
+ */
+public class InternPool<T> {
+
+    private final Map<String, T> values = new ConcurrentHashMap<>();
+    private final Function<String, T> factory;
+
+    /**
+     * Creates an {@code InternPool} which creates values with {@code factory}.
+     * Exceptions thrown by {@code factory} for invalid strings are propagated, and nothing is pooled for them.
+     */
+    public InternPool(Function<String, T> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the pooled value for {@code key}, creating it if it is not already in the pool.
+     */
+    public T get(String key) {
+        requireNonNull(key);
+        return values.computeIfAbsent(key, factory);
+    }
+}
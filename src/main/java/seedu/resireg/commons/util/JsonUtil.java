@@ -3,6 +3,8 @@ package seedu.resireg.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +13,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -32,6 +36,7 @@ public class JsonUtil {
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
             .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
             .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
@@ -110,6 +115,32 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Returns a generator which writes pretty-printed JSON to {@code outputStream}, and writes objects given to
+     * {@link JsonGenerator#writeObject(Object)} the same way as {@link #toJsonString(Object)}.
+     * Objects are written out as they are given, so a large document can be written one part at a time.
+     */
+    public static JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        return objectMapper.getFactory().createGenerator(outputStream).useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Returns a generator like {@link #createGenerator(OutputStream)}, but which writes JSON without any line
+     * breaks, so that each value written can be kept on a line of its own.
+     */
+    public static JsonGenerator createCompactGenerator(OutputStream outputStream) throws IOException {
+        return objectMapper.getFactory().createGenerator(outputStream);
+    }
+
+    /**
+     * Returns a parser which reads JSON from {@code inputStream}, and reads objects with
+     * {@link JsonParser#readValueAs(Class)} the same way as {@link #fromJsonString(String, Class)}.
+     * The input is read as it is parsed, so a large document can be read one part at a time.
+     */
+    public static JsonParser createParser(InputStream inputStream) throws IOException {
+        return objectMapper.getFactory().createParser(inputStream);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
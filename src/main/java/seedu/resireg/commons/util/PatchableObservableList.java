@@ -0,0 +1,119 @@
+package seedu.resireg.commons.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An {@code ObservableList} which can replace a range of its elements as a single change, so that the changes
+ * kept by a {@link PatchedList} are published to listeners at once.
+ */
+public abstract class PatchableObservableList<E> extends ModifiableObservableListBase<E> {
+
+    /**
+     * Returns an empty {@code PatchableObservableList} backed by an {@code ArrayList}.
+     */
+    public static <E> PatchableObservableList<E> observableArrayList() {
+        return new ArrayBackedList<>();
+    }
+
+    /**
+     * Replaces the elements from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive, with
+     * {@code elements}, notifying listeners of a single change.
+     */
+    public void replaceRange(int fromIndex, int toIndex, Collection<? extends E> elements) {
+        if (toIndex - fromIndex == 1 && elements.size() == 1) {
+            set(fromIndex, elements.iterator().next());
+            return;
+        }
+
+        beginChange();
+        try {
+            removeRange(fromIndex, toIndex);
+            addAll(fromIndex, elements);
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * A {@code PatchableObservableList} which keeps its elements in an {@code ArrayList}.
+     */
+    private static class ArrayBackedList<E> extends PatchableObservableList<E> {
+        private final List<E> elements = new ArrayList<>();
+
+        @Override
+        public E get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+
+        /**
+         * Copies the backing list in one go, instead of one element at a time, as copying a list does.
+         */
+        @Override
+        public Object[] toArray() {
+            return elements.toArray();
+        }
+
+        @Override
+        protected void doAdd(int index, E element) {
+            elements.add(index, element);
+        }
+
+        @Override
+        protected E doSet(int index, E element) {
+            return elements.set(index, element);
+        }
+
+        @Override
+        protected E doRemove(int index) {
+            return elements.remove(index);
+        }
+
+        /**
+         * Inserts the elements as a single shift of the backing list, instead of inserting them one at a time.
+         */
+        @Override
+        public boolean addAll(int index, Collection<? extends E> c) {
+            if (index < 0 || index > size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            if (c.isEmpty()) {
+                return false;
+            }
+
+            elements.addAll(index, c);
+            modCount++;
+            beginChange();
+            nextAdd(index, index + c.size());
+            endChange();
+            return true;
+        }
+
+        /**
+         * Removes the elements in the range as a single shift of the backing list, instead of removing them one
+         * at a time.
+         */
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            if (fromIndex == toIndex) {
+                return;
+            }
+
+            List<E> range = elements.subList(fromIndex, toIndex);
+            List<E> removed = new ArrayList<>(range);
+            range.clear();
+            modCount++;
+            beginChange();
+            nextRemove(fromIndex, removed);
+            endChange();
+        }
+    }
+}
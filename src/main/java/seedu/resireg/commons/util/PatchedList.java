@@ -0,0 +1,141 @@
+package seedu.resireg.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A modifiable view of a base list which keeps its changes apart from the base list until they are published.
+ *
+ * The changes are kept as the replacement of a single range of the base list, which grows to cover every position
+ * that is changed. Making a change costs as much as the distance from it to the range, rather than the size of the
+ * list, and publishing replaces only that range of the base list, as a single change. Changes which are close
+ * together, such as those of a command changing a few entities, are therefore cheap to keep and to publish.
+ *
+ * The base list must not be changed while there are unpublished changes.
+ */
+public class PatchedList<E> extends AbstractList<E> implements RandomAccess {
+
+    private final PatchableObservableList<E> base;
+    private final List<E> replacement = new ArrayList<>();
+    // the range of base which is replaced, which starts at the same position in this list
+    private int from;
+    private int baseTo;
+    private boolean hasChanges = false;
+
+    /**
+     * Creates a view of {@code base} without any changes.
+     */
+    public PatchedList(PatchableObservableList<E> base) {
+        requireNonNull(base);
+        this.base = base;
+    }
+
+    @Override
+    public E get(int index) {
+        if (!hasChanges || index < from) {
+            return base.get(index);
+        }
+        int replacementEnd = from + replacement.size();
+        if (index < replacementEnd) {
+            return replacement.get(index - from);
+        }
+        return base.get(baseTo + index - replacementEnd);
+    }
+
+    @Override
+    public int size() {
+        return base.size() - (baseTo - from) + replacement.size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        checkIndex(index, size() - 1);
+        cover(index, index + 1);
+        return replacement.set(index - from, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkIndex(index, size());
+        cover(index, index);
+        replacement.add(index - from, element);
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkIndex(index, size() - 1);
+        cover(index, index + 1);
+        modCount++;
+        return replacement.remove(index - from);
+    }
+
+    /**
+     * Replaces the changed range of the base list with the elements which replace it, leaving out the elements
+     * at either end of it which are unchanged, as a single change of the base list. The view then has no changes.
+     */
+    public void publish() {
+        if (!hasChanges) {
+            return;
+        }
+
+        int publishFrom = from;
+        int publishBaseTo = baseTo;
+        int replacementFrom = 0;
+        int replacementTo = replacement.size();
+        while (publishFrom < publishBaseTo && replacementFrom < replacementTo
+                && Objects.equals(base.get(publishFrom), replacement.get(replacementFrom))) {
+            publishFrom++;
+            replacementFrom++;
+        }
+        while (publishFrom < publishBaseTo && replacementFrom < replacementTo
+                && Objects.equals(base.get(publishBaseTo - 1), replacement.get(replacementTo - 1))) {
+            publishBaseTo--;
+            replacementTo--;
+        }
+
+        if (publishFrom < publishBaseTo || replacementFrom < replacementTo) {
+            base.replaceRange(publishFrom, publishBaseTo, replacement.subList(replacementFrom, replacementTo));
+        }
+
+        replacement.clear();
+        from = 0;
+        baseTo = 0;
+        hasChanges = false;
+    }
+
+    /**
+     * Grows the replaced range to cover the positions from {@code start} to {@code end}, exclusive, of this list.
+     */
+    private void cover(int start, int end) {
+        if (!hasChanges) {
+            from = start;
+            baseTo = end;
+            replacement.addAll(base.subList(start, end));
+            hasChanges = true;
+            return;
+        }
+
+        if (start < from) {
+            replacement.addAll(0, base.subList(start, from));
+            from = start;
+        }
+        int replacementEnd = from + replacement.size();
+        if (end > replacementEnd) {
+            int extraCount = end - replacementEnd;
+            replacement.addAll(base.subList(baseTo, baseTo + extraCount));
+            baseTo += extraCount;
+        }
+    }
+
+    private void checkIndex(int index, int maxIndex) {
+        if (index < 0 || index > maxIndex) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.resireg.logic;
+
+import static seedu.resireg.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deletes expired bin items when the app starts and every midnight after that.
+ *
+ * The waiting is done on a background thread, but the deletion itself is handed to {@code modelExecutor},
+ * which should run it on the thread that owns the model (the JavaFX application thread), so that the model and
+ * the lists shown in the UI are only changed from that thread.
+ */
+public class BinPurgeScheduler {
+
+    private final Logic logic;
+    private final Executor modelExecutor;
+    private final Clock clock;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "bin-purge-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a {@code BinPurgeScheduler} which deletes the expired bin items of {@code logic} on
+     * {@code modelExecutor}, at the midnights of {@code clock}'s time zone.
+     */
+    public BinPurgeScheduler(Logic logic, Executor modelExecutor, Clock clock) {
+        requireAllNonNull(logic, modelExecutor, clock);
+        this.logic = logic;
+        this.modelExecutor = modelExecutor;
+        this.clock = clock;
+    }
+
+    /**
+     * Deletes the expired bin items now, then schedules the deletion for every midnight.
+     */
+    public void start() {
+        timer.execute(this::purgeAndReschedule);
+    }
+
+    /**
+     * Cancels the scheduled deletions.
+     */
+    public void stop() {
+        timer.shutdownNow();
+    }
+
+    private void purgeAndReschedule() {
+        modelExecutor.execute(logic::deleteExpiredBinItems);
+        if (!timer.isShutdown()) {
+            long delayMillis = getDelayUntilNextMidnight(ZonedDateTime.now(clock)).toMillis();
+            timer.schedule(this::purgeAndReschedule, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the time from {@code now} until the start of the next day in the same time zone.
+     * The delay is worked out again every day, so days of other lengths (e.g. from daylight saving) are handled.
+     */
+    static Duration getDelayUntilNextMidnight(ZonedDateTime now) {
+        ZonedDateTime nextMidnight = now.toLocalDate().plusDays(1).atStartOfDay(now.getZone());
+        return Duration.between(now, nextMidnight);
+    }
+}
@@ -5,6 +5,7 @@ import seedu.resireg.logic.commands.AddCommand;
 import seedu.resireg.logic.commands.AddRoomCommand;
 import seedu.resireg.logic.commands.AllocateCommand;
 import seedu.resireg.logic.commands.ArchiveCommand;
+import seedu.resireg.logic.commands.AutoAllocateCommand;
 import seedu.resireg.logic.commands.ClearCommand;
 import seedu.resireg.logic.commands.Command;
 import seedu.resireg.logic.commands.DeallocateCommand;
@@ -14,9 +15,11 @@ import seedu.resireg.logic.commands.DeleteRoomCommand;
 import seedu.resireg.logic.commands.EditCommand;
 import seedu.resireg.logic.commands.EditRoomCommand;
 import seedu.resireg.logic.commands.ExitCommand;
+import seedu.resireg.logic.commands.ExportCommand;
 import seedu.resireg.logic.commands.Help;
 import seedu.resireg.logic.commands.HelpCommand;
 import seedu.resireg.logic.commands.HistoryCommand;
+import seedu.resireg.logic.commands.ImportCommand;
 import seedu.resireg.logic.commands.ListAliasCommand;
 import seedu.resireg.logic.commands.ListBinCommand;
 import seedu.resireg.logic.commands.ListRoomsCommand;
@@ -31,12 +34,17 @@ import seedu.resireg.logic.parser.AddAliasCommandParser;
 import seedu.resireg.logic.parser.AddCommandParser;
 import seedu.resireg.logic.parser.AddRoomCommandParser;
 import seedu.resireg.logic.parser.AllocateCommandParser;
+import seedu.resireg.logic.parser.AutoAllocateCommandParser;
 import seedu.resireg.logic.parser.DeallocateCommandParser;
 import seedu.resireg.logic.parser.DeleteAliasCommandParser;
 import seedu.resireg.logic.parser.DeleteCommandParser;
 import seedu.resireg.logic.parser.DeleteRoomCommandParser;
 import seedu.resireg.logic.parser.EditCommandParser;
 import seedu.resireg.logic.parser.EditRoomCommandParser;
+import seedu.resireg.logic.parser.ExportCommandParser;
+import seedu.resireg.logic.parser.HistoryCommandParser;
+import seedu.resireg.logic.parser.ImportCommandParser;
+import seedu.resireg.logic.parser.ListBinCommandParser;
 import seedu.resireg.logic.parser.ListRoomsCommandParser;
 import seedu.resireg.logic.parser.ListStudentsCommandParser;
 import seedu.resireg.logic.parser.Parser;
@@ -72,13 +80,15 @@ public enum CommandWordEnum {
     // misc
     TOGGLE_TAB_SPLIT_COMMAND(ToggleTabSplitCommand.COMMAND_WORD,
             ToggleTabSplitCommand.HELP, args -> new ToggleTabSplitCommand()),
-    HISTORY_COMMAND(HistoryCommand.COMMAND_WORD, HistoryCommand.HELP, args -> new HistoryCommand()),
+    HISTORY_COMMAND(HistoryCommand.COMMAND_WORD, HistoryCommand.HELP, new HistoryCommandParser()::parse),
     CLEAR_COMMAND(ClearCommand.COMMAND_WORD, ClearCommand.HELP, args -> new ClearCommand()),
     ARCHIVE_COMMAND(ArchiveCommand.COMMAND_WORD, ArchiveCommand.HELP, unused -> new ArchiveCommand()),
+    IMPORT_COMMAND(ImportCommand.COMMAND_WORD, ImportCommand.HELP, new ImportCommandParser()::parse),
+    EXPORT_COMMAND(ExportCommand.COMMAND_WORD, ExportCommand.HELP, new ExportCommandParser()::parse),
 
     // bin
     RESTORE_COMMAND(RestoreCommand.COMMAND_WORD, RestoreCommand.HELP, new RestoreCommandParser()::parse),
-    LIST_BIN_COMMAND(ListBinCommand.COMMAND_WORD, ListBinCommand.HELP, args -> new ListBinCommand()),
+    LIST_BIN_COMMAND(ListBinCommand.COMMAND_WORD, ListBinCommand.HELP, new ListBinCommandParser()::parse),
     SET_BIN_EXPIRY_COMMAND(SetBinExpiryCommand.COMMAND_WORD, SetBinExpiryCommand.HELP,
             new SetBinExpiryCommandParser()::parse),
 
@@ -92,7 +102,9 @@ public enum CommandWordEnum {
     // allocations
     ALLOCATE_COMMAND(AllocateCommand.COMMAND_WORD, AllocateCommand.HELP, new AllocateCommandParser()::parse),
     DEALLOCATE_COMMAND(DeallocateCommand.COMMAND_WORD, DeallocateCommand.HELP, new DeallocateCommandParser()::parse),
-    REALLOCATE_COMMAND(ReallocateCommand.COMMAND_WORD, ReallocateCommand.HELP, new ReallocateCommandParser()::parse);
+    REALLOCATE_COMMAND(ReallocateCommand.COMMAND_WORD, ReallocateCommand.HELP, new ReallocateCommandParser()::parse),
+    AUTO_ALLOCATE_COMMAND(AutoAllocateCommand.COMMAND_WORD, AutoAllocateCommand.HELP,
+            new AutoAllocateCommandParser()::parse);
 
     private String commandWord;
     private Parser<Command> commandParser;
@@ -0,0 +1,119 @@
+package seedu.resireg.logic;
+
+import static seedu.resireg.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+
+import seedu.resireg.commons.util.FileUtil;
+import seedu.resireg.storage.ExportFormat;
+import seedu.resireg.storage.TableWriter;
+
+/**
+ * Writes a snapshot of some items to a file as a table, with a row for each item.
+ *
+ * The items are copied when the job is created, and must be immutable, so the job can be run on a background
+ * thread while the model carries on changing. Each row is only made from its item as it is written, so the rows
+ * of a large export are never all in memory together.
+ *
+ * @param <T> the type of the items exported.
+ */
+public class ExportJob<T> {
+
+    /** The number of rows written between two reports of progress. */
+    public static final int PROGRESS_INTERVAL = 10000;
+
+    public static final String MESSAGE_STARTED = "Exporting %1$d %2$s to %3$s...";
+    public static final String MESSAGE_PROGRESS = "Exported %1$d of %2$d %3$s to %4$s...";
+    public static final String MESSAGE_SUCCESS = "Exported %1$d %2$s to %3$s.";
+    public static final String MESSAGE_FAILURE = "Unable to export %1$s to %2$s.";
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".part";
+
+    private final Path file;
+    private final ExportFormat format;
+    private final String itemDescription;
+    private final List<String> columns;
+    private final List<T> items;
+    private final Function<? super T, List<String>> rowMapper;
+
+    /**
+     * Creates an {@code ExportJob} which writes {@code items} to {@code file} in {@code format}.
+     *
+     * @param itemDescription what the items are, as shown to the user (e.g. "student(s)").
+     * @param rowMapper turns an item into its values for the {@code columns}.
+     */
+    public ExportJob(Path file, ExportFormat format, String itemDescription, List<String> columns,
+            List<? extends T> items, Function<? super T, List<String>> rowMapper) {
+        requireAllNonNull(file, format, itemDescription, columns, items, rowMapper);
+        this.file = file;
+        this.format = format;
+        this.itemDescription = itemDescription;
+        this.columns = columns;
+        this.items = new ArrayList<>(items);
+        this.rowMapper = rowMapper;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public int getRowCount() {
+        return items.size();
+    }
+
+    public String getStartedMessage() {
+        return String.format(MESSAGE_STARTED, items.size(), itemDescription, file);
+    }
+
+    public String getProgressMessage(int rowsWritten) {
+        return String.format(MESSAGE_PROGRESS, rowsWritten, items.size(), itemDescription, file);
+    }
+
+    public String getSuccessMessage() {
+        return String.format(MESSAGE_SUCCESS, items.size(), itemDescription, file);
+    }
+
+    public String getFailureMessage() {
+        return String.format(MESSAGE_FAILURE, itemDescription, file);
+    }
+
+    /**
+     * Writes the table, calling {@code progressListener} with the number of rows written after every
+     * {@link #PROGRESS_INTERVAL} rows.
+     * The table is written to a temporary file next to {@code file}, which only replaces {@code file} once the
+     * table is complete, so an export which fails does not leave part of a table behind.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    public void run(IntConsumer progressListener) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        FileUtil.createParentDirsOfFile(absoluteFile);
+        Path temporaryFile = Files.createTempFile(absoluteFile.getParent(), absoluteFile.getFileName().toString(),
+                TEMPORARY_FILE_SUFFIX);
+
+        try {
+            try (TableWriter writer = format.createWriter(
+                    Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8), columns)) {
+                int rowsWritten = 0;
+                for (T item : items) {
+                    writer.writeRow(rowMapper.apply(item));
+                    rowsWritten++;
+                    if (rowsWritten % PROGRESS_INTERVAL == 0) {
+                        progressListener.accept(rowsWritten);
+                    }
+                }
+            }
+            Files.move(temporaryFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+}
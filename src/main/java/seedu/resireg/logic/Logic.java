@@ -1,6 +1,7 @@
 package seedu.resireg.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.resireg.commons.core.GuiSettings;
@@ -20,6 +21,7 @@ import seedu.resireg.model.student.Student;
 public interface Logic {
     /**
      * Executes the command and returns the result.
+     * If the command changes the data, the data is saved in the background after the result is returned.
      * @param commandText The command as entered by the user.
      * @return the result of the command execution.
      * @throws CommandException If an error occurs during command execution.
@@ -27,6 +29,18 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Deletes the bin items which have been in the bin for longer than the number of days set by the user,
+     * and saves the data in the background if any were deleted.
+     */
+    void deleteExpiredBinItems();
+
+    /**
+     * Sets the listener which is given the error message when the data could not be saved.
+     * It is called on the thread which saves the data, not on the JavaFX application thread.
+     */
+    void setSaveFailureListener(Consumer<String> listener);
+
     /**
      * Returns the ResiReg.
      *
@@ -1,11 +1,11 @@
 package seedu.resireg.logic;
 
-import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -26,6 +26,7 @@ import seedu.resireg.model.bin.BinItem;
 import seedu.resireg.model.room.Room;
 import seedu.resireg.model.semester.Semester;
 import seedu.resireg.model.student.Student;
+import seedu.resireg.storage.AutosaveService;
 import seedu.resireg.storage.Storage;
 
 /**
@@ -41,15 +42,18 @@ public class LogicManager implements Logic {
 
     private final Model model;
     private final Storage storage;
+    private final AutosaveService autosaveService;
     private final CommandHistory history;
     private boolean isAltered;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which saves the changes
+     * made by commands through {@code autosaveService}.
      */
-    public LogicManager(Model model, Storage storage) {
+    public LogicManager(Model model, Storage storage, AutosaveService autosaveService) {
         this.model = model;
         this.storage = storage;
+        this.autosaveService = autosaveService;
         this.history = new CommandHistory();
 
         model.getResiReg().addListener(obs -> isAltered = true);
@@ -72,17 +76,27 @@ public class LogicManager implements Logic {
 
         if (isAltered) {
             logger.info("Modification present. Saving to file.");
-            try {
-                storage.saveResiReg(model.getResiReg());
-                storage.saveUserPrefs(model.getUserPrefs());
-            } catch (IOException ioe) {
-                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
-            }
+            autosaveService.save(model.getResiReg(), model.getUserPrefs());
         }
 
         return commandResult;
     }
 
+    @Override
+    public void deleteExpiredBinItems() {
+        int binSize = model.getResiReg().getBinItemList().size();
+        model.deleteExpiredBinItems();
+        if (model.getResiReg().getBinItemList().size() != binSize) {
+            logger.info("Expired bin items deleted. Saving to file.");
+            autosaveService.save(model.getResiReg(), model.getUserPrefs());
+        }
+    }
+
+    @Override
+    public void setSaveFailureListener(Consumer<String> listener) {
+        autosaveService.setFailureListener(ioe -> listener.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
     private void addAliases(Map<String, Parser<Command>> map, List<CommandWordAlias> aliasList) {
         for (CommandWordAlias alias : aliasList) {
             String commandWord = alias.getCommandWord().toString();
@@ -86,9 +86,11 @@ public class AllocateCommand extends Command {
         Student studentToEdit = CreateEditCopy.createCopiedStudent(studentToAllocate);
         Room roomToEdit = CreateEditCopy.createCopiedRoom(roomToAllocate);
 
-        model.setStudent(studentToAllocate, studentToEdit);
-        model.setRoom(roomToAllocate, roomToEdit);
-        model.addAllocation(toAllocate);
+        model.runInBatch(() -> {
+            model.setStudent(studentToAllocate, studentToEdit);
+            model.setRoom(roomToAllocate, roomToEdit);
+            model.addAllocation(toAllocate);
+        });
 
         model.saveStateResiReg();
 
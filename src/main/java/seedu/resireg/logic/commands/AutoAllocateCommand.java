@@ -0,0 +1,138 @@
+package seedu.resireg.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.resireg.commons.core.LogsCenter;
+import seedu.resireg.commons.exceptions.DataConversionException;
+import seedu.resireg.logic.CommandHistory;
+import seedu.resireg.logic.CreateEditCopy;
+import seedu.resireg.logic.commands.exceptions.CommandException;
+import seedu.resireg.model.Model;
+import seedu.resireg.model.ReadOnlyResiReg;
+import seedu.resireg.model.allocation.Allocation;
+import seedu.resireg.model.allocation.AllocationConstraints;
+import seedu.resireg.model.allocation.AllocationEngine;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.semester.Semester;
+import seedu.resireg.model.student.Student;
+import seedu.resireg.model.student.StudentId;
+import seedu.resireg.storage.Storage;
+
+/**
+ * Allocates all unallocated students to vacant rooms.
+ */
+public class AutoAllocateCommand extends Command {
+
+    public static final String COMMAND_WORD = "autoallocate";
+
+    public static final String COMMAND_NO_PREFERENCES_FLAG = "no-preferences";
+    public static final String COMMAND_NO_SPREADING_FLAG = "no-spreading";
+    public static final String COMMAND_NO_RETURNING_FLAG = "no-returning";
+
+    public static final Help HELP = new Help(COMMAND_WORD,
+            "Allocates all unallocated students to vacant rooms. By default, students tagged with a room type "
+                    + "(e.g. CA) are given rooms of that type where possible, students of each faculty are spread "
+                    + "across the floors, and students who had a room last semester are given the same room.",
+            "Parameters: "
+                    + "[--" + COMMAND_NO_PREFERENCES_FLAG + "] "
+                    + "[--" + COMMAND_NO_SPREADING_FLAG + "] "
+                    + "[--" + COMMAND_NO_RETURNING_FLAG + "]\n"
+                    + "Example: " + COMMAND_WORD + " --" + COMMAND_NO_SPREADING_FLAG);
+
+    public static final String MESSAGE_SUCCESS = "%1$d student(s) allocated to rooms, %2$d student(s) left "
+            + "unallocated.";
+    public static final String MESSAGE_NO_UNALLOCATED_STUDENTS = "There are no unallocated students in ResiReg.";
+    public static final String MESSAGE_NO_VACANT_ROOMS = "There are no vacant rooms in ResiReg.";
+
+    private final Logger logger = LogsCenter.getLogger(AutoAllocateCommand.class);
+
+    private final AllocationConstraints constraints;
+
+    /**
+     * Creates an AutoAllocateCommand which allocates students to rooms following {@code constraints}.
+     */
+    public AutoAllocateCommand(AllocationConstraints constraints) {
+        requireNonNull(constraints);
+        this.constraints = constraints;
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        ReadOnlyResiReg resiReg = model.getResiReg();
+        List<Student> students = resiReg.getStudentList().stream()
+                .filter(student -> !model.isAllocated(student))
+                .collect(Collectors.toList());
+        List<Room> rooms = resiReg.getRoomList().stream()
+                .filter(room -> !model.isAllocated(room))
+                .collect(Collectors.toList());
+
+        if (students.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_UNALLOCATED_STUDENTS);
+        } else if (rooms.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_VACANT_ROOMS);
+        }
+
+        Collection<Allocation> previousAllocations = constraints.keepsReturningResidents()
+                ? readPreviousAllocations(model.getSemester(), storage)
+                : Collections.emptyList();
+        List<Allocation> allocations = new AllocationEngine(constraints).allocate(students, rooms,
+                previousAllocations);
+
+        Map<StudentId, Student> studentsById = new HashMap<>();
+        students.forEach(student -> studentsById.put(student.getStudentId(), student));
+        Map<String, Room> roomsByLabel = new HashMap<>();
+        rooms.forEach(room -> roomsByLabel.put(room.getRoomLabel(), room));
+
+        // applied as a single batch, which is undone and saved as one change
+        model.runInBatch(() -> {
+            for (Allocation allocation : allocations) {
+                Student student = studentsById.get(allocation.getStudentId());
+                Room room = roomsByLabel.get(allocation.getRoomLabel());
+                model.setStudent(student, CreateEditCopy.createCopiedStudent(student));
+                model.setRoom(room, CreateEditCopy.createCopiedRoom(room));
+                model.addAllocation(allocation);
+            }
+        });
+        model.saveStateResiReg();
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, allocations.size(),
+                students.size() - allocations.size()));
+    }
+
+    /**
+     * Returns the allocations archived for the semester before {@code semester}, or none if they cannot be read.
+     */
+    private Collection<Allocation> readPreviousAllocations(Semester semester, Storage storage) {
+        if (!semester.hasPreviousSemester()) {
+            return Collections.emptyList();
+        }
+
+        try {
+            Optional<ReadOnlyResiReg> previousResiReg = storage.readArchivedResiReg(semester.getPreviousSemester());
+            return previousResiReg.<Collection<Allocation>>map(ReadOnlyResiReg::getAllocationList)
+                    .orElse(Collections.emptyList());
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Unable to read the previous semester's allocations, so returning residents are "
+                    + "allocated as new students: " + e);
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AutoAllocateCommand // instanceof handles nulls
+                && constraints.equals(((AutoAllocateCommand) other).constraints));
+    }
+}
@@ -50,9 +50,11 @@ public class DeleteCommand extends Command {
                 studentToDelete.getNameAsString()));
         }
 
-        model.deleteStudent(studentToDelete);
         BinItem studentBinItem = new BinItem(studentToDelete);
-        model.addBinItem(studentBinItem);
+        model.runInBatch(() -> {
+            model.deleteStudent(studentToDelete);
+            model.addBinItem(studentBinItem);
+        });
         model.saveStateResiReg();
         return new CommandResult(String.format(MESSAGE_DELETE_STUDENT_SUCCESS, studentToDelete.getNameAsString()));
     }
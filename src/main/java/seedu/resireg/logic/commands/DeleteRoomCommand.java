@@ -49,9 +49,11 @@ public class DeleteRoomCommand extends Command {
             throw new CommandException(MESSAGE_ROOM_ALLOCATION_EXISTS);
         }
 
-        model.deleteRoom(toDelete);
         BinItem binItem = new BinItem(toDelete);
-        model.addBinItem(binItem);
+        model.runInBatch(() -> {
+            model.deleteRoom(toDelete);
+            model.addBinItem(binItem);
+        });
         model.saveStateResiReg();
         return new CommandResult(String.format(MESSAGE_DELETE_ROOM_SUCCESS, toDelete.toString()));
     }
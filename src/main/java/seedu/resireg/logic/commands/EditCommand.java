@@ -86,19 +86,21 @@ public class EditCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_STUDENT);
         }
 
-        if (model.isAllocated(studentToEdit)) {
-            for (Allocation allocation : lastShownAllocationList) {
-                if (allocation.isRelatedTo(studentToEdit)) {
-                    Allocation editedAllocation = new Allocation(allocation.getFloor(),
-                            allocation.getRoomNumber(),
-                            editedStudent.getStudentId());
-                    model.setAllocation(allocation, editedAllocation);
-                    // model.updateFilteredAllocationList(PREDICATE_SHOW_ALL_ALLOCATIONS);
+        model.runInBatch(() -> {
+            if (model.isAllocated(studentToEdit)) {
+                for (Allocation allocation : lastShownAllocationList) {
+                    if (allocation.isRelatedTo(studentToEdit)) {
+                        Allocation editedAllocation = new Allocation(allocation.getFloor(),
+                                allocation.getRoomNumber(),
+                                editedStudent.getStudentId());
+                        model.setAllocation(allocation, editedAllocation);
+                        // model.updateFilteredAllocationList(PREDICATE_SHOW_ALL_ALLOCATIONS);
+                    }
                 }
             }
-        }
 
-        model.setStudent(studentToEdit, editedStudent);
+            model.setStudent(studentToEdit, editedStudent);
+        });
         model.saveStateResiReg();
         return new CommandResult(String.format(MESSAGE_EDIT_STUDENT_SUCCESS, editedStudent.getNameAsString()));
     }
@@ -78,19 +78,21 @@ public class EditRoomCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_ROOM);
         }
 
-        if (model.isAllocated(roomToEdit)) {
-            for (Allocation allocation : lastShownAllocationList) {
-                if (allocation.isRelatedTo(roomToEdit)) {
-                    Allocation editedAllocation = new Allocation(editedRoom.getFloor(),
-                            editedRoom.getRoomNumber(),
-                            allocation.getStudentId());
-                    model.setAllocation(allocation, editedAllocation);
-                    // model.updateFilteredAllocationList(PREDICATE_SHOW_ALL_ALLOCATIONS);
+        model.runInBatch(() -> {
+            if (model.isAllocated(roomToEdit)) {
+                for (Allocation allocation : lastShownAllocationList) {
+                    if (allocation.isRelatedTo(roomToEdit)) {
+                        Allocation editedAllocation = new Allocation(editedRoom.getFloor(),
+                                editedRoom.getRoomNumber(),
+                                allocation.getStudentId());
+                        model.setAllocation(allocation, editedAllocation);
+                        // model.updateFilteredAllocationList(PREDICATE_SHOW_ALL_ALLOCATIONS);
+                    }
                 }
             }
-        }
 
-        model.setRoom(roomToEdit, editedRoom);
+            model.setRoom(roomToEdit, editedRoom);
+        });
         model.saveStateResiReg();
         return new CommandResult(String.format(MESSAGE_EDIT_ROOM_SUCCESS, editedRoom.toString()));
     }
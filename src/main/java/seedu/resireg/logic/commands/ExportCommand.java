@@ -0,0 +1,130 @@
+package seedu.resireg.logic.commands;
+
+import static seedu.resireg.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.resireg.logic.commands.ImportCommand.COLUMN_EMAIL;
+import static seedu.resireg.logic.commands.ImportCommand.COLUMN_FACULTY;
+import static seedu.resireg.logic.commands.ImportCommand.COLUMN_FLOOR;
+import static seedu.resireg.logic.commands.ImportCommand.COLUMN_NAME;
+import static seedu.resireg.logic.commands.ImportCommand.COLUMN_PHONE;
+import static seedu.resireg.logic.commands.ImportCommand.COLUMN_ROOM_NUMBER;
+import static seedu.resireg.logic.commands.ImportCommand.COLUMN_ROOM_TYPE;
+import static seedu.resireg.logic.commands.ImportCommand.COLUMN_STUDENT_ID;
+import static seedu.resireg.logic.commands.ImportCommand.COLUMN_TAGS;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.resireg.logic.CommandHistory;
+import seedu.resireg.logic.ExportJob;
+import seedu.resireg.model.Model;
+import seedu.resireg.model.allocation.Allocation;
+import seedu.resireg.model.bin.Binnable;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.student.Student;
+import seedu.resireg.model.student.StudentId;
+import seedu.resireg.model.tag.Tag;
+import seedu.resireg.storage.ExportFormat;
+import seedu.resireg.storage.Storage;
+
+/**
+ * Exports the students or rooms currently listed, together with their allocations, to a CSV or JSON file.
+ * The file is written on a background thread, so the command only takes a snapshot of the listed items.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String COMMAND_STUDENTS_FLAG = "students";
+    public static final String COMMAND_ROOMS_FLAG = "rooms";
+
+    public static final Help HELP = new Help(COMMAND_WORD,
+            "Exports the students or rooms currently listed, with their allocations, to a CSV or JSON file. "
+                    + "The format is chosen by the extension of the file, which must be .csv or .json.",
+            "Parameters: --" + COMMAND_STUDENTS_FLAG + " | --" + COMMAND_ROOMS_FLAG + " FILE_PATH\n"
+                    + "Example: " + COMMAND_WORD + " --" + COMMAND_STUDENTS_FLAG + " data/students.csv");
+
+    public static final List<String> STUDENT_COLUMNS = Collections.unmodifiableList(Arrays.asList(COLUMN_NAME,
+            COLUMN_STUDENT_ID, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_FACULTY, COLUMN_TAGS, COLUMN_FLOOR,
+            COLUMN_ROOM_NUMBER));
+    public static final List<String> ROOM_COLUMNS = Collections.unmodifiableList(Arrays.asList(COLUMN_FLOOR,
+            COLUMN_ROOM_NUMBER, COLUMN_ROOM_TYPE, COLUMN_TAGS, COLUMN_STUDENT_ID, COLUMN_NAME));
+
+    private final Class<? extends Binnable> exportedType;
+    private final Path file;
+    private final ExportFormat format;
+
+    /**
+     * Creates an ExportCommand to export the listed items of {@code exportedType}, which must be {@code Student}
+     * or {@code Room}, to {@code file} in {@code format}.
+     */
+    public ExportCommand(Class<? extends Binnable> exportedType, Path file, ExportFormat format) {
+        requireAllNonNull(exportedType, file, format);
+        assert exportedType == Student.class || exportedType == Room.class;
+        this.exportedType = exportedType;
+        this.file = file;
+        this.format = format;
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage, CommandHistory history) {
+        requireAllNonNull(model);
+        List<Allocation> allocations = model.getResiReg().getAllocationList();
+        ExportJob<?> job = exportedType == Student.class
+                ? createStudentsJob(model.getFilteredStudentList(), allocations)
+                : createRoomsJob(model.getFilteredRoomList(), allocations, model.getResiReg().getStudentList());
+        return new ExportCommandResult(job);
+    }
+
+    private ExportJob<Student> createStudentsJob(List<Student> students, List<Allocation> allocations) {
+        Map<StudentId, Allocation> allocationsByStudent = new HashMap<>();
+        allocations.forEach(allocation -> allocationsByStudent.put(allocation.getStudentId(), allocation));
+
+        return new ExportJob<>(file, format, "student(s)", STUDENT_COLUMNS, students, student -> {
+            Allocation allocation = allocationsByStudent.get(student.getStudentId());
+            return Arrays.asList(student.getNameAsString(), student.getStudentId().value,
+                    student.getPhone().value, student.getEmail().value, student.getFaculty().value,
+                    joinTags(student.getTags()),
+                    allocation == null ? "" : allocation.getFloor().value,
+                    allocation == null ? "" : allocation.getRoomNumber().value);
+        });
+    }
+
+    private ExportJob<Room> createRoomsJob(List<Room> rooms, List<Allocation> allocations,
+            List<Student> students) {
+        Map<StudentId, Student> studentsById = new HashMap<>();
+        students.forEach(student -> studentsById.put(student.getStudentId(), student));
+        Map<String, Student> studentsByRoomLabel = new HashMap<>();
+        allocations.forEach(allocation -> studentsByRoomLabel.put(allocation.getRoomLabel(),
+                studentsById.get(allocation.getStudentId())));
+
+        return new ExportJob<>(file, format, "room(s)", ROOM_COLUMNS, rooms, room -> {
+            Student student = studentsByRoomLabel.get(room.getRoomLabel());
+            return Arrays.asList(room.getFloor().value, room.getRoomNumber().value, room.getRoomType().name,
+                    joinTags(room.getTags()),
+                    student == null ? "" : student.getStudentId().value,
+                    student == null ? "" : student.getNameAsString());
+        });
+    }
+
+    /**
+     * Returns the names of {@code tags} in alphabetical order, separated by spaces.
+     */
+    private static String joinTags(Set<Tag> tags) {
+        return tags.stream().map(tag -> tag.tagName).sorted().collect(Collectors.joining(" "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && exportedType.equals(((ExportCommand) other).exportedType)
+                && file.equals(((ExportCommand) other).file)
+                && format.equals(((ExportCommand) other).format));
+    }
+}
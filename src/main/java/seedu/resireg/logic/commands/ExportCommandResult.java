@@ -0,0 +1,37 @@
+package seedu.resireg.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.resireg.logic.ExportJob;
+import seedu.resireg.ui.MainWindow;
+
+/**
+ * The result of an {@code ExportCommand}, which has the UI run the export job in the background.
+ */
+public class ExportCommandResult extends CommandResult {
+    private final ExportJob<?> job;
+
+    /**
+     * Constructs an {@code ExportCommandResult} which starts {@code job} when displayed.
+     */
+    public ExportCommandResult(ExportJob<?> job) {
+        super(requireNonNull(job).getStartedMessage());
+        this.job = job;
+    }
+
+    public ExportJob<?> getJob() {
+        return job;
+    }
+
+    @Override
+    public void displayResult(MainWindow mainWindow) {
+        mainWindow.handleExport(job);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return super.equals(other)
+                && other instanceof ExportCommandResult
+                && job == ((ExportCommandResult) other).job;
+    }
+}
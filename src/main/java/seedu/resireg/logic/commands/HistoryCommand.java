@@ -20,7 +20,9 @@ public class HistoryCommand extends Command {
 
     public static final Help HELP =
             new Help(COMMAND_WORD, "Shows all previous nonempty commands and their respective positions"
-                    + " entered in chronological order.");
+                    + " entered in chronological order.",
+                    "Use \"" + COMMAND_WORD + " " + HistoryStatsCommand.ARGUMENT + "\" to show how much undo history"
+                    + " is kept in memory and on disk.");
 
     @Override
     public CommandResult execute(Model model, Storage storage, CommandHistory history) {
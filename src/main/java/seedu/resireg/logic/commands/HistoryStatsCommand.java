@@ -0,0 +1,37 @@
+package seedu.resireg.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.resireg.logic.CommandHistory;
+import seedu.resireg.model.Model;
+import seedu.resireg.model.UndoHistoryStats;
+import seedu.resireg.storage.Storage;
+
+/**
+ * Shows how many undo/redo levels are kept in memory and on disk, and roughly how much space they take.
+ */
+public class HistoryStatsCommand extends Command {
+
+    public static final String ARGUMENT = "stats";
+
+    public static final String MESSAGE_SUCCESS = "Undo history:\n"
+            + "Levels in memory: %1$d (%2$d undo, %3$d redo)\n"
+            + "Levels on disk: %4$d\n"
+            + "Estimated size: %5$d bytes in memory, %6$d bytes on disk";
+
+    @Override
+    public CommandResult execute(Model model, Storage storage, CommandHistory history) {
+        requireNonNull(model);
+
+        UndoHistoryStats stats = model.getUndoHistoryStats();
+        return new CommandResult(String.format(MESSAGE_SUCCESS,
+                stats.getUndoLevelsInMemory() + stats.getRedoLevelsInMemory(),
+                stats.getUndoLevelsInMemory(), stats.getRedoLevelsInMemory(), stats.getLevelsOnDisk(),
+                stats.getEstimatedBytesInMemory(), stats.getBytesOnDisk()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof HistoryStatsCommand;
+    }
+}
@@ -0,0 +1,295 @@
+package seedu.resireg.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.resireg.commons.core.LogsCenter;
+import seedu.resireg.commons.exceptions.IllegalValueException;
+import seedu.resireg.commons.util.CsvUtil;
+import seedu.resireg.logic.CommandHistory;
+import seedu.resireg.logic.commands.exceptions.CommandException;
+import seedu.resireg.logic.parser.ParserUtil;
+import seedu.resireg.model.Model;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.student.Student;
+import seedu.resireg.model.tag.Tag;
+import seedu.resireg.storage.Storage;
+
+/**
+ * Imports students or rooms from a CSV file into ResiReg.
+ *
+ * The file is read one line at a time, and each valid line is added to the model as soon as it is read, so only
+ * a single line of the file is held in memory at any time. All the lines are added in one batch, so the import
+ * is saved once and undone by a single undo. Invalid lines are skipped and reported, but only the first
+ * {@link #MAX_REPORTED_LINES} of them are kept, so a file full of errors does not fill up memory either.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_STUDENT_ID = "student_id";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_FACULTY = "faculty";
+    public static final String COLUMN_FLOOR = "floor";
+    public static final String COLUMN_ROOM_NUMBER = "room_number";
+    public static final String COLUMN_ROOM_TYPE = "room_type";
+    public static final String COLUMN_TAGS = "tags";
+
+    public static final Help HELP = new Help(COMMAND_WORD,
+            "Imports students or rooms from a CSV file. The first line of the file names its columns, in any "
+                    + "order: " + COLUMN_NAME + ", " + COLUMN_STUDENT_ID + ", " + COLUMN_PHONE + ", "
+                    + COLUMN_EMAIL + ", " + COLUMN_FACULTY + " and optionally " + COLUMN_TAGS + " for students, or "
+                    + COLUMN_FLOOR + ", " + COLUMN_ROOM_NUMBER + ", " + COLUMN_ROOM_TYPE + " and optionally "
+                    + COLUMN_TAGS + " for rooms. Tags are separated by spaces.",
+            "Parameters: FILE_PATH\n"
+                    + "Example: " + COMMAND_WORD + " data/students.csv");
+
+    public static final String MESSAGE_SUCCESS = "%1$d %2$s imported, %3$d line(s) skipped.";
+    public static final String MESSAGE_SKIPPED_LINE = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_SKIPPED_LINES = "... and %1$d more line(s).";
+    public static final String MESSAGE_FILE_NOT_FOUND = "The file %1$s does not exist.";
+    public static final String MESSAGE_FILE_NOT_READ = "The file %1$s could not be read, so nothing was imported.";
+    public static final String MESSAGE_EMPTY_FILE = "The file %1$s is empty.";
+    public static final String MESSAGE_INVALID_HEADER = "The first line of the file must name the columns of "
+            + "students (" + COLUMN_NAME + ", " + COLUMN_STUDENT_ID + ", " + COLUMN_PHONE + ", " + COLUMN_EMAIL
+            + ", " + COLUMN_FACULTY + ", [" + COLUMN_TAGS + "]) or of rooms (" + COLUMN_FLOOR + ", "
+            + COLUMN_ROOM_NUMBER + ", " + COLUMN_ROOM_TYPE + ", [" + COLUMN_TAGS + "]).";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d.";
+
+    /** The number of skipped lines which are reported to the user. */
+    public static final int MAX_REPORTED_LINES = 10;
+
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path file;
+
+    /**
+     * Creates an ImportCommand to import the students or rooms in {@code file}.
+     */
+    public ImportCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        ImportSummary summary;
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new CommandException(String.format(MESSAGE_EMPTY_FILE, file));
+            }
+            RecordImporter importer = RecordImporter.forHeader(header);
+            summary = new ImportSummary(importer.recordType);
+
+            // if the file cannot be read to the end, the whole batch is rolled back
+            model.runInBatch(() -> importLines(reader, importer, model, summary));
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, file));
+        } catch (IOException e) {
+            logger.warning("Unable to read " + file + ": " + e);
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_READ, file));
+        }
+
+        if (summary.importedCount > 0) {
+            model.saveStateResiReg();
+        }
+        return new CommandResult(summary.toString());
+    }
+
+    /**
+     * Adds the record on each line of {@code reader} to {@code model}, skipping the lines which are invalid.
+     */
+    private static void importLines(BufferedReader reader, RecordImporter importer, Model model,
+            ImportSummary summary) throws IOException {
+        int lineNumber = 1; // the header is line 1
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                importer.importRecord(CsvUtil.splitLine(line), model);
+                summary.importedCount++;
+            } catch (IllegalValueException e) {
+                summary.skip(lineNumber, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && file.equals(((ImportCommand) other).file));
+    }
+
+    /**
+     * The outcome of an import, with the first few skipped lines.
+     */
+    private static class ImportSummary {
+        private final String recordType;
+        private final List<String> reportedLines = new ArrayList<>();
+        private int importedCount;
+        private int skippedCount;
+
+        ImportSummary(String recordType) {
+            this.recordType = recordType;
+        }
+
+        void skip(int lineNumber, String reason) {
+            skippedCount++;
+            if (reportedLines.size() < MAX_REPORTED_LINES) {
+                reportedLines.add(String.format(MESSAGE_SKIPPED_LINE, lineNumber, reason));
+            }
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, importedCount, recordType,
+                    skippedCount));
+            reportedLines.forEach(line -> builder.append('\n').append(line));
+            if (skippedCount > reportedLines.size()) {
+                builder.append('\n').append(String.format(MESSAGE_MORE_SKIPPED_LINES,
+                        skippedCount - reportedLines.size()));
+            }
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Turns the fields of a line into a student or room, and adds it to the model.
+     */
+    private abstract static class RecordImporter {
+        private final String recordType;
+        private final Map<String, Integer> columnIndexes;
+
+        RecordImporter(String recordType, Map<String, Integer> columnIndexes) {
+            this.recordType = recordType;
+            this.columnIndexes = columnIndexes;
+        }
+
+        /**
+         * Returns the importer for the kind of record whose columns are named by {@code header}.
+         *
+         * @throws CommandException if the columns are not those of students or of rooms.
+         */
+        static RecordImporter forHeader(String header) throws CommandException {
+            Map<String, Integer> columnIndexes = new HashMap<>();
+            try {
+                List<String> columns = CsvUtil.splitLine(header.replace(BYTE_ORDER_MARK, ""));
+                for (int i = 0; i < columns.size(); i++) {
+                    columnIndexes.put(columns.get(i).trim().toLowerCase(Locale.ROOT), i);
+                }
+                if (columnIndexes.size() < columns.size()) {
+                    throw new CommandException(MESSAGE_INVALID_HEADER);
+                }
+            } catch (IllegalValueException e) {
+                throw new CommandException(MESSAGE_INVALID_HEADER);
+            }
+
+            if (hasColumns(columnIndexes.keySet(), COLUMN_NAME, COLUMN_STUDENT_ID, COLUMN_PHONE, COLUMN_EMAIL,
+                    COLUMN_FACULTY)) {
+                return new StudentImporter(columnIndexes);
+            } else if (hasColumns(columnIndexes.keySet(), COLUMN_FLOOR, COLUMN_ROOM_NUMBER, COLUMN_ROOM_TYPE)) {
+                return new RoomImporter(columnIndexes);
+            }
+            throw new CommandException(MESSAGE_INVALID_HEADER);
+        }
+
+        /**
+         * Returns true if {@code columns} are exactly {@code requiredColumns}, with or without the tags column.
+         */
+        private static boolean hasColumns(Set<String> columns, String... requiredColumns) {
+            List<String> required = Arrays.asList(requiredColumns);
+            return columns.containsAll(required)
+                    && columns.size() == required.size() + (columns.contains(COLUMN_TAGS) ? 1 : 0);
+        }
+
+        /**
+         * Adds the student or room in {@code fields} to {@code model}.
+         *
+         * @throws IllegalValueException if the fields are invalid, or the student or room already exists.
+         */
+        void importRecord(List<String> fields, Model model) throws IllegalValueException {
+            if (fields.size() != columnIndexes.size()) {
+                throw new IllegalValueException(String.format(MESSAGE_WRONG_FIELD_COUNT, columnIndexes.size(),
+                        fields.size()));
+            }
+            addRecord(fields, model);
+        }
+
+        abstract void addRecord(List<String> fields, Model model) throws IllegalValueException;
+
+        String getField(List<String> fields, String column) {
+            return fields.get(columnIndexes.get(column));
+        }
+
+        Set<Tag> getTags(List<String> fields) throws IllegalValueException {
+            if (!columnIndexes.containsKey(COLUMN_TAGS) || getField(fields, COLUMN_TAGS).trim().isEmpty()) {
+                return Collections.emptySet();
+            }
+            return ParserUtil.parseTags(Arrays.asList(getField(fields, COLUMN_TAGS).trim().split("\\s+")));
+        }
+    }
+
+    private static class StudentImporter extends RecordImporter {
+        StudentImporter(Map<String, Integer> columnIndexes) {
+            super("student(s)", columnIndexes);
+        }
+
+        @Override
+        void addRecord(List<String> fields, Model model) throws IllegalValueException {
+            Student student = new Student(ParserUtil.parseName(getField(fields, COLUMN_NAME)),
+                    ParserUtil.parsePhone(getField(fields, COLUMN_PHONE)),
+                    ParserUtil.parseEmail(getField(fields, COLUMN_EMAIL)),
+                    ParserUtil.parseFaculty(getField(fields, COLUMN_FACULTY)),
+                    ParserUtil.parseStudentId(getField(fields, COLUMN_STUDENT_ID)),
+                    getTags(fields));
+            if (model.hasStudent(student)) {
+                throw new IllegalValueException(AddCommand.MESSAGE_DUPLICATE_STUDENT);
+            }
+            model.addStudent(student);
+        }
+    }
+
+    private static class RoomImporter extends RecordImporter {
+        RoomImporter(Map<String, Integer> columnIndexes) {
+            super("room(s)", columnIndexes);
+        }
+
+        @Override
+        void addRecord(List<String> fields, Model model) throws IllegalValueException {
+            Room room = new Room(ParserUtil.parseFloor(getField(fields, COLUMN_FLOOR)),
+                    ParserUtil.parseRoomNumber(getField(fields, COLUMN_ROOM_NUMBER)),
+                    ParserUtil.parseRoomType(getField(fields, COLUMN_ROOM_TYPE)),
+                    getTags(fields));
+            if (model.hasRoom(room)) {
+                throw new IllegalValueException(AddRoomCommand.MESSAGE_DUPLICATE_ROOM);
+            }
+            model.addRoom(room);
+        }
+    }
+}
@@ -3,25 +3,68 @@ package seedu.resireg.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.resireg.model.Model.PREDICATE_SHOW_ALL_BIN_ITEMS;
 
+import java.util.Objects;
+
 import seedu.resireg.logic.CommandHistory;
 import seedu.resireg.model.Model;
+import seedu.resireg.model.bin.Binnable;
+import seedu.resireg.model.student.Student;
 import seedu.resireg.storage.Storage;
 
 /**
- * Lists all students in ResiReg to the user.
+ * Lists all bin items in ResiReg to the user, optionally only those holding students or rooms.
  */
 public class ListBinCommand extends Command {
 
     public static final String COMMAND_WORD = "bin";
 
+    public static final String COMMAND_STUDENTS_FLAG = "students";
+    public static final String COMMAND_ROOMS_FLAG = "rooms";
+
     public static final String MESSAGE_SUCCESS = "Listed all bin items";
+    public static final String MESSAGE_STUDENTS_SUCCESS = "Listed all bin items holding students";
+    public static final String MESSAGE_ROOMS_SUCCESS = "Listed all bin items holding rooms";
+
+    public static final Help HELP = new Help(COMMAND_WORD,
+            "Lists all bin items, optionally only those holding students or rooms.",
+            "Parameters: [--" + COMMAND_STUDENTS_FLAG + " | --" + COMMAND_ROOMS_FLAG + "]\n"
+            + "Example: " + COMMAND_WORD + " --" + COMMAND_STUDENTS_FLAG);
 
-    public static final Help HELP = new Help(COMMAND_WORD, "Lists all bin items.");
+    private final Class<? extends Binnable> binnedItemType;
+
+    /**
+     * Creates a ListBinCommand to list all bin items.
+     */
+    public ListBinCommand() {
+        this.binnedItemType = null;
+    }
+
+    /**
+     * Creates a ListBinCommand to list the bin items holding items of {@code binnedItemType}.
+     */
+    public ListBinCommand(Class<? extends Binnable> binnedItemType) {
+        requireNonNull(binnedItemType);
+        this.binnedItemType = binnedItemType;
+    }
 
     @Override
     public CommandResult execute(Model model, Storage storage, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredBinItemList(PREDICATE_SHOW_ALL_BIN_ITEMS);
-        return new ToggleCommandResult(MESSAGE_SUCCESS, TabView.BIN_ITEMS);
+        if (binnedItemType == null) {
+            model.updateFilteredBinItemList(PREDICATE_SHOW_ALL_BIN_ITEMS);
+            return new ToggleCommandResult(MESSAGE_SUCCESS, TabView.BIN_ITEMS);
+        }
+
+        // each bin item is looked up in the model's partition of bin items by type, which stays in sync with the bin
+        model.updateFilteredBinItemList(model.selectBinItems(binnedItemType));
+        String message = binnedItemType == Student.class ? MESSAGE_STUDENTS_SUCCESS : MESSAGE_ROOMS_SUCCESS;
+        return new ToggleCommandResult(message, TabView.BIN_ITEMS);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListBinCommand // instanceof handles nulls
+                && Objects.equals(binnedItemType, ((ListBinCommand) other).binnedItemType));
     }
 }
@@ -13,6 +13,7 @@ import java.util.function.Predicate;
 import seedu.resireg.logic.CommandHistory;
 import seedu.resireg.model.Model;
 import seedu.resireg.model.ModelPredicate;
+import seedu.resireg.model.ModelPredicate.Dependency;
 import seedu.resireg.model.room.Floor;
 import seedu.resireg.model.room.Room;
 import seedu.resireg.model.room.RoomNumber;
@@ -140,29 +141,34 @@ public class ListRoomsCommand extends Command {
 
         /**
          * Returns predicate to use to filter rooms.
+         * Floors, room types and vacancy are looked up in the model's room index, once per version of the model.
+         * A room added to the list is tested before the model's version changes, so the predicate depends on the
+         * room list, and the list is refiltered with a new lookup once the change is done.
          */
         ModelPredicate<Room> getRoomPredicate() {
             Predicate<RoomNumber> roomNumberPredicate = getPredicateFromCollection(validRoomNumbers);
-            Predicate<Floor> floorPredicate = getPredicateFromCollection(validFloors);
-            Predicate<RoomType> roomTypePredicate = getPredicateFromCollection(validRoomTypes);
-            ModelPredicate<Room> vacancyPredicate = (room, model) -> {
-                switch (vacancyFilter) {
-                case ALL:
-                    return true;
-                case ALLOCATED:
-                    return model.isAllocated(room);
-                case VACANT:
-                    return !model.isAllocated(room);
-                default:
-                    assert false : "Unexpected type of vacancy filter in RoomFilter";
-                    return true;
+            Boolean isAllocated = vacancyFilter == VacancyFilter.ALL ? null : vacancyFilter == VacancyFilter.ALLOCATED;
+
+            ModelPredicate<Room> roomPredicate = new ModelPredicate<>() {
+                private Model selectedModel;
+                private long selectedVersion;
+                private Predicate<Room> selection;
+
+                @Override
+                public boolean test(Room room, Model model) {
+                    if (model != selectedModel || model.getVersion() != selectedVersion) {
+                        selection = model.selectRooms(validFloors, validRoomTypes, isAllocated);
+                        selectedModel = model;
+                        selectedVersion = model.getVersion();
+                    }
+                    return roomNumberPredicate.test(room.getRoomNumber()) && selection.test(room);
                 }
             };
 
-            return (room, model) -> roomNumberPredicate.test(room.getRoomNumber())
-                    && floorPredicate.test(room.getFloor())
-                    && roomTypePredicate.test(room.getRoomType())
-                    && vacancyPredicate.test(room, model);
+            // only the vacancy filter looks at other lists in the model
+            return vacancyFilter == VacancyFilter.ALL
+                    ? ModelPredicate.withDependencies(roomPredicate, Dependency.ROOMS)
+                    : ModelPredicate.withDependencies(roomPredicate, Dependency.ROOMS, Dependency.ALLOCATIONS);
         }
 
         @Override
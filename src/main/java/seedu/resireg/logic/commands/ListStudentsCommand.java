@@ -15,6 +15,7 @@ import java.util.function.Predicate;
 import seedu.resireg.logic.CommandHistory;
 import seedu.resireg.model.Model;
 import seedu.resireg.model.ModelPredicate;
+import seedu.resireg.model.ModelPredicate.Dependency;
 import seedu.resireg.model.student.Email;
 import seedu.resireg.model.student.Name;
 import seedu.resireg.model.student.Phone;
@@ -143,23 +144,46 @@ public class ListStudentsCommand extends Command {
 
         /**
          * Returns predicate to use to filter students.
+         * Names are looked up in the model's name index, once per version of the model. A student added to the
+         * list is tested before the model's version changes, so a name filter depends on the student list, and the
+         * list is refiltered with a new lookup once the change is done.
          */
         ModelPredicate<Student> getStudentPredicate() {
             // We only assume partial match on names, as it is the most common use case.
-            Predicate<Name> namePredicate = t -> validNames.isEmpty() || validNames.stream()
-                    .anyMatch(n -> t.toString().toLowerCase().contains(n.toString().toLowerCase()));
+            ModelPredicate<Student> namePredicate = new ModelPredicate<>() {
+                private Model selectedModel;
+                private long selectedVersion;
+                private Predicate<Student> selection;
+
+                @Override
+                public boolean test(Student student, Model model) {
+                    if (validNames.isEmpty()) {
+                        return true;
+                    }
+                    if (model != selectedModel || model.getVersion() != selectedVersion) {
+                        selection = model.selectStudentsByName(validNames);
+                        selectedModel = model;
+                        selectedVersion = model.getVersion();
+                    }
+                    return selection.test(student);
+                }
+            };
 
             // For the rest of the predicates, we favor an exact match.
             Predicate<Phone> phonePredicate = getPredicateFromCollection(validPhones);
             Predicate<Email> emailPredicate = getPredicateFromCollection(validEmails);
-            Predicate<Faculty> facultyPredicate = getPredicateFromCollection(validFaculties);
+            long facultyMask = Faculty.toMask(validFaculties);
+            Predicate<Faculty> facultyPredicate = faculty -> facultyMask == 0 || (faculty.getMask() & facultyMask) != 0;
             Predicate<StudentId> studentIdPredicate = getPredicateFromCollection(validStudentIds);
 
-            return (student, model) -> namePredicate.test(student.getName())
-                    && phonePredicate.test(student.getPhone())
+            ModelPredicate<Student> studentPredicate = (student, model) -> phonePredicate.test(student.getPhone())
                     && emailPredicate.test(student.getEmail())
                     && facultyPredicate.test(student.getFaculty())
-                    && studentIdPredicate.test(student.getStudentId());
+                    && studentIdPredicate.test(student.getStudentId())
+                    && namePredicate.test(student, model);
+            return validNames.isEmpty()
+                    ? ModelPredicate.withDependencies(studentPredicate)
+                    : ModelPredicate.withDependencies(studentPredicate, Dependency.STUDENTS);
         }
 
         @Override
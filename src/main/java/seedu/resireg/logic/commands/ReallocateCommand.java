@@ -88,7 +88,8 @@ public class ReallocateCommand extends Command {
             roomToReallocate.getRoomNumber(),
             studentToReallocate.getStudentId());
 
-        model.setAllocation(toReallocate, editedAllocation);
+        Allocation allocationToEdit = toReallocate;
+        model.runInBatch(() -> model.setAllocation(allocationToEdit, editedAllocation));
         model.saveStateResiReg();
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, studentToReallocate.getNameAsString(),
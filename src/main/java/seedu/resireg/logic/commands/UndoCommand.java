@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import seedu.resireg.logic.CommandHistory;
 import seedu.resireg.logic.commands.exceptions.CommandException;
 import seedu.resireg.model.Model;
+import seedu.resireg.model.exceptions.NoUndoableStateException;
 import seedu.resireg.storage.Storage;
 
 /**
@@ -26,7 +27,12 @@ public class UndoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.undoResiReg();
+        try {
+            model.undoResiReg();
+        } catch (NoUndoableStateException e) {
+            // older states could not be read back from disk
+            throw new CommandException(MESSAGE_FAILURE);
+        }
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
@@ -0,0 +1,49 @@
+package seedu.resireg.logic.parser;
+
+import static seedu.resireg.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.resireg.logic.parser.CliSyntax.PREFIX_KEYWORD;
+
+import java.util.List;
+
+import seedu.resireg.logic.commands.AutoAllocateCommand;
+import seedu.resireg.logic.parser.exceptions.ParseException;
+import seedu.resireg.model.allocation.AllocationConstraints;
+
+/**
+ * Parses input arguments and creates a new AutoAllocateCommand object.
+ */
+public class AutoAllocateCommandParser implements Parser<AutoAllocateCommand> {
+    private static final String MESSAGE_INVALID_COMMAND = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            AutoAllocateCommand.HELP.getFullMessage());
+
+    @Override
+    public AutoAllocateCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_KEYWORD);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(MESSAGE_INVALID_COMMAND);
+        }
+
+        boolean hasRoomTypePreferences = true;
+        boolean hasFacultySpreading = true;
+        boolean keepsReturningResidents = true;
+        List<String> flags = argMultimap.getAllValues(PREFIX_KEYWORD);
+        for (String flag : flags) {
+            switch (flag) {
+            case AutoAllocateCommand.COMMAND_NO_PREFERENCES_FLAG:
+                hasRoomTypePreferences = false;
+                break;
+            case AutoAllocateCommand.COMMAND_NO_SPREADING_FLAG:
+                hasFacultySpreading = false;
+                break;
+            case AutoAllocateCommand.COMMAND_NO_RETURNING_FLAG:
+                keepsReturningResidents = false;
+                break;
+            default:
+                throw new ParseException(MESSAGE_INVALID_COMMAND);
+            }
+        }
+
+        return new AutoAllocateCommand(new AllocationConstraints(hasRoomTypePreferences, hasFacultySpreading,
+                keepsReturningResidents));
+    }
+}
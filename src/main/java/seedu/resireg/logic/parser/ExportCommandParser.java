@@ -0,0 +1,63 @@
+package seedu.resireg.logic.parser;
+
+import static seedu.resireg.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.resireg.logic.parser.CliSyntax.PREFIX_KEYWORD;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import seedu.resireg.commons.util.FileUtil;
+import seedu.resireg.logic.commands.ExportCommand;
+import seedu.resireg.logic.parser.exceptions.ParseException;
+import seedu.resireg.model.bin.Binnable;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.student.Student;
+import seedu.resireg.storage.ExportFormat;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object.
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+    public static final String MESSAGE_UNSUPPORTED_FORMAT = "The file to export to must end with .csv or .json.";
+
+    private static final String MESSAGE_INVALID_COMMAND = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            ExportCommand.HELP.getFullMessage());
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_KEYWORD);
+        List<String> flags = argMultimap.getAllValues(PREFIX_KEYWORD);
+        if (!argMultimap.getPreamble().isEmpty() || flags.size() != 1) {
+            throw new ParseException(MESSAGE_INVALID_COMMAND);
+        }
+
+        // the file path is the rest of the text after the flag, and may contain spaces
+        String[] flagAndFilePath = flags.get(0).split("\\s+", 2);
+        if (flagAndFilePath.length < 2 || !FileUtil.isValidPath(flagAndFilePath[1])) {
+            throw new ParseException(MESSAGE_INVALID_COMMAND);
+        }
+
+        Class<? extends Binnable> exportedType;
+        switch (flagAndFilePath[0]) {
+        case ExportCommand.COMMAND_STUDENTS_FLAG:
+            exportedType = Student.class;
+            break;
+        case ExportCommand.COMMAND_ROOMS_FLAG:
+            exportedType = Room.class;
+            break;
+        default:
+            throw new ParseException(MESSAGE_INVALID_COMMAND);
+        }
+
+        Path file = Paths.get(flagAndFilePath[1]);
+        ExportFormat format = ExportFormat.of(file)
+                .orElseThrow(() -> new ParseException(MESSAGE_UNSUPPORTED_FORMAT));
+        return new ExportCommand(exportedType, file, format);
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.resireg.logic.parser;
+
+import static seedu.resireg.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.resireg.logic.commands.Command;
+import seedu.resireg.logic.commands.HistoryCommand;
+import seedu.resireg.logic.commands.HistoryStatsCommand;
+import seedu.resireg.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new HistoryCommand or HistoryStatsCommand object
+ */
+public class HistoryCommandParser implements Parser<Command> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the HistoryCommand
+     * and returns a HistoryCommand, or a HistoryStatsCommand if statistics are requested.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public Command parse(String args) throws ParseException {
+        String trimmedArgs = args.strip();
+        if (trimmedArgs.isEmpty()) {
+            return new HistoryCommand();
+        }
+        if (trimmedArgs.equals(HistoryStatsCommand.ARGUMENT)) {
+            return new HistoryStatsCommand();
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.HELP.getFullMessage()));
+    }
+
+}
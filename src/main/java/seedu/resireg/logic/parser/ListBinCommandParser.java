@@ -0,0 +1,43 @@
+package seedu.resireg.logic.parser;
+
+import static seedu.resireg.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.resireg.logic.parser.CliSyntax.PREFIX_KEYWORD;
+
+import java.util.List;
+
+import seedu.resireg.logic.commands.ListBinCommand;
+import seedu.resireg.logic.parser.exceptions.ParseException;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.student.Student;
+
+/**
+ * Parses input arguments and creates a new ListBinCommand object.
+ * Text other than the flags is ignored, so that typos do not get in the way of viewing the bin.
+ */
+public class ListBinCommandParser implements Parser<ListBinCommand> {
+    private static final String MESSAGE_INVALID_COMMAND = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+            ListBinCommand.HELP.getFullMessage());
+
+    @Override
+    public ListBinCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_KEYWORD);
+        List<String> flags = argMultimap.getAllValues(PREFIX_KEYWORD);
+
+        // don't allow both --students and --rooms to be given
+        if (flags.size() > 1) {
+            throw new ParseException(MESSAGE_INVALID_COMMAND);
+        }
+        if (flags.isEmpty()) {
+            return new ListBinCommand();
+        }
+
+        switch (flags.get(0)) {
+        case ListBinCommand.COMMAND_STUDENTS_FLAG:
+            return new ListBinCommand(Student.class);
+        case ListBinCommand.COMMAND_ROOMS_FLAG:
+            return new ListBinCommand(Room.class);
+        default:
+            throw new ParseException(MESSAGE_INVALID_COMMAND);
+        }
+    }
+}
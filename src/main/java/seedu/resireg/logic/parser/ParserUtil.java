@@ -88,7 +88,7 @@ public class ParserUtil {
         if (!Faculty.isValidFaculty(trimmedFaculty)) {
             throw new ParseException(Faculty.MESSAGE_CONSTRAINTS);
         }
-        return new Faculty(trimmedFaculty);
+        return Faculty.of(trimmedFaculty);
     }
 
     /**
@@ -133,7 +133,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -160,7 +160,7 @@ public class ParserUtil {
         if (!Floor.isValidFloor(trimmedFloor)) {
             throw new ParseException(Floor.MESSAGE_CONSTRAINTS);
         }
-        return new Floor(trimmedFloor);
+        return Floor.of(trimmedFloor);
     }
 
     /**
@@ -175,7 +175,7 @@ public class ParserUtil {
         if (!RoomNumber.isValidRoomNumber(trimmedRoomNumber)) {
             throw new ParseException(RoomNumber.MESSAGE_CONSTRAINTS);
         }
-        return new RoomNumber(trimmedRoomNumber);
+        return RoomNumber.of(trimmedRoomNumber);
     }
 
     /**
@@ -220,7 +220,7 @@ public class ParserUtil {
         if (!RoomType.isValidRoomType(trimmedRoomType)) {
             throw new ParseException(RoomType.MESSAGE_CONSTRAINTS);
         }
-        return new RoomType(trimmedRoomType);
+        return RoomType.of(trimmedRoomType);
     }
 
     /**
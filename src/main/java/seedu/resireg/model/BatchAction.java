@@ -0,0 +1,10 @@
+package seedu.resireg.model;
+
+/**
+ * A sequence of changes to the {@code Model} which may throw an exception of type {@code E}.
+ * @see Model#runInBatch(BatchAction)
+ */
+@FunctionalInterface
+public interface BatchAction<E extends Exception> {
+    void run() throws E;
+}
@@ -1,6 +1,7 @@
 package seedu.resireg.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -10,8 +11,11 @@ import seedu.resireg.model.alias.CommandWordAlias;
 import seedu.resireg.model.allocation.Allocation;
 import seedu.resireg.model.bin.BinItem;
 import seedu.resireg.model.bin.Binnable;
+import seedu.resireg.model.room.Floor;
 import seedu.resireg.model.room.Room;
+import seedu.resireg.model.room.roomtype.RoomType;
 import seedu.resireg.model.semester.Semester;
+import seedu.resireg.model.student.Name;
 import seedu.resireg.model.student.Student;
 
 /**
@@ -108,6 +112,11 @@ public interface Model {
      */
     ReadOnlyResiReg getResiReg();
 
+    /**
+     * Returns a number which increases every time ResiReg data is modified.
+     */
+    long getVersion();
+
     /**
      * Returns true if a student with the same identity as {@code student} exists
      * in ResiReg.
@@ -168,6 +177,12 @@ public interface Model {
      */
     void setRoom(Room target, Room editedRoom);
 
+    /**
+     * Returns a predicate which is true for students in ResiReg whose names contain any of the {@code names},
+     * ignoring case. The predicate is not updated when ResiReg is modified.
+     */
+    Predicate<Student> selectStudentsByName(Collection<Name> names);
+
     // === ALLOCATIONS ====
 
     /**
@@ -181,6 +196,14 @@ public interface Model {
      */
     boolean isAllocated(Room room);
 
+    /**
+     * Returns a predicate which is true for rooms in ResiReg which are on one of the {@code floors}, are of one of
+     * the {@code roomTypes}, and are allocated if {@code isAllocated} is true or vacant if it is false.
+     * Empty collections and a null {@code isAllocated} do not restrict the selection.
+     * The predicate is not updated when ResiReg is modified.
+     */
+    Predicate<Room> selectRooms(Collection<Floor> floors, Collection<RoomType> roomTypes, Boolean isAllocated);
+
     /**
      * Returns true if an allocation with the same identity as {@code allocation}
      * exists in ResiReg.
@@ -249,6 +272,12 @@ public interface Model {
 
     void deleteExpiredBinItems();
 
+    /**
+     * Returns a predicate which is true for bin items in ResiReg holding an item of {@code binnedItemType},
+     * which must be {@code Student} or {@code Room}. The predicate stays in sync with the bin items in ResiReg.
+     */
+    Predicate<BinItem> selectBinItems(Class<? extends Binnable> binnedItemType);
+
     // Semester
 
     /** Returns the current semester the UI*/
@@ -334,6 +363,13 @@ public interface Model {
      */
     void updateFilteredAllocationList(ModelPredicate<Allocation> predicate);
 
+    /**
+     * Runs {@code action} as a single batch of changes to ResiReg. Listeners are notified and the filtered lists
+     * are updated once, after {@code action} completes. If {@code action} throws, all of its changes are rolled
+     * back and the exception is rethrown.
+     */
+    <E extends Exception> void runInBatch(BatchAction<E> action) throws E;
+
     /**
      * Returns true if the model has previous ResiReg states to restore.
      */
@@ -358,4 +394,9 @@ public interface Model {
      * Saves the current ResiReg state for undo/redo.
      */
     void saveStateResiReg();
+
+    /**
+     * Returns statistics about the ResiReg states kept for undo/redo.
+     */
+    UndoHistoryStats getUndoHistoryStats();
 }
@@ -4,28 +4,42 @@ import static java.util.Objects.requireNonNull;
 import static seedu.resireg.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.resireg.commons.core.GuiSettings;
 import seedu.resireg.commons.core.LogsCenter;
+import seedu.resireg.model.ModelPredicate.Dependency;
 import seedu.resireg.model.alias.CommandWordAlias;
 import seedu.resireg.model.allocation.Allocation;
 import seedu.resireg.model.bin.BinItem;
 import seedu.resireg.model.bin.Binnable;
 import seedu.resireg.model.bin.exceptions.InvalidBinnedItemException;
+import seedu.resireg.model.room.Floor;
 import seedu.resireg.model.room.Room;
+import seedu.resireg.model.room.roomtype.RoomType;
 import seedu.resireg.model.semester.Semester;
+import seedu.resireg.model.student.Name;
 import seedu.resireg.model.student.Student;
+import seedu.resireg.model.student.UniqueStudentList;
 
 /**
  * Represents the in-memory model of ResiReg data.
  */
 public class ModelManager implements Model {
+    // registers with at least this many students keep them in columns, which takes less memory
+    private static final int COLUMNAR_STUDENTS_THRESHOLD = 50_000;
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final StatefulResiReg statefulResiReg;
@@ -35,6 +49,9 @@ public class ModelManager implements Model {
     private final ModelAwareFilteredList<Room> filteredRooms;
     private final ModelAwareFilteredList<Allocation> filteredAllocations;
     private final ModelAwareFilteredList<BinItem> filteredBinItems;
+    private final Set<Dependency> changedLists = EnumSet.noneOf(Dependency.class); // since the last refilter
+    // version of statefulResiReg when each list last changed
+    private final Map<Dependency, Long> lastChangedVersions = new EnumMap<>(Dependency.class);
 
     /**
      * Initializes a ModelManager with the given ResiReg data and userPrefs.
@@ -45,10 +62,22 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with ResiReg data: " + readOnlyResiReg + " and user prefs " + userPrefs);
 
-        statefulResiReg = new StatefulResiReg(readOnlyResiReg);
+        boolean isColumnar = readOnlyResiReg.getStudentList().size() >= COLUMNAR_STUDENTS_THRESHOLD;
+        statefulResiReg = isColumnar
+                ? new StatefulResiReg(readOnlyResiReg, UniqueStudentList.createColumnar())
+                : new StatefulResiReg(readOnlyResiReg);
         this.userPrefs = new UserPrefs(userPrefs);
+        statefulResiReg.setMaxUndoLevelsInMemory(this.userPrefs.getUndoLevelsInMemory());
         semester = statefulResiReg.getSemester();
-        filteredStudents = new ModelAwareFilteredList<>(statefulResiReg.getStudentList());
+
+        // changes must be tracked before the filtered lists see them, so that cached results are not reused
+        trackChanges(statefulResiReg.getStudentList(), Dependency.STUDENTS);
+        trackChanges(statefulResiReg.getRoomList(), Dependency.ROOMS);
+        trackChanges(statefulResiReg.getAllocationList(), Dependency.ALLOCATIONS);
+        trackChanges(statefulResiReg.getBinItemList(), Dependency.BIN_ITEMS);
+
+        // students kept in columns are rebuilt on every retrieval, so caching them would only keep them in memory
+        filteredStudents = new ModelAwareFilteredList<>(statefulResiReg.getStudentList(), !isColumnar);
         filteredRooms = new ModelAwareFilteredList<>(statefulResiReg.getRoomList());
         filteredAllocations = new ModelAwareFilteredList<>(statefulResiReg.getAllocationList());
         filteredBinItems = new ModelAwareFilteredList<>(statefulResiReg.getBinItemList());
@@ -64,6 +93,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        statefulResiReg.setMaxUndoLevelsInMemory(this.userPrefs.getUndoLevelsInMemory());
     }
 
     @Override
@@ -131,6 +161,7 @@ public class ModelManager implements Model {
     @Override
     public void setResiReg(ReadOnlyResiReg resiReg) {
         statefulResiReg.resetData(resiReg);
+        refilterLists();
     }
 
     @Override
@@ -138,18 +169,85 @@ public class ModelManager implements Model {
         return statefulResiReg;
     }
 
+    @Override
+    public long getVersion() {
+        return statefulResiReg.getVersion();
+    }
+
+    @Override
+    public <E extends Exception> void runInBatch(BatchAction<E> action) throws E {
+        requireNonNull(action);
+        statefulResiReg.beginBatch();
+        boolean isCompleted = false;
+        try {
+            action.run();
+            isCompleted = true;
+        } finally {
+            // errors also roll back the batch, so that the model is never left in a batch
+            if (!isCompleted) {
+                statefulResiReg.rollbackBatch();
+            }
+        }
+        statefulResiReg.commitBatch();
+        refilterLists();
+    }
+
     //=========== Utils  ================================================================================
 
     /**
-     * Refilters all the {@code ModelAwareFilteredList}s in the {@code Model} based on their current predicate.
+     * Refilters the {@code ModelAwareFilteredList}s whose predicates depend on a list of the {@code Model} which
+     * changed since the last refilter.
      * <p>This method should be called whenever the state of the model changes (eg. when the contents of any of
-     * the lists change) to ensure all the lists filter based on the current state of the model.</p>
+     * the lists change) to ensure all the lists filter based on the current state of the model.
+     * In a batch, refiltering is deferred until the batch is committed.</p>
      */
     private void refilterLists() {
-        filteredStudents.refilter();
-        filteredRooms.refilter();
-        filteredAllocations.refilter();
-        filteredBinItems.refilter();
+        if (statefulResiReg.isInBatch() || changedLists.isEmpty()) {
+            return;
+        }
+        filteredStudents.refilterIfDependsOn(changedLists);
+        filteredRooms.refilterIfDependsOn(changedLists);
+        filteredAllocations.refilterIfDependsOn(changedLists);
+        filteredBinItems.refilterIfDependsOn(changedLists);
+        changedLists.clear();
+    }
+
+    /**
+     * Records {@code dependency} as changed whenever {@code list} changes.
+     */
+    private <T> void trackChanges(ObservableList<T> list, Dependency dependency) {
+        lastChangedVersions.put(dependency, statefulResiReg.getVersion());
+        list.addListener((ListChangeListener<T>) unused -> {
+            changedLists.add(dependency);
+            lastChangedVersions.put(dependency, statefulResiReg.getVersion());
+        });
+    }
+
+    /**
+     * Returns the latest version of statefulResiReg at which any of the {@code dependencies} changed.
+     */
+    private long getLastChangedVersion(Set<Dependency> dependencies) {
+        long lastChangedVersion = Long.MIN_VALUE;
+        for (Dependency dependency : dependencies) {
+            lastChangedVersion = Math.max(lastChangedVersion, lastChangedVersions.get(dependency));
+        }
+        return lastChangedVersion;
+    }
+
+    /**
+     * Returns the number of predicate results served from the caches of the filtered lists.
+     */
+    public long getFilterCacheHits() {
+        return filteredStudents.cacheHits + filteredRooms.cacheHits
+                + filteredAllocations.cacheHits + filteredBinItems.cacheHits;
+    }
+
+    /**
+     * Returns the number of predicate results which had to be computed by the filtered lists.
+     */
+    public long getFilterCacheMisses() {
+        return filteredStudents.cacheMisses + filteredRooms.cacheMisses
+                + filteredAllocations.cacheMisses + filteredBinItems.cacheMisses;
     }
 
     //=========== Student  ================================================================================
@@ -187,6 +285,12 @@ public class ModelManager implements Model {
         refilterLists();
     }
 
+    @Override
+    public Predicate<Student> selectStudentsByName(Collection<Name> names) {
+        requireNonNull(names);
+        return statefulResiReg.selectStudentsByName(names);
+    }
+
     //=========== Room ================================================================================
     @Override
     public void setRoom(Room target, Room editedRoom) {
@@ -230,6 +334,13 @@ public class ModelManager implements Model {
         return statefulResiReg.isAllocated(room);
     }
 
+    @Override
+    public Predicate<Room> selectRooms(Collection<Floor> floors, Collection<RoomType> roomTypes,
+            Boolean isAllocated) {
+        requireAllNonNull(floors, roomTypes);
+        return statefulResiReg.selectRooms(floors, roomTypes, isAllocated);
+    }
+
     @Override
     public boolean hasAllocation(Allocation allocation) {
         requireNonNull(allocation);
@@ -312,6 +423,12 @@ public class ModelManager implements Model {
         statefulResiReg.deleteExpiredBinItems(userPrefs.getDaysStoredInBin());
     }
 
+    @Override
+    public Predicate<BinItem> selectBinItems(Class<? extends Binnable> binnedItemType) {
+        requireNonNull(binnedItemType);
+        return statefulResiReg.selectBinItems(binnedItemType);
+    }
+
     //=========== Semester =============================================================
     public Semester getSemester() {
         return semester;
@@ -440,6 +557,20 @@ public class ModelManager implements Model {
         statefulResiReg.save();
     }
 
+    @Override
+    public UndoHistoryStats getUndoHistoryStats() {
+        return statefulResiReg.getStats();
+    }
+
+    /**
+     * Sets the stack which old undo states are moved to once there are more than
+     * {@code UserPrefs#getUndoLevelsInMemory()} of them.
+     */
+    public void setSpilledStateStack(SpilledStateStack spilledStates) {
+        requireNonNull(spilledStates);
+        statefulResiReg.setSpilledStateStack(spilledStates);
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -474,31 +605,80 @@ public class ModelManager implements Model {
      * Note that this occurs even when the same {@code ModelManager} instance is used throughout the
      * application's lifetime.
      * </p>
+     *
+     * <p>
+     * The result of the predicate for each element is cached, together with the version of the model it was computed
+     * at. The cached result is reused as long as none of the lists the predicate depends on have changed since, which
+     * saves re-testing unchanged elements when a whole list is replaced, such as at the end of a batch. Results are
+     * not cached for lists which build their elements when they are retrieved, as the cache is keyed by identity.
+     * </p>
      */
     private class ModelAwareFilteredList<T> {
         private final FilteredList<T> filteredList;
+        private final ObservableList<T> sourceList;
+        private final Map<T, CachedResult> cachedResults = new IdentityHashMap<>();
+        private final boolean isCachingResults;
         private ModelPredicate<T> modelPredicate;
+        private long cacheHits;
+        private long cacheMisses;
 
         ModelAwareFilteredList(ObservableList<T> list) {
+            this(list, true);
+        }
+
+        ModelAwareFilteredList(ObservableList<T> list, boolean isCachingResults) {
             filteredList = new FilteredList<>(list);
-            setPredicate((t, model) -> true);
+            sourceList = list;
+            this.isCachingResults = isCachingResults;
+            setPredicate(unused -> true);
         }
 
         void setPredicate(ModelPredicate<T> predicate) {
             requireNonNull(predicate);
             modelPredicate = predicate;
+            cachedResults.clear();
             refilter();
         }
 
         void setPredicate(Predicate<T> predicate) {
-            setPredicate((t, model) -> predicate.test(t));
+            setPredicate(ModelPredicate.withDependencies((t, model) -> predicate.test(t)));
         }
 
         /**
          * Refilter the list in case any elements in the list or the state of the model has changed.
          */
         void refilter() {
-            filteredList.setPredicate(t -> modelPredicate.test(t, ModelManager.this));
+            // removed elements are only dropped from the cache when it grows too large
+            if (cachedResults.size() > 2 * sourceList.size()) {
+                cachedResults.clear();
+            }
+            filteredList.setPredicate(t -> test(t));
+        }
+
+        private boolean test(T element) {
+            CachedResult cachedResult = cachedResults.get(element);
+            if (cachedResult != null
+                    && cachedResult.version > getLastChangedVersion(modelPredicate.getDependencies())) {
+                cacheHits++;
+                return cachedResult.result;
+            }
+
+            cacheMisses++;
+            boolean result = modelPredicate.test(element, ModelManager.this);
+            if (isCachingResults) {
+                cachedResults.put(element, new CachedResult(result, statefulResiReg.getVersion()));
+            }
+            return result;
+        }
+
+        /**
+         * Refilters the list if its predicate depends on any of the {@code changedLists}. Otherwise, the
+         * {@code FilteredList} has already tested the elements which changed.
+         */
+        void refilterIfDependsOn(Set<Dependency> changedLists) {
+            if (!Collections.disjoint(modelPredicate.getDependencies(), changedLists)) {
+                refilter();
+            }
         }
 
         ObservableList<T> getObservableList() {
@@ -516,4 +696,17 @@ public class ModelManager implements Model {
             return filteredList.equals(((ModelAwareFilteredList<?>) obj).filteredList);
         }
     }
+
+    /**
+     * The result of a predicate, and the version of the model it was computed at.
+     */
+    private static class CachedResult {
+        private final boolean result;
+        private final long version;
+
+        CachedResult(boolean result, long version) {
+            this.result = result;
+            this.version = version;
+        }
+    }
 }
@@ -1,5 +1,10 @@
 package seedu.resireg.model;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
 /**
  * See any one of the following:
  * @see Model#updateFilteredRoomList(ModelPredicate)
@@ -9,4 +14,42 @@ package seedu.resireg.model;
 @FunctionalInterface
 public interface ModelPredicate<T> {
     boolean test(T t, Model model);
+
+    /**
+     * Returns the lists of the {@code Model} which the result of {@code test} depends on.
+     * A filtered list is only refiltered when one of these lists changes; changes to the elements being
+     * filtered are handled without refiltering. By default, a predicate is assumed to depend on every list.
+     */
+    default Set<Dependency> getDependencies() {
+        return EnumSet.allOf(Dependency.class);
+    }
+
+    /**
+     * Returns a {@code ModelPredicate} which tests elements with {@code predicate}, and declares that its result
+     * only depends on the {@code dependencies} of the {@code Model}.
+     */
+    static <T> ModelPredicate<T> withDependencies(ModelPredicate<T> predicate, Dependency... dependencies) {
+        Set<Dependency> dependencySet = EnumSet.noneOf(Dependency.class);
+        dependencySet.addAll(Arrays.asList(dependencies));
+        Set<Dependency> unmodifiableDependencies = Collections.unmodifiableSet(dependencySet);
+
+        return new ModelPredicate<>() {
+            @Override
+            public boolean test(T t, Model model) {
+                return predicate.test(t, model);
+            }
+
+            @Override
+            public Set<Dependency> getDependencies() {
+                return unmodifiableDependencies;
+            }
+        };
+    }
+
+    /**
+     * A list of the {@code Model} which a {@code ModelPredicate} can depend on.
+     */
+    enum Dependency {
+        STUDENTS, ROOMS, ALLOCATIONS, BIN_ITEMS
+    }
 }
@@ -3,6 +3,7 @@ package seedu.resireg.model;
 import java.nio.file.Path;
 import java.util.List;
 
+import seedu.resireg.commons.core.DataFileFormat;
 import seedu.resireg.commons.core.GuiSettings;
 import seedu.resireg.model.alias.CommandWordAlias;
 
@@ -17,6 +18,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getResiRegFilePath();
 
+    DataFileFormat getResiRegFileFormat();
+
     int getDaysStoredInBin();
 
+    int getUndoLevelsInMemory();
+
 }
@@ -2,9 +2,14 @@ package seedu.resireg.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
@@ -12,11 +17,18 @@ import seedu.resireg.commons.util.InvalidationListenerList;
 import seedu.resireg.model.allocation.Allocation;
 import seedu.resireg.model.allocation.UniqueAllocationList;
 import seedu.resireg.model.bin.BinItem;
+import seedu.resireg.model.bin.Binnable;
 import seedu.resireg.model.bin.UniqueBinItemList;
+import seedu.resireg.model.bin.exceptions.InvalidBinnedItemException;
+import seedu.resireg.model.room.Floor;
 import seedu.resireg.model.room.Room;
+import seedu.resireg.model.room.RoomOccupancyIndex;
 import seedu.resireg.model.room.UniqueRoomList;
+import seedu.resireg.model.room.roomtype.RoomType;
 import seedu.resireg.model.semester.Semester;
+import seedu.resireg.model.student.Name;
 import seedu.resireg.model.student.Student;
+import seedu.resireg.model.student.StudentId;
 import seedu.resireg.model.student.UniqueStudentList;
 
 /**
@@ -30,7 +42,12 @@ public class ResiReg implements ReadOnlyResiReg {
     private final UniqueRoomList rooms;
     private final UniqueAllocationList allocations;
     private final UniqueBinItemList binItems;
+    private final RoomOccupancyIndex roomIndex = new RoomOccupancyIndex();
     private final InvalidationListenerList listenerList = new InvalidationListenerList();
+    private long version = 0;
+    private int batchDepth = 0;
+    private boolean isModifiedInBatch = false;
+    private Semester semesterBeforeBatch;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -41,13 +58,22 @@ public class ResiReg implements ReadOnlyResiReg {
      */
     {
         semester = new Semester();
-        students = new UniqueStudentList();
         rooms = new UniqueRoomList();
         allocations = new UniqueAllocationList();
         binItems = new UniqueBinItemList();
     }
 
-    public ResiReg() {}
+    public ResiReg() {
+        this(new UniqueStudentList());
+    }
+
+    /**
+     * Creates an empty ResiReg which keeps its students in {@code students}, which must be empty.
+     */
+    protected ResiReg(UniqueStudentList students) {
+        assert !students.iterator().hasNext() : "The student list must be empty";
+        this.students = students;
+    }
 
     /**
      * Creates an ResiReg using the Students and Rooms in the {@code toBeCopied}
@@ -102,6 +128,7 @@ public class ResiReg implements ReadOnlyResiReg {
      */
     public void setRooms(List<Room> rooms) {
         this.rooms.setRooms(rooms);
+        reindexRooms();
         indicateModified();
     }
 
@@ -111,6 +138,7 @@ public class ResiReg implements ReadOnlyResiReg {
      */
     public void setAllocations(List<Allocation> allocations) {
         this.allocations.setAllocations(allocations);
+        reindexRooms();
         indicateModified();
     }
 
@@ -128,6 +156,11 @@ public class ResiReg implements ReadOnlyResiReg {
     public void resetData(ReadOnlyResiReg newData) {
         requireNonNull(newData);
 
+        if (newData instanceof ResiReg) {
+            copyFrom((ResiReg) newData);
+            return;
+        }
+
         setSemester(newData.getSemester());
         setStudents(newData.getStudentList());
         setRooms(newData.getRoomList());
@@ -135,6 +168,21 @@ public class ResiReg implements ReadOnlyResiReg {
         setBinItems(newData.getBinItemList());
     }
 
+    /**
+     * Resets the existing data of this {@code ResiReg} with the data in {@code trusted}.
+     * As the lists of a {@code ResiReg} are already guaranteed to be unique, they are copied over
+     * without being validated again.
+     */
+    private void copyFrom(ResiReg trusted) {
+        setSemester(trusted.getSemester());
+        students.setStudents(trusted.students);
+        rooms.setRooms(trusted.rooms);
+        allocations.setAllocations(trusted.allocations);
+        binItems.setBinItems(trusted.binItems);
+        reindexRooms();
+        indicateModified();
+    }
+
     //// student-level operations
 
     /**
@@ -190,6 +238,18 @@ public class ResiReg implements ReadOnlyResiReg {
         indicateModified();
     }
 
+    /**
+     * Returns a predicate which is true for students in ResiReg whose names contain any of the {@code names},
+     * ignoring case. The predicate is not updated when ResiReg is modified.
+     */
+    public Predicate<Student> selectStudentsByName(Collection<Name> names) {
+        Set<StudentId> selectedStudentIds = new HashSet<>();
+        for (Name name : names) {
+            selectedStudentIds.addAll(students.findNamesContaining(name.toString()));
+        }
+        return student -> selectedStudentIds.contains(student.getStudentId());
+    }
+
     /**
      * Returns true if an allocation relating to {@code student} exists in ResiReg.
      */
@@ -206,6 +266,16 @@ public class ResiReg implements ReadOnlyResiReg {
         return allocations.hasRoom(room);
     }
 
+    /**
+     * Returns a predicate which is true for rooms in ResiReg which are on one of the {@code floors}, are of one of
+     * the {@code roomTypes}, and are allocated if {@code isAllocated} is true or vacant if it is false.
+     * Empty collections and a null {@code isAllocated} do not restrict the selection.
+     * The predicate is not updated when ResiReg is modified.
+     */
+    public Predicate<Room> selectRooms(Collection<Floor> floors, Collection<RoomType> roomTypes, Boolean isAllocated) {
+        return roomIndex.select(floors, roomTypes, isAllocated);
+    }
+
     //// room-level operations
 
     /**
@@ -214,6 +284,7 @@ public class ResiReg implements ReadOnlyResiReg {
      */
     public void addRoom(Room r) {
         rooms.add(r);
+        roomIndex.add(r, allocations.hasRoom(r));
         indicateModified();
     }
 
@@ -234,6 +305,8 @@ public class ResiReg implements ReadOnlyResiReg {
     public void setRoom(Room target, Room editedRoom) {
         requireNonNull(editedRoom);
         rooms.setRoom(target, editedRoom);
+        roomIndex.remove(target);
+        roomIndex.add(editedRoom, allocations.hasRoom(editedRoom));
         indicateModified();
     }
 
@@ -243,6 +316,7 @@ public class ResiReg implements ReadOnlyResiReg {
      */
     public void removeRoom(Room key) {
         rooms.remove(key);
+        roomIndex.remove(key);
         indicateModified();
     }
 
@@ -286,14 +360,23 @@ public class ResiReg implements ReadOnlyResiReg {
      */
     public void deleteExpiredBinItems(int daysStoredInBin) {
         assert daysStoredInBin > 0 : "Days Stored in bin should be a positive integer";
-        List<BinItem> toRemove = new ArrayList<>();
-        for (BinItem binItem : binItems) {
-            if (binItem.isExpired(daysStoredInBin)) {
-                toRemove.add(binItem);
-            }
-        }
+        // an item is expired once it was deleted before the earliest date an unexpired item could be deleted
+        LocalDate earliestUnexpiredDate = LocalDate.now().minusDays(daysStoredInBin);
+        binItems.removeAll(binItems.findItemsDeletedBefore(earliestUnexpiredDate));
+    }
 
-        binItems.removeAll(toRemove);
+    /**
+     * Returns a predicate which is true for bin items in ResiReg holding an item of {@code binnedItemType},
+     * which must be {@code Student} or {@code Room}. The predicate stays in sync with the bin items in ResiReg.
+     */
+    public Predicate<BinItem> selectBinItems(Class<? extends Binnable> binnedItemType) {
+        requireNonNull(binnedItemType);
+        if (binnedItemType == Student.class) {
+            return binItems::isBinnedStudent;
+        } else if (binnedItemType == Room.class) {
+            return binItems::isBinnedRoom;
+        }
+        throw new InvalidBinnedItemException();
     }
 
     //// allocation-level operations
@@ -305,6 +388,7 @@ public class ResiReg implements ReadOnlyResiReg {
     public void addAllocation(Allocation allocation) {
         requireNonNull(allocation);
         allocations.add(allocation);
+        roomIndex.setOccupied(allocation.getRoomLabel(), true);
         indicateModified();
     }
 
@@ -316,6 +400,15 @@ public class ResiReg implements ReadOnlyResiReg {
         return allocations.contains(allocation);
     }
 
+    /**
+     * Returns true if an allocation involving the same student or the same room as {@code allocation}
+     * exists in ResiReg.
+     */
+    public boolean hasConflictingAllocation(Allocation allocation) {
+        requireNonNull(allocation);
+        return allocations.conflicts(allocation);
+    }
+
     /**
      * Replaces the given allocation {@code target} in the list with {@code editedAllocation}.
      * {@code target} must exist in ResiReg.
@@ -325,6 +418,8 @@ public class ResiReg implements ReadOnlyResiReg {
     public void setAllocation(Allocation target, Allocation editedAllocation) {
         requireNonNull(editedAllocation);
         allocations.setAllocation(target, editedAllocation);
+        roomIndex.setOccupied(target.getRoomLabel(), false);
+        roomIndex.setOccupied(editedAllocation.getRoomLabel(), true);
         indicateModified();
     }
 
@@ -334,9 +429,98 @@ public class ResiReg implements ReadOnlyResiReg {
      */
     public void removeAllocation(Allocation key) {
         allocations.remove(key);
+        roomIndex.setOccupied(key.getRoomLabel(), false);
         indicateModified();
     }
 
+    //// current positions of entities, including changes in a batch
+
+    int indexOf(Student student) {
+        return students.indexOf(student);
+    }
+
+    int indexOf(Room room) {
+        return rooms.indexOf(room);
+    }
+
+    int indexOf(Allocation allocation) {
+        return allocations.indexOf(allocation);
+    }
+
+    int indexOf(BinItem binItem) {
+        return binItems.indexOf(binItem);
+    }
+
+    //// copies of the current lists, including changes in a batch
+
+    List<Student> copyStudents() {
+        return copyOf(students);
+    }
+
+    List<Room> copyRooms() {
+        return copyOf(rooms);
+    }
+
+    List<Allocation> copyAllocations() {
+        return copyOf(allocations);
+    }
+
+    List<BinItem> copyBinItems() {
+        return copyOf(binItems);
+    }
+
+    private static <T> List<T> copyOf(Iterable<T> items) {
+        List<T> copy = new ArrayList<>();
+        items.forEach(copy::add);
+        return copy;
+    }
+
+    //// positional insertions, used to reverse removals
+
+    /**
+     * Inserts {@code student} at position {@code index} of the student list.
+     * The student must not already exist in ResiReg.
+     */
+    void insertStudent(int index, Student student) {
+        students.add(index, student);
+        indicateModified();
+    }
+
+    /**
+     * Inserts {@code room} at position {@code index} of the room list.
+     * The room must not already exist in ResiReg.
+     */
+    void insertRoom(int index, Room room) {
+        rooms.add(index, room);
+        roomIndex.add(room, allocations.hasRoom(room));
+        indicateModified();
+    }
+
+    /**
+     * Inserts {@code allocation} at position {@code index} of the allocation list.
+     * The allocation must not already exist in ResiReg.
+     */
+    void insertAllocation(int index, Allocation allocation) {
+        allocations.add(index, allocation);
+        roomIndex.setOccupied(allocation.getRoomLabel(), true);
+        indicateModified();
+    }
+
+    /**
+     * Inserts {@code binItem} at position {@code index} of the bin item list.
+     * The bin item must not already exist in ResiReg.
+     */
+    void insertBinItem(int index, BinItem binItem) {
+        binItems.add(index, binItem);
+    }
+
+    /**
+     * Rebuilds the room index from the current rooms and allocations.
+     */
+    private void reindexRooms() {
+        roomIndex.reset(rooms, allocations::hasRoom);
+    }
+
     //// methods related to listeners
     public void addListener(InvalidationListener listener) {
         listenerList.addListener(listener);
@@ -346,13 +530,94 @@ public class ResiReg implements ReadOnlyResiReg {
         listenerList.removeListener(listener);
     }
 
+    /**
+     * Returns a number which increases every time this {@code ResiReg} is modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * Notifies listeners that there are modifications to resireg.
+     * In a batch, listeners are notified once when the batch is committed.
      */
     protected void indicateModified() {
+        version++;
+        if (isInBatch()) {
+            isModifiedInBatch = true;
+            return;
+        }
         listenerList.callListeners(this);
     }
 
+    //// batch operations
+
+    /**
+     * Starts a batch of changes, which ends with {@link #commitBatch()} or {@link #rollbackBatch()}.
+     * Until then, listeners are not notified, and changes to the lists are not published to the
+     * {@code ObservableList}s returned by this {@code ResiReg}. All other methods see the changes.
+     *
+     * <p>Batches may be nested, in which case the nested batch is part of the outermost batch,
+     * and changes are only committed or rolled back when the outermost batch ends.</p>
+     */
+    public void beginBatch() {
+        batchDepth++;
+        if (batchDepth > 1) {
+            return;
+        }
+
+        semesterBeforeBatch = new Semester(semester.getAcademicYear(), semester.getSemesterNumber());
+        students.beginBatch();
+        rooms.beginBatch();
+        allocations.beginBatch();
+        binItems.beginBatch();
+    }
+
+    /**
+     * Ends the current batch. If it is the outermost batch, the range of each list which changed is published,
+     * and listeners are notified once if anything was modified.
+     */
+    public void commitBatch() {
+        assert isInBatch() : "There is no batch to commit";
+        batchDepth--;
+        if (isInBatch()) {
+            return;
+        }
+
+        students.endBatch();
+        rooms.endBatch();
+        allocations.endBatch();
+        binItems.endBatch();
+        if (isModifiedInBatch) {
+            isModifiedInBatch = false;
+            indicateModified();
+        }
+    }
+
+    /**
+     * Ends the current batch. If it is the outermost batch, all changes made in the batch are discarded.
+     */
+    public void rollbackBatch() {
+        assert isInBatch() : "There is no batch to roll back";
+        if (batchDepth > 1) {
+            batchDepth--;
+            return;
+        }
+
+        setSemester(semesterBeforeBatch);
+        students.cancelBatch();
+        rooms.cancelBatch();
+        allocations.cancelBatch();
+        binItems.cancelBatch();
+        reindexRooms();
+        batchDepth = 0;
+        isModifiedInBatch = false;
+    }
+
+    public boolean isInBatch() {
+        return batchDepth > 0;
+    }
+
     //// util methods
 
     @Override
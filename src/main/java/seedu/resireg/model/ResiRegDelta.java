@@ -0,0 +1,265 @@
+package seedu.resireg.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.resireg.commons.exceptions.IllegalValueException;
+import seedu.resireg.model.allocation.Allocation;
+import seedu.resireg.model.bin.BinItem;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.semester.Semester;
+import seedu.resireg.model.student.Student;
+
+/**
+ * The changes from one version of ResiReg to another, together with the semester of the later version, which is
+ * null if the semester did not change.
+ *
+ * Each list which changed is described by the range of it which was replaced, from the first entity which differs
+ * to the last. Commands change one entity, or a run of entities added together, so the delta is usually the size
+ * of the entities changed rather than of the lists.
+ */
+public class ResiRegDelta {
+
+    public static final String MESSAGE_CHANGE_OUT_OF_RANGE = "A change is outside of its list.";
+
+    /**
+     * The lists of ResiReg, in the order they must be added to a ResiReg.
+     */
+    public enum EntityList {
+        STUDENTS,
+        ROOMS,
+        ALLOCATIONS,
+        BIN_ITEMS;
+
+        /**
+         * Returns the list of {@code resiReg} with the entities of this kind.
+         */
+        public List<?> of(ReadOnlyResiReg resiReg) {
+            switch (this) {
+            case STUDENTS:
+                return resiReg.getStudentList();
+            case ROOMS:
+                return resiReg.getRoomList();
+            case ALLOCATIONS:
+                return resiReg.getAllocationList();
+            default:
+                return resiReg.getBinItemList();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void set(ResiReg resiReg, List<?> entities) {
+            switch (this) {
+            case STUDENTS:
+                resiReg.setStudents((List<Student>) entities);
+                break;
+            case ROOMS:
+                resiReg.setRooms((List<Room>) entities);
+                break;
+            case ALLOCATIONS:
+                resiReg.setAllocations((List<Allocation>) entities);
+                break;
+            default:
+                resiReg.setBinItems((List<BinItem>) entities);
+            }
+        }
+
+        private void remove(ResiReg resiReg, Object entity) {
+            switch (this) {
+            case STUDENTS:
+                resiReg.removeStudent((Student) entity);
+                break;
+            case ROOMS:
+                resiReg.removeRoom((Room) entity);
+                break;
+            case ALLOCATIONS:
+                resiReg.removeAllocation((Allocation) entity);
+                break;
+            default:
+                resiReg.removeBinItem((BinItem) entity);
+            }
+        }
+
+        private void insert(ResiReg resiReg, int index, Object entity) {
+            switch (this) {
+            case STUDENTS:
+                resiReg.insertStudent(index, (Student) entity);
+                break;
+            case ROOMS:
+                resiReg.insertRoom(index, (Room) entity);
+                break;
+            case ALLOCATIONS:
+                resiReg.insertAllocation(index, (Allocation) entity);
+                break;
+            default:
+                resiReg.insertBinItem(index, (BinItem) entity);
+            }
+        }
+    }
+
+    /**
+     * The replacement of {@code removedCount} entities of a list, starting at {@code from}, by {@code added}.
+     */
+    public static class ListChange {
+        private final EntityList list;
+        private final int from;
+        private final int removedCount;
+        private final List<?> added;
+
+        /**
+         * Creates the replacement of {@code removedCount} entities of {@code list}, starting at {@code from},
+         * by {@code added}.
+         */
+        public ListChange(EntityList list, int from, int removedCount, List<?> added) {
+            requireNonNull(list);
+            requireNonNull(added);
+            this.list = list;
+            this.from = from;
+            this.removedCount = removedCount;
+            this.added = added;
+        }
+
+        public EntityList getList() {
+            return list;
+        }
+
+        public int getFrom() {
+            return from;
+        }
+
+        public int getRemovedCount() {
+            return removedCount;
+        }
+
+        public List<?> getAdded() {
+            return added;
+        }
+    }
+
+    private final Semester semester;
+    private final List<ListChange> changes;
+
+    /**
+     * Creates a delta which makes {@code changes}, in order, and then sets the semester to {@code semester},
+     * unless it is null.
+     */
+    public ResiRegDelta(Semester semester, List<ListChange> changes) {
+        requireNonNull(changes);
+        this.semester = semester;
+        this.changes = changes;
+    }
+
+    /**
+     * Returns copies of the lists of {@code resiReg}, which later versions can be compared to.
+     */
+    public static Map<EntityList, List<Object>> copyLists(ReadOnlyResiReg resiReg) {
+        Map<EntityList, List<Object>> lists = new EnumMap<>(EntityList.class);
+        for (EntityList list : EntityList.values()) {
+            lists.put(list, new ArrayList<>(list.of(resiReg)));
+        }
+        return lists;
+    }
+
+    /**
+     * Returns the changes which turn the lists in {@code before}, as returned by {@link #copyLists}, into the
+     * lists of {@code after}.
+     */
+    public static ResiRegDelta between(Map<EntityList, List<Object>> before, ReadOnlyResiReg after) {
+        List<ListChange> changes = new ArrayList<>();
+        for (EntityList list : EntityList.values()) {
+            List<?> oldList = before.get(list);
+            List<?> newList = list.of(after);
+
+            int prefix = 0;
+            int maxPrefix = Math.min(oldList.size(), newList.size());
+            while (prefix < maxPrefix && Objects.equals(oldList.get(prefix), newList.get(prefix))) {
+                prefix++;
+            }
+            int suffix = 0;
+            int maxSuffix = maxPrefix - prefix;
+            while (suffix < maxSuffix && Objects.equals(oldList.get(oldList.size() - 1 - suffix),
+                    newList.get(newList.size() - 1 - suffix))) {
+                suffix++;
+            }
+
+            int removedCount = oldList.size() - prefix - suffix;
+            List<?> added = new ArrayList<>(newList.subList(prefix, newList.size() - suffix));
+            if (removedCount > 0 || !added.isEmpty()) {
+                changes.add(new ListChange(list, prefix, removedCount, added));
+            }
+        }
+        Semester semester = after.getSemester();
+        return new ResiRegDelta(new Semester(semester.getAcademicYear(), semester.getSemesterNumber()), changes);
+    }
+
+    /**
+     * Returns the semester after the changes, or null if the changes leave the semester as it is.
+     */
+    public Semester getSemester() {
+        return semester;
+    }
+
+    public List<ListChange> getChanges() {
+        return Collections.unmodifiableList(changes);
+    }
+
+    /**
+     * Applies the changes to {@code lists}.
+     *
+     * @throws IllegalValueException if a change is outside of its list.
+     */
+    public void applyTo(Map<EntityList, List<Object>> lists) throws IllegalValueException {
+        for (ListChange change : changes) {
+            List<Object> list = lists.get(change.list);
+            if (change.from < 0 || change.removedCount < 0 || change.from + change.removedCount > list.size()) {
+                throw new IllegalValueException(MESSAGE_CHANGE_OUT_OF_RANGE);
+            }
+            List<Object> replaced = list.subList(change.from, change.from + change.removedCount);
+            replaced.clear();
+            replaced.addAll(change.added);
+        }
+    }
+
+    /**
+     * Applies the changes to {@code resiReg}, which must not be in a batch, and returns the delta which undoes
+     * them. A change replacing a whole list replaces it in one step, and other changes remove and insert the
+     * entities in their range one at a time.
+     */
+    ResiRegDelta applyTo(ResiReg resiReg) {
+        assert !resiReg.isInBatch() : "The lists of a ResiReg in a batch are not up to date";
+        LinkedList<ListChange> reverseChanges = new LinkedList<>();
+        for (ListChange change : changes) {
+            List<?> list = change.list.of(resiReg);
+            assert change.from >= 0 && change.removedCount >= 0
+                    && change.from + change.removedCount <= list.size() : MESSAGE_CHANGE_OUT_OF_RANGE;
+            List<?> removed = new ArrayList<>(list.subList(change.from, change.from + change.removedCount));
+
+            if (change.from == 0 && change.removedCount == list.size()) {
+                change.list.set(resiReg, change.added);
+            } else {
+                for (int i = removed.size() - 1; i >= 0; i--) {
+                    change.list.remove(resiReg, removed.get(i));
+                }
+                for (int i = 0; i < change.added.size(); i++) {
+                    change.list.insert(resiReg, change.from + i, change.added.get(i));
+                }
+            }
+            reverseChanges.addFirst(new ListChange(change.list, change.from, change.added.size(), removed));
+        }
+
+        Semester reverseSemester = null;
+        if (semester != null) {
+            Semester current = resiReg.getSemester();
+            reverseSemester = new Semester(current.getAcademicYear(), current.getSemesterNumber());
+            resiReg.setSemester(semester);
+        }
+        return new ResiRegDelta(reverseSemester, reverseChanges);
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.resireg.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.resireg.model.allocation.Allocation;
+import seedu.resireg.model.bin.BinItem;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.semester.Semester;
+import seedu.resireg.model.student.Student;
+
+/**
+ * An unmodifiable copy of a {@code ReadOnlyResiReg}, which can be read from another thread while the original
+ * keeps changing.
+ *
+ * As entities are immutable, the snapshot only copies the lists of references to them, which is much cheaper
+ * than copying into a {@code ResiReg}, which would index every entity again.
+ */
+public class ResiRegSnapshot implements ReadOnlyResiReg {
+
+    private final Semester semester;
+    private final ObservableList<Student> students;
+    private final ObservableList<Room> rooms;
+    private final ObservableList<Allocation> allocations;
+    private final ObservableList<BinItem> binItems;
+
+    /**
+     * Creates a snapshot of the current contents of {@code toBeCopied}.
+     */
+    public ResiRegSnapshot(ReadOnlyResiReg toBeCopied) {
+        requireNonNull(toBeCopied);
+        // the semester of a ResiReg is changed in place, so it is copied
+        Semester currentSemester = toBeCopied.getSemester();
+        semester = new Semester(currentSemester.getAcademicYear(), currentSemester.getSemesterNumber());
+        students = copyOf(toBeCopied.getStudentList());
+        rooms = copyOf(toBeCopied.getRoomList());
+        allocations = copyOf(toBeCopied.getAllocationList());
+        binItems = copyOf(toBeCopied.getBinItemList());
+    }
+
+    private static <T> ObservableList<T> copyOf(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(list));
+    }
+
+    @Override
+    public Semester getSemester() {
+        return semester;
+    }
+
+    @Override
+    public String getSemesterString() {
+        return semester.getShortRepresentation();
+    }
+
+    @Override
+    public ObservableList<Student> getStudentList() {
+        return students;
+    }
+
+    @Override
+    public ObservableList<Room> getRoomList() {
+        return rooms;
+    }
+
+    @Override
+    public ObservableList<Allocation> getAllocationList() {
+        return allocations;
+    }
+
+    @Override
+    public ObservableList<BinItem> getBinItemList() {
+        return binItems;
+    }
+
+    /**
+     * Does nothing, as a snapshot never changes.
+     */
+    @Override
+    public void addListener(InvalidationListener listener) {
+    }
+
+    /**
+     * Does nothing, as a snapshot never changes.
+     */
+    @Override
+    public void removeListener(InvalidationListener listener) {
+    }
+}
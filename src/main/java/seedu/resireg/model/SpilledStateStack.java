@@ -0,0 +1,40 @@
+package seedu.resireg.model;
+
+import java.io.IOException;
+
+import seedu.resireg.commons.exceptions.DataConversionException;
+
+/**
+ * A last-in-first-out stack of ResiReg undo levels which are kept outside of memory.
+ * {@code StatefulResiReg} uses it to page out its oldest undo levels, each as the {@code ResiRegDelta} which
+ * undoes it. A stack may drop its oldest levels to keep within a limit on the space it uses.
+ */
+public interface SpilledStateStack {
+
+    /**
+     * Saves {@code level} on top of the stack.
+     */
+    void push(ResiRegDelta level) throws IOException;
+
+    /**
+     * Removes the level on top of the stack and returns it.
+     *
+     * @throws java.util.NoSuchElementException if the stack is empty.
+     */
+    ResiRegDelta pop() throws IOException, DataConversionException;
+
+    /**
+     * Returns the number of levels in the stack.
+     */
+    int size();
+
+    /**
+     * Returns the number of bytes used to store the levels in the stack.
+     */
+    long getSizeInBytes();
+
+    /**
+     * Removes all levels from the stack.
+     */
+    void clear();
+}
@@ -1,10 +1,27 @@
 package seedu.resireg.model;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
 
+import seedu.resireg.commons.core.LogsCenter;
+import seedu.resireg.commons.exceptions.DataConversionException;
+import seedu.resireg.commons.util.StringUtil;
+import seedu.resireg.model.ResiRegDelta.EntityList;
+import seedu.resireg.model.ResiRegDelta.ListChange;
+import seedu.resireg.model.allocation.Allocation;
+import seedu.resireg.model.bin.BinItem;
 import seedu.resireg.model.exceptions.NoRedoableStateException;
 import seedu.resireg.model.exceptions.NoUndoableStateException;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.semester.Semester;
+import seedu.resireg.model.student.Student;
+import seedu.resireg.model.student.UniqueStudentList;
 
 /*
  * Code for StatefulResiReg is adapted from addressbook-level4, which can be found at
@@ -12,39 +29,88 @@ import seedu.resireg.model.exceptions.NoUndoableStateException;
  */
 /**
  * {@code ResiReg} that keeps track of its own history.
+ *
+ * <p>Instead of copying the whole {@code ResiReg} on every save, each mutation is recorded as an {@code Edit}
+ * which refers to the (immutable) entities it changed. The edits made since the last save are grouped together,
+ * and each group forms one level of the undo or redo history. As entities are shared with the current state,
+ * the cost of a save is proportional to the number of entities changed by the command.</p>
+ *
+ * <p>At most {@code maxUndoLevelsInMemory} undo levels are kept in memory. Older levels are moved to a
+ * {@code SpilledStateStack} as the {@code ResiRegDelta} which undoes them, built from the positions each edit
+ * recorded, and paged back in one at a time when they are undone. If no {@code SpilledStateStack} is set, older
+ * levels are discarded.</p>
  */
 public class StatefulResiReg extends ResiReg {
+    private static final Logger logger = LogsCenter.getLogger(StatefulResiReg.class);
 
-    private final LinkedList<ReadOnlyResiReg> redoStatesStack;
-    private final LinkedList<ReadOnlyResiReg> undoStatesStack;
-    private ReadOnlyResiReg currState; // current state
+    private final LinkedList<List<Edit>> redoStatesStack;
+    private final LinkedList<List<Edit>> undoStatesStack;
+    private List<Edit> pendingEdits; // edits made since the last save
+    private int pendingEditsBeforeBatch;
+    private boolean isRecording;
+
+    private int maxUndoLevelsInMemory = Integer.MAX_VALUE;
+    private SpilledStateStack spilledStates;
 
     /**
      * Creates a {@code StatefulResiReg} with the given {@code ReadOnlyResiReg}.
      */
     public StatefulResiReg(ReadOnlyResiReg initialState) {
-        super(initialState);
+        this(initialState, new UniqueStudentList());
+    }
+
+    /**
+     * Creates a {@code StatefulResiReg} with the given {@code ReadOnlyResiReg}, which keeps its students in
+     * {@code students}, which must be empty.
+     */
+    public StatefulResiReg(ReadOnlyResiReg initialState, UniqueStudentList students) {
+        super(students);
 
         redoStatesStack = new LinkedList<>();
         undoStatesStack = new LinkedList<>();
-        this.currState = initialState;
+        pendingEdits = new ArrayList<>();
+        isRecording = false;
+        super.resetData(initialState);
+        isRecording = true;
+    }
+
+    /**
+     * Sets the maximum number of undo levels kept in memory.
+     * The limit is applied on the next save.
+     */
+    public void setMaxUndoLevelsInMemory(int maxUndoLevelsInMemory) {
+        assert maxUndoLevelsInMemory > 0 : "At least one undo level must be kept in memory";
+        this.maxUndoLevelsInMemory = maxUndoLevelsInMemory;
+    }
+
+    /**
+     * Sets the stack which undo levels exceeding the in-memory limit are moved to.
+     * Levels already moved to the previous stack are discarded.
+     */
+    public void setSpilledStateStack(SpilledStateStack spilledStates) {
+        if (this.spilledStates != null) {
+            this.spilledStates.clear();
+        }
+        this.spilledStates = spilledStates;
     }
 
     /**
-     * Saves a copy of the current {@code ResiReg} state at the end of
+     * Saves the edits made since the last save at the end of
      * the undo stack. Undone states are removed from the redo stack.
      */
     public void save() {
+        assert !isInBatch() : "Cannot save in the middle of a batch";
         redoStatesStack.clear();
-        undoStatesStack.addLast(new ResiReg(currState));
-        currState = new ResiReg(this);
+        undoStatesStack.addLast(pendingEdits);
+        pendingEdits = new ArrayList<>();
+        spillOldestUndoLevels();
     }
 
     /**
      * Returns true if {@code undo()} has ResiReg states to undo.
      */
     public boolean canUndo() {
-        return !undoStatesStack.isEmpty();
+        return !undoStatesStack.isEmpty() || getLevelsOnDisk() > 0;
     }
 
     /**
@@ -62,11 +128,14 @@ public class StatefulResiReg extends ResiReg {
             throw new NoUndoableStateException();
         }
 
-        redoStatesStack.addLast(new ResiReg(currState));
-
-        ReadOnlyResiReg prev = undoStatesStack.pollLast();
-        resetData(prev);
-        currState = prev;
+        revertPendingEdits();
+        if (undoStatesStack.isEmpty()) {
+            undoSpilledLevel();
+            return;
+        }
+        List<Edit> edits = undoStatesStack.pollLast();
+        revert(edits);
+        redoStatesStack.addLast(edits);
     }
 
     /**
@@ -77,19 +146,340 @@ public class StatefulResiReg extends ResiReg {
             throw new NoRedoableStateException();
         }
 
-        undoStatesStack.addLast(new ResiReg(currState));
+        revertPendingEdits();
+        List<Edit> edits = redoStatesStack.pollLast();
+        withoutRecording(() -> edits.forEach(edit -> edit.apply(this)));
+        undoStatesStack.addLast(edits);
+        spillOldestUndoLevels();
+    }
+
+    /**
+     * Returns statistics about the undo and redo levels currently kept.
+     */
+    public UndoHistoryStats getStats() {
+        long estimatedBytesInMemory = 0;
+        for (List<Edit> level : undoStatesStack) {
+            estimatedBytesInMemory += estimateSize(level);
+        }
+        for (List<Edit> level : redoStatesStack) {
+            estimatedBytesInMemory += estimateSize(level);
+        }
+        long bytesOnDisk = spilledStates == null ? 0 : spilledStates.getSizeInBytes();
+        return new UndoHistoryStats(undoStatesStack.size(), redoStatesStack.size(), getLevelsOnDisk(),
+                estimatedBytesInMemory, bytesOnDisk);
+    }
+
+    private int getLevelsOnDisk() {
+        return spilledStates == null ? 0 : spilledStates.size();
+    }
+
+    private static long estimateSize(List<Edit> level) {
+        return level.stream().mapToLong(Edit::estimateSize).sum();
+    }
+
+    //// spilling of old undo levels
+
+    /**
+     * Moves the oldest undo levels out of memory until at most {@code maxUndoLevelsInMemory} are left.
+     * Each level is replaced by the delta which undoes it, so that only the entities it changed are written.
+     */
+    private void spillOldestUndoLevels() {
+        assert pendingEdits.isEmpty();
+        while (undoStatesStack.size() > maxUndoLevelsInMemory) {
+            List<Edit> oldestLevel = undoStatesStack.removeFirst();
+            if (spilledStates == null) {
+                continue;
+            }
+            try {
+                spilledStates.push(toReverseDelta(oldestLevel));
+            } catch (IOException e) {
+                // the levels on disk can no longer be reached from the levels in memory
+                logger.warning("Failed to move undo history to disk, discarding older history: "
+                        + StringUtil.getDetails(e));
+                spilledStates.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the delta which reverts the edits in {@code level}.
+     */
+    private static ResiRegDelta toReverseDelta(List<Edit> level) {
+        Semester semester = null;
+        List<ListChange> changes = new ArrayList<>();
+        for (int i = level.size() - 1; i >= 0; i--) {
+            Edit edit = level.get(i);
+            changes.addAll(edit.getReverseChanges());
+            if (edit.getSemesterBefore() != null) {
+                semester = edit.getSemesterBefore();
+            }
+        }
+        return new ResiRegDelta(semester, changes);
+    }
+
+    /**
+     * Undoes the level on top of {@code spilledStates}, which is the level before the oldest level in memory.
+     * The level becomes a redo level which applies the changes it reverted.
+     */
+    private void undoSpilledLevel() {
+        ResiRegDelta undoDelta;
+        try {
+            undoDelta = spilledStates.pop();
+        } catch (IOException | DataConversionException e) {
+            logger.warning("Failed to read undo history from disk, discarding older history: "
+                    + StringUtil.getDetails(e));
+            spilledStates.clear();
+            throw new NoUndoableStateException();
+        }
+
+        ResiRegDelta[] redoDelta = new ResiRegDelta[1];
+        withoutRecording(() -> redoDelta[0] = undoDelta.applyTo(this));
+        List<Edit> level = new ArrayList<>();
+        level.add(new Edit(null, undoDelta, redoDelta[0], -1,
+            r -> undoDelta.applyTo(r), r -> redoDelta[0].applyTo(r)));
+        redoStatesStack.addLast(level);
+    }
+
+    /**
+     * Discards the edits made since the last save, restoring ResiReg to its last saved state.
+     */
+    private void revertPendingEdits() {
+        revert(pendingEdits);
+        pendingEdits = new ArrayList<>();
+    }
+
+    private void revert(List<Edit> edits) {
+        withoutRecording(() -> revert(edits, this));
+    }
+
+    private static void revert(List<Edit> edits, ResiReg resiReg) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).revert(resiReg);
+        }
+    }
+
+    //// batch operations
+
+    @Override
+    public void beginBatch() {
+        if (!isInBatch()) {
+            pendingEditsBeforeBatch = pendingEdits.size();
+        }
+        super.beginBatch();
+    }
+
+    @Override
+    public void rollbackBatch() {
+        super.rollbackBatch();
+        if (!isInBatch()) {
+            // also drops the edit made by restoring the semester
+            pendingEdits.subList(pendingEditsBeforeBatch, pendingEdits.size()).clear();
+        }
+    }
+
+    //// recording of edits
+
+    /**
+     * Records {@code edit} as part of the current history level, unless it did not change anything.
+     */
+    private void record(Edit edit) {
+        if (isRecording && !edit.isNoOp()) {
+            pendingEdits.add(edit);
+        }
+    }
+
+    /**
+     * Runs {@code action} without recording the edits it makes. This is used when replaying edits, and when a
+     * mutation is implemented in terms of other mutations that would otherwise be recorded twice.
+     */
+    private void withoutRecording(Runnable action) {
+        boolean wasRecording = isRecording;
+        isRecording = false;
+        try {
+            action.run();
+        } finally {
+            isRecording = wasRecording;
+        }
+    }
+
+    @Override
+    public void setSemester(Semester newSemester) {
+        Semester before = new Semester(getSemester().getAcademicYear(), getSemester().getSemesterNumber());
+        Semester after = new Semester(newSemester.getAcademicYear(), newSemester.getSemesterNumber());
+        withoutRecording(() -> super.setSemester(after));
+        record(new Edit(null, before, after, -1, r -> r.setSemester(before), r -> r.setSemester(after)));
+    }
+
+    @Override
+    public void resetData(ReadOnlyResiReg newData) {
+        if (!isRecording) {
+            super.resetData(newData);
+            return;
+        }
+
+        ResiReg before = new ResiReg(this);
+        withoutRecording(() -> super.resetData(newData));
+        ResiReg after = new ResiReg(this);
+        record(new Edit(null, before, after, -1, r -> r.resetData(before), r -> r.resetData(after)));
+    }
+
+    @Override
+    public void setStudents(List<Student> students) {
+        List<Student> before = copyStudents();
+        List<Student> after = new ArrayList<>(students);
+        withoutRecording(() -> super.setStudents(after));
+        record(new Edit(EntityList.STUDENTS, before, after, 0,
+            r -> r.setStudents(before), r -> r.setStudents(after)));
+    }
+
+    @Override
+    public void setRooms(List<Room> rooms) {
+        List<Room> before = copyRooms();
+        List<Room> after = new ArrayList<>(rooms);
+        withoutRecording(() -> super.setRooms(after));
+        record(new Edit(EntityList.ROOMS, before, after, 0, r -> r.setRooms(before), r -> r.setRooms(after)));
+    }
+
+    @Override
+    public void setAllocations(List<Allocation> allocations) {
+        List<Allocation> before = copyAllocations();
+        List<Allocation> after = new ArrayList<>(allocations);
+        withoutRecording(() -> super.setAllocations(after));
+        record(new Edit(EntityList.ALLOCATIONS, before, after, 0,
+            r -> r.setAllocations(before), r -> r.setAllocations(after)));
+    }
+
+    @Override
+    public void setBinItems(List<BinItem> binItems) {
+        List<BinItem> before = copyBinItems();
+        List<BinItem> after = new ArrayList<>(binItems);
+        withoutRecording(() -> super.setBinItems(after));
+        record(new Edit(EntityList.BIN_ITEMS, before, after, 0,
+            r -> r.setBinItems(before), r -> r.setBinItems(after)));
+    }
+
+    @Override
+    public void addStudent(Student student) {
+        withoutRecording(() -> super.addStudent(student));
+        int index = indexOf(student);
+        record(new Edit(EntityList.STUDENTS, null, student, index,
+            r -> r.removeStudent(student), r -> r.insertStudent(index, student)));
+    }
+
+    @Override
+    public void addStudent(Student student, boolean isFront) {
+        withoutRecording(() -> super.addStudent(student, isFront));
+        int index = indexOf(student);
+        record(new Edit(EntityList.STUDENTS, null, student, index,
+            r -> r.removeStudent(student), r -> r.insertStudent(index, student)));
+    }
+
+    @Override
+    public void setStudent(Student target, Student editedStudent) {
+        super.setStudent(target, editedStudent);
+        record(new Edit(EntityList.STUDENTS, target, editedStudent, indexOf(editedStudent),
+            r -> r.setStudent(editedStudent, target), r -> r.setStudent(target, editedStudent)));
+    }
+
+    @Override
+    public void removeStudent(Student key) {
+        int index = indexOf(key);
+        super.removeStudent(key);
+        record(new Edit(EntityList.STUDENTS, key, null, index,
+            r -> r.insertStudent(index, key), r -> r.removeStudent(key)));
+    }
+
+    @Override
+    public void addRoom(Room room) {
+        super.addRoom(room);
+        int index = indexOf(room);
+        record(new Edit(EntityList.ROOMS, null, room, index,
+            r -> r.removeRoom(room), r -> r.insertRoom(index, room)));
+    }
+
+    @Override
+    public void setRoom(Room target, Room editedRoom) {
+        super.setRoom(target, editedRoom);
+        record(new Edit(EntityList.ROOMS, target, editedRoom, indexOf(editedRoom),
+            r -> r.setRoom(editedRoom, target), r -> r.setRoom(target, editedRoom)));
+    }
+
+    @Override
+    public void removeRoom(Room key) {
+        int index = indexOf(key);
+        super.removeRoom(key);
+        record(new Edit(EntityList.ROOMS, key, null, index,
+            r -> r.insertRoom(index, key), r -> r.removeRoom(key)));
+    }
+
+    @Override
+    public void addBinItem(BinItem binItem) {
+        super.addBinItem(binItem);
+        int index = indexOf(binItem);
+        record(new Edit(EntityList.BIN_ITEMS, null, binItem, index,
+            r -> r.removeBinItem(binItem), r -> r.insertBinItem(index, binItem)));
+    }
+
+    @Override
+    public void removeBinItem(BinItem key) {
+        int index = indexOf(key);
+        super.removeBinItem(key);
+        record(new Edit(EntityList.BIN_ITEMS, key, null, index,
+            r -> r.insertBinItem(index, key), r -> r.removeBinItem(key)));
+    }
+
+    @Override
+    public void setBinItem(BinItem target, BinItem editedItem) {
+        super.setBinItem(target, editedItem);
+        record(new Edit(EntityList.BIN_ITEMS, target, editedItem, indexOf(editedItem),
+            r -> r.setBinItem(editedItem, target), r -> r.setBinItem(target, editedItem)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The purge is not part of any command, so it is saved as its own level of the undo history, together with any
+     * edits not saved yet. Undoing a later command then leaves the expired items purged.
+     *
+     * Saving a level clears the redo history, so nothing is purged while there are undone commands which can be
+     * redone. The expired items are then purged by a later purge instead.
+     */
+    @Override
+    public void deleteExpiredBinItems(int daysStoredInBin) {
+        assert !isInBatch() : "Cannot purge the bin in the middle of a batch";
+        if (canRedo()) {
+            return;
+        }
+        List<BinItem> before = copyBinItems();
+        super.deleteExpiredBinItems(daysStoredInBin);
+        List<BinItem> after = copyBinItems();
+        if (before.size() != after.size()) {
+            record(new Edit(EntityList.BIN_ITEMS, before, after, 0,
+                r -> r.setBinItems(before), r -> r.setBinItems(after)));
+            save();
+        }
+    }
 
-        ReadOnlyResiReg prev = redoStatesStack.pollLast();
-        resetData(prev);
-        currState = prev;
+    @Override
+    public void addAllocation(Allocation allocation) {
+        super.addAllocation(allocation);
+        int index = indexOf(allocation);
+        record(new Edit(EntityList.ALLOCATIONS, null, allocation, index,
+            r -> r.removeAllocation(allocation), r -> r.insertAllocation(index, allocation)));
     }
 
-    public List<ReadOnlyResiReg> getUndoStates() {
-        return undoStatesStack;
+    @Override
+    public void setAllocation(Allocation target, Allocation editedAllocation) {
+        super.setAllocation(target, editedAllocation);
+        record(new Edit(EntityList.ALLOCATIONS, target, editedAllocation, indexOf(editedAllocation),
+            r -> r.setAllocation(editedAllocation, target), r -> r.setAllocation(target, editedAllocation)));
     }
 
-    public List<ReadOnlyResiReg> getRedoStates() {
-        return redoStatesStack;
+    @Override
+    public void removeAllocation(Allocation key) {
+        int index = indexOf(key);
+        super.removeAllocation(key);
+        record(new Edit(EntityList.ALLOCATIONS, key, null, index,
+            r -> r.insertAllocation(index, key), r -> r.removeAllocation(key)));
     }
 
     @Override
@@ -106,10 +496,123 @@ public class StatefulResiReg extends ResiReg {
 
         StatefulResiReg otherStatefulResiReg = (StatefulResiReg) other;
 
-        // state check
+        // state check; the edits making up each history level depend on how a state was reached,
+        // so only the number of levels is compared
         return super.equals(otherStatefulResiReg) // certificate for currState
-                && undoStatesStack.equals(otherStatefulResiReg.undoStatesStack)
-                && redoStatesStack.equals(otherStatefulResiReg.redoStatesStack);
+                && undoStatesStack.size() + getLevelsOnDisk()
+                        == otherStatefulResiReg.undoStatesStack.size() + otherStatefulResiReg.getLevelsOnDisk()
+                && redoStatesStack.size() == otherStatefulResiReg.redoStatesStack.size();
     }
-}
 
+    /**
+     * A reversible change made to a {@code StatefulResiReg}.
+     *
+     * <p>An edit of one entity, or of a whole list, records the {@code list} it changed and the {@code index}
+     * of the entity, or 0 for a whole list, so that it can also be reverted by position. Other edits have no
+     * {@code list}.</p>
+     */
+    private static class Edit {
+        private static final long ESTIMATED_EDIT_BYTES = 64;
+        private static final long ESTIMATED_REFERENCE_BYTES = 8;
+
+        private final EntityList list;
+        private final Object before;
+        private final Object after;
+        private final int index;
+        private final Consumer<ResiReg> revertAction;
+        private final Consumer<ResiReg> applyAction;
+
+        Edit(EntityList list, Object before, Object after, int index,
+             Consumer<ResiReg> revertAction, Consumer<ResiReg> applyAction) {
+            this.list = list;
+            this.before = before;
+            this.after = after;
+            this.index = index;
+            this.revertAction = revertAction;
+            this.applyAction = applyAction;
+        }
+
+        /**
+         * Returns true if this edit replaced a value with an equal value.
+         */
+        boolean isNoOp() {
+            if (before instanceof ResiReg && after instanceof ResiReg) {
+                // ResiReg#equals does not take the semester into account
+                return before.equals(after)
+                        && ((ResiReg) before).getSemester().equals(((ResiReg) after).getSemester());
+            }
+            return Objects.equals(before, after);
+        }
+
+        /**
+         * Returns a rough estimate of the memory used by this edit. The entities referred to are mostly shared
+         * with the current state, so only the references to them are counted.
+         */
+        long estimateSize() {
+            return ESTIMATED_EDIT_BYTES + ESTIMATED_REFERENCE_BYTES * (countEntities(before) + countEntities(after));
+        }
+
+        private static int countEntities(Object value) {
+            if (value instanceof List) {
+                return ((List<?>) value).size();
+            }
+            if (value instanceof ReadOnlyResiReg) {
+                ReadOnlyResiReg resiReg = (ReadOnlyResiReg) value;
+                return resiReg.getStudentList().size() + resiReg.getRoomList().size()
+                        + resiReg.getAllocationList().size() + resiReg.getBinItemList().size();
+            }
+            if (value instanceof ResiRegDelta) {
+                return ((ResiRegDelta) value).getChanges().stream().mapToInt(change -> change.getAdded().size())
+                        .sum();
+            }
+            return value == null ? 0 : 1;
+        }
+
+        /**
+         * Returns the changes to the lists which revert this edit, in the order they must be made.
+         */
+        List<ListChange> getReverseChanges() {
+            if (before instanceof ResiRegDelta) {
+                return ((ResiRegDelta) before).getChanges();
+            }
+            if (before instanceof ReadOnlyResiReg) {
+                List<ListChange> changes = new ArrayList<>();
+                for (EntityList entityList : EntityList.values()) {
+                    changes.add(new ListChange(entityList, 0, entityList.of((ReadOnlyResiReg) after).size(),
+                            new ArrayList<>(entityList.of((ReadOnlyResiReg) before))));
+                }
+                return changes;
+            }
+            if (list == null) {
+                return Collections.emptyList();
+            }
+            if (before instanceof List) {
+                return Collections.singletonList(new ListChange(list, 0, ((List<?>) after).size(), (List<?>) before));
+            }
+            int removedCount = after == null ? 0 : 1;
+            List<?> added = before == null ? Collections.emptyList() : Collections.singletonList(before);
+            return Collections.singletonList(new ListChange(list, index, removedCount, added));
+        }
+
+        /**
+         * Returns the semester before this edit, or null if this edit did not change the semester.
+         */
+        Semester getSemesterBefore() {
+            if (before instanceof ResiRegDelta) {
+                return ((ResiRegDelta) before).getSemester();
+            }
+            if (before instanceof ReadOnlyResiReg) {
+                return ((ReadOnlyResiReg) before).getSemester();
+            }
+            return before instanceof Semester ? (Semester) before : null;
+        }
+
+        void revert(ResiReg resiReg) {
+            revertAction.accept(resiReg);
+        }
+
+        void apply(ResiReg resiReg) {
+            applyAction.accept(resiReg);
+        }
+    }
+}
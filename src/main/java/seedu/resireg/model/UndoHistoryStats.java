@@ -0,0 +1,68 @@
+package seedu.resireg.model;
+
+import java.util.Objects;
+
+/**
+ * Summarises how much undo/redo history is kept by the model, and where it is kept.
+ */
+public class UndoHistoryStats {
+    private final int undoLevelsInMemory;
+    private final int redoLevelsInMemory;
+    private final int levelsOnDisk;
+    private final long estimatedBytesInMemory;
+    private final long bytesOnDisk;
+
+    /**
+     * Creates an {@code UndoHistoryStats} with the given values.
+     */
+    public UndoHistoryStats(int undoLevelsInMemory, int redoLevelsInMemory, int levelsOnDisk,
+                            long estimatedBytesInMemory, long bytesOnDisk) {
+        this.undoLevelsInMemory = undoLevelsInMemory;
+        this.redoLevelsInMemory = redoLevelsInMemory;
+        this.levelsOnDisk = levelsOnDisk;
+        this.estimatedBytesInMemory = estimatedBytesInMemory;
+        this.bytesOnDisk = bytesOnDisk;
+    }
+
+    public int getUndoLevelsInMemory() {
+        return undoLevelsInMemory;
+    }
+
+    public int getRedoLevelsInMemory() {
+        return redoLevelsInMemory;
+    }
+
+    public int getLevelsOnDisk() {
+        return levelsOnDisk;
+    }
+
+    public long getEstimatedBytesInMemory() {
+        return estimatedBytesInMemory;
+    }
+
+    public long getBytesOnDisk() {
+        return bytesOnDisk;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof UndoHistoryStats)) {
+            return false;
+        }
+        UndoHistoryStats otherStats = (UndoHistoryStats) other;
+        return undoLevelsInMemory == otherStats.undoLevelsInMemory
+                && redoLevelsInMemory == otherStats.redoLevelsInMemory
+                && levelsOnDisk == otherStats.levelsOnDisk
+                && estimatedBytesInMemory == otherStats.estimatedBytesInMemory
+                && bytesOnDisk == otherStats.bytesOnDisk;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(undoLevelsInMemory, redoLevelsInMemory, levelsOnDisk,
+                estimatedBytesInMemory, bytesOnDisk);
+    }
+}
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import seedu.resireg.commons.core.DataFileFormat;
 import seedu.resireg.commons.core.GuiSettings;
 import seedu.resireg.model.alias.CommandWordAlias;
 import seedu.resireg.model.alias.exceptions.DuplicateCommandWordAliasException;
@@ -17,11 +18,14 @@ import seedu.resireg.model.alias.exceptions.DuplicateCommandWordAliasException;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
     public static final int DEFAULT_DAYS_STORED_IN_BIN = 30; // 30 days as mentioned in UG
+    public static final int DEFAULT_UNDO_LEVELS_IN_MEMORY = 20;
 
     private GuiSettings guiSettings = new GuiSettings();
     private List<CommandWordAlias> commandWordAliases = new ArrayList<>();
     private Path resiRegFilePath = Paths.get("data" , "resireg.json");
+    private DataFileFormat resiRegFileFormat = DataFileFormat.JSON;
     private int daysStoredInBin = DEFAULT_DAYS_STORED_IN_BIN;
+    private int undoLevelsInMemory = DEFAULT_UNDO_LEVELS_IN_MEMORY;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -44,7 +48,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setCommandAliases(newUserPrefs.getCommandWordAliases());
         setResiRegFilePath(newUserPrefs.getResiRegFilePath());
+        setResiRegFileFormat(newUserPrefs.getResiRegFileFormat());
         setDaysStoredInBin(newUserPrefs.getDaysStoredInBin());
+        setUndoLevelsInMemory(newUserPrefs.getUndoLevelsInMemory());
     }
 
     public GuiSettings getGuiSettings() {
@@ -103,6 +109,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.resiRegFilePath = resiRegFilePath;
     }
 
+    public DataFileFormat getResiRegFileFormat() {
+        return resiRegFileFormat;
+    }
+
+    public void setResiRegFileFormat(DataFileFormat resiRegFileFormat) {
+        requireNonNull(resiRegFileFormat);
+        this.resiRegFileFormat = resiRegFileFormat;
+    }
+
 
     public int getDaysStoredInBin() {
         return daysStoredInBin;
@@ -113,6 +128,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.daysStoredInBin = daysStoredInBin;
     }
 
+    public int getUndoLevelsInMemory() {
+        return undoLevelsInMemory;
+    }
+
+    public void setUndoLevelsInMemory(int undoLevelsInMemory) {
+        assert undoLevelsInMemory > 0 : "Undo levels in memory must be positive";
+        this.undoLevelsInMemory = undoLevelsInMemory;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -127,7 +151,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return guiSettings.equals(o.guiSettings)
                 && commandWordAliases.equals(o.commandWordAliases)
                 && resiRegFilePath.equals(o.resiRegFilePath)
-                && daysStoredInBin == (o.daysStoredInBin);
+                && resiRegFileFormat == o.resiRegFileFormat
+                && daysStoredInBin == (o.daysStoredInBin)
+                && undoLevelsInMemory == o.undoLevelsInMemory;
     }
 
     @Override
@@ -141,6 +167,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("Command Aliases : " + commandWordAliases);
         sb.append("\nLocal data file location : " + resiRegFilePath);
+        sb.append("\nLocal data file format : " + resiRegFileFormat);
         return sb.toString();
     }
 
@@ -46,6 +46,13 @@ public class Allocation {
         return studentId;
     }
 
+    /**
+     * Returns the label of the allocated room, in the same format as {@code Room#getRoomLabel()}.
+     */
+    public String getRoomLabel() {
+        return getFloor() + ":" + getRoomNumber();
+    }
+
     /**
      * Returns true if the allocation is related to {@code room}.
      */
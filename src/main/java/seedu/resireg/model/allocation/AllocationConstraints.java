@@ -0,0 +1,76 @@
+package seedu.resireg.model.allocation;
+
+import java.util.Objects;
+
+/**
+ * The constraints followed when allocating students to rooms in bulk.
+ * Guarantees: immutable.
+ *
+ * <ul>
+ *     <li>Room type preferences: a student tagged with the abbreviation of a room type (e.g. {@code CA}) prefers
+ *     rooms of that type, and is only given a room of another type when there are not enough rooms.</li>
+ *     <li>Faculty spreading: students of the same faculty are spread across floors in proportion to the number of
+ *     rooms on each floor, instead of filling one floor first.</li>
+ *     <li>Returning residents: students who were allocated a room last semester get the same room again, if it is
+ *     vacant.</li>
+ * </ul>
+ */
+public class AllocationConstraints {
+
+    /** Follows every constraint. */
+    public static final AllocationConstraints ALL = new AllocationConstraints(true, true, true);
+
+    private final boolean hasRoomTypePreferences;
+    private final boolean hasFacultySpreading;
+    private final boolean keepsReturningResidents;
+
+    /**
+     * Creates constraints which follow each kind of constraint only if its flag is true.
+     */
+    public AllocationConstraints(boolean hasRoomTypePreferences, boolean hasFacultySpreading,
+            boolean keepsReturningResidents) {
+        this.hasRoomTypePreferences = hasRoomTypePreferences;
+        this.hasFacultySpreading = hasFacultySpreading;
+        this.keepsReturningResidents = keepsReturningResidents;
+    }
+
+    public boolean hasRoomTypePreferences() {
+        return hasRoomTypePreferences;
+    }
+
+    public boolean hasFacultySpreading() {
+        return hasFacultySpreading;
+    }
+
+    public boolean keepsReturningResidents() {
+        return keepsReturningResidents;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AllocationConstraints)) {
+            return false;
+        }
+
+        AllocationConstraints otherConstraints = (AllocationConstraints) other;
+        return otherConstraints.hasRoomTypePreferences == hasRoomTypePreferences
+                && otherConstraints.hasFacultySpreading == hasFacultySpreading
+                && otherConstraints.keepsReturningResidents == keepsReturningResidents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hasRoomTypePreferences, hasFacultySpreading, keepsReturningResidents);
+    }
+
+    @Override
+    public String toString() {
+        return "Room type preferences: " + hasRoomTypePreferences
+                + " Faculty spreading: " + hasFacultySpreading
+                + " Returning residents: " + keepsReturningResidents;
+    }
+}
@@ -0,0 +1,234 @@
+package seedu.resireg.model.allocation;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.resireg.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.resireg.model.room.Floor;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.room.roomtype.RoomType;
+import seedu.resireg.model.room.roomtype.RoomTypeEnum;
+import seedu.resireg.model.student.Student;
+import seedu.resireg.model.student.StudentId;
+import seedu.resireg.model.tag.Tag;
+
+/**
+ * Allocates students to rooms in bulk, following some {@code AllocationConstraints}.
+ *
+ * Returning residents are given their previous rooms first. The remaining students are then matched to the
+ * remaining rooms by a minimum cost flow. Students are not matched one by one, as that would need a network with
+ * an arc for every pair of student and room. Instead, students are grouped by faculty and preferred room types,
+ * and rooms by floor and room type, since students in a group, and rooms in a group, are interchangeable:
+ *
+ * <pre>
+ * source -> student group -> (student group, floor) -> (floor, room type) -> sink
+ * </pre>
+ *
+ * Each student group is spread across the floors in proportion to the number of rooms on each floor. Sending a
+ * student of the group to a floor beyond its share costs {@link #OVER_SHARE_COST}, and sending a student to a room
+ * type other than those preferred costs {@link #UNPREFERRED_ROOM_TYPE_COST}. As every faculty is the union of
+ * its groups, spreading each group evenly also spreads each faculty evenly. The network has a few thousand arcs
+ * however many students and rooms there are, so the flow is found quickly.
+ */
+public class AllocationEngine {
+
+    /** The cost of giving a student a room of a type other than the ones the student prefers. */
+    public static final long UNPREFERRED_ROOM_TYPE_COST = 100;
+    /** The cost of putting a student on a floor which already has its share of the student's group. */
+    public static final long OVER_SHARE_COST = 1;
+
+    private final AllocationConstraints constraints;
+
+    /**
+     * Creates an {@code AllocationEngine} which follows {@code constraints}.
+     */
+    public AllocationEngine(AllocationConstraints constraints) {
+        requireNonNull(constraints);
+        this.constraints = constraints;
+    }
+
+    /**
+     * Returns allocations of {@code students} to {@code rooms}, with as many students allocated as possible.
+     * The students and rooms must not already be allocated. If there are more students than rooms, some students
+     * are left without allocations.
+     *
+     * @param previousAllocations The allocations of the previous semester, used to keep returning residents in
+     *                            their rooms.
+     */
+    public List<Allocation> allocate(List<Student> students, List<Room> rooms,
+            Collection<Allocation> previousAllocations) {
+        requireAllNonNull(students, rooms, previousAllocations);
+        List<Allocation> allocations = new ArrayList<>();
+        List<Student> remainingStudents = new ArrayList<>(students);
+        List<Room> remainingRooms = new ArrayList<>(rooms);
+
+        if (constraints.keepsReturningResidents()) {
+            allocateReturningResidents(remainingStudents, remainingRooms, previousAllocations, allocations);
+        }
+        allocateByMinCostFlow(remainingStudents, remainingRooms, allocations);
+        return allocations;
+    }
+
+    /**
+     * Allocates students who had a room in {@code previousAllocations} to the same room if it is in {@code rooms},
+     * removing them from {@code students} and {@code rooms}.
+     */
+    private void allocateReturningResidents(List<Student> students, List<Room> rooms,
+            Collection<Allocation> previousAllocations, List<Allocation> allocations) {
+        Map<StudentId, String> previousRoomLabels = new HashMap<>();
+        for (Allocation allocation : previousAllocations) {
+            previousRoomLabels.put(allocation.getStudentId(), allocation.getRoomLabel());
+        }
+        Map<String, Room> roomsByLabel = new HashMap<>();
+        for (Room room : rooms) {
+            roomsByLabel.put(room.getRoomLabel(), room);
+        }
+
+        List<Student> newStudents = new ArrayList<>();
+        for (Student student : students) {
+            String previousRoomLabel = previousRoomLabels.get(student.getStudentId());
+            Room previousRoom = previousRoomLabel == null ? null : roomsByLabel.remove(previousRoomLabel);
+            if (previousRoom == null) {
+                newStudents.add(student);
+            } else {
+                allocations.add(createAllocation(student, previousRoom));
+            }
+        }
+
+        students.clear();
+        students.addAll(newStudents);
+        rooms.removeIf(room -> !roomsByLabel.containsKey(room.getRoomLabel()));
+    }
+
+    private void allocateByMinCostFlow(List<Student> students, List<Room> rooms, List<Allocation> allocations) {
+        if (students.isEmpty() || rooms.isEmpty()) {
+            return;
+        }
+
+        Map<StudentGroup, Deque<Student>> studentGroups = new LinkedHashMap<>();
+        for (Student student : students) {
+            studentGroups.computeIfAbsent(new StudentGroup(student), unused -> new ArrayDeque<>()).add(student);
+        }
+        Map<Floor, Map<RoomTypeEnum, Deque<Room>>> roomGroups = new LinkedHashMap<>();
+        for (Room room : rooms) {
+            roomGroups.computeIfAbsent(room.getFloor(), unused -> new LinkedHashMap<>())
+                    .computeIfAbsent(room.getRoomType().getRoomTypeEnum(), unused -> new ArrayDeque<>()).add(room);
+        }
+
+        MinCostFlow network = new MinCostFlow();
+        int source = network.addNode();
+        int sink = network.addNode();
+        Map<Floor, Map<RoomTypeEnum, Integer>> roomGroupNodes = new HashMap<>();
+        roomGroups.forEach((floor, roomsByType) -> roomsByType.forEach((roomType, groupRooms) -> {
+            int node = network.addNode();
+            network.addArc(node, sink, groupRooms.size(), 0);
+            roomGroupNodes.computeIfAbsent(floor, unused -> new HashMap<>()).put(roomType, node);
+        }));
+
+        // the arcs from each (student group, floor) to each (floor, room type), with the groups at their ends
+        List<Integer> placementArcs = new ArrayList<>();
+        List<Deque<Student>> placementStudents = new ArrayList<>();
+        List<Deque<Room>> placementRooms = new ArrayList<>();
+
+        for (Map.Entry<StudentGroup, Deque<Student>> studentGroup : studentGroups.entrySet()) {
+            int groupSize = studentGroup.getValue().size();
+            int groupNode = network.addNode();
+            network.addArc(source, groupNode, groupSize, 0);
+
+            for (Map.Entry<Floor, Map<RoomTypeEnum, Deque<Room>>> floor : roomGroups.entrySet()) {
+                int floorNode = network.addNode();
+                int floorCapacity = floor.getValue().values().stream().mapToInt(Deque::size).sum();
+                int share = constraints.hasFacultySpreading()
+                        ? getShare(groupSize, floorCapacity, rooms.size()) : groupSize;
+                network.addArc(groupNode, floorNode, share, 0);
+                network.addArc(groupNode, floorNode, groupSize - share, OVER_SHARE_COST);
+
+                floor.getValue().forEach((roomType, groupRooms) -> {
+                    long cost = studentGroup.getKey().prefers(roomType) ? 0 : UNPREFERRED_ROOM_TYPE_COST;
+                    int roomGroupNode = roomGroupNodes.get(floor.getKey()).get(roomType);
+                    placementArcs.add(network.addArc(floorNode, roomGroupNode, groupSize, cost));
+                    placementStudents.add(studentGroup.getValue());
+                    placementRooms.add(groupRooms);
+                });
+            }
+        }
+
+        network.run(source, sink);
+
+        for (int i = 0; i < placementArcs.size(); i++) {
+            int flow = network.getFlow(placementArcs.get(i));
+            for (int j = 0; j < flow; j++) {
+                allocations.add(createAllocation(placementStudents.get(i).poll(), placementRooms.get(i).poll()));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of students of a group of {@code groupSize} who should be on a floor with
+     * {@code floorCapacity} rooms, out of {@code totalCapacity} rooms, rounded up.
+     */
+    private static int getShare(int groupSize, int floorCapacity, int totalCapacity) {
+        return (int) Math.min(groupSize, ((long) groupSize * floorCapacity + totalCapacity - 1) / totalCapacity);
+    }
+
+    private static Allocation createAllocation(Student student, Room room) {
+        return new Allocation(room.getFloor(), room.getRoomNumber(), student.getStudentId());
+    }
+
+    /**
+     * The students which the allocation does not tell apart: those of the same faculty who prefer the same room
+     * types. Constraints which are not followed do not split students into groups.
+     */
+    private class StudentGroup {
+        private final Object faculty;
+        private final long preferredRoomTypes;
+
+        StudentGroup(Student student) {
+            faculty = constraints.hasFacultySpreading() ? student.getFaculty().getFacultyEnum() : null;
+            preferredRoomTypes = constraints.hasRoomTypePreferences() ? getPreferredRoomTypes(student) : 0;
+        }
+
+        /**
+         * Returns true if the students in this group prefer {@code roomType}, or have no preferences.
+         */
+        boolean prefers(RoomTypeEnum roomType) {
+            return preferredRoomTypes == 0 || (preferredRoomTypes & (1L << roomType.ordinal())) != 0;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof StudentGroup
+                    && Objects.equals(faculty, ((StudentGroup) other).faculty)
+                    && preferredRoomTypes == ((StudentGroup) other).preferredRoomTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(faculty, preferredRoomTypes);
+        }
+    }
+
+    /**
+     * Returns the mask of the room types whose abbreviations {@code student} is tagged with, ignoring case.
+     */
+    private static long getPreferredRoomTypes(Student student) {
+        long preferredRoomTypes = 0;
+        for (Tag tag : student.getTags()) {
+            String abbreviation = tag.tagName.toUpperCase();
+            if (RoomType.isValidRoomType(abbreviation)) {
+                preferredRoomTypes |= RoomType.of(abbreviation).getMask();
+            }
+        }
+        return preferredRoomTypes;
+    }
+}
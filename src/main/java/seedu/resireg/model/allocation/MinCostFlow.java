@@ -0,0 +1,131 @@
+package seedu.resireg.model.allocation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * A flow network which finds a maximum flow of minimum cost between two nodes, by successive shortest paths.
+ * Arc costs must not be negative. Shortest paths are found with Dijkstra's algorithm over costs reduced by node
+ * potentials, so the residual arcs, which have negative costs, do not need a slower shortest path algorithm.
+ */
+class MinCostFlow {
+
+    private static final long INFINITE_COST = Long.MAX_VALUE / 4;
+
+    private final List<List<Arc>> arcsFrom = new ArrayList<>();
+    private final List<Arc> addedArcs = new ArrayList<>();
+
+    /**
+     * An arc of the residual network. Every arc added has a reverse arc which starts with no capacity.
+     */
+    private static class Arc {
+        private final int to;
+        private final long cost;
+        private int capacity;
+        private Arc reverse;
+
+        private Arc(int to, int capacity, long cost) {
+            this.to = to;
+            this.capacity = capacity;
+            this.cost = cost;
+        }
+    }
+
+    /**
+     * Adds a node to the network and returns its number.
+     */
+    int addNode() {
+        arcsFrom.add(new ArrayList<>());
+        return arcsFrom.size() - 1;
+    }
+
+    /**
+     * Adds an arc from {@code from} to {@code to} and returns an id, which can be used to get the flow through it.
+     */
+    int addArc(int from, int to, int capacity, long cost) {
+        assert capacity >= 0 && cost >= 0 : "Capacity and cost must not be negative";
+        Arc arc = new Arc(to, capacity, cost);
+        Arc reverse = new Arc(from, 0, -cost);
+        arc.reverse = reverse;
+        reverse.reverse = arc;
+        arcsFrom.get(from).add(arc);
+        arcsFrom.get(to).add(reverse);
+        addedArcs.add(arc);
+        return addedArcs.size() - 1;
+    }
+
+    /**
+     * Returns the flow through the arc with the id {@code arcId}.
+     */
+    int getFlow(int arcId) {
+        return addedArcs.get(arcId).reverse.capacity;
+    }
+
+    /**
+     * Sends as much flow as possible from {@code source} to {@code sink} at the least total cost, and returns the
+     * amount of flow sent.
+     */
+    int run(int source, int sink) {
+        int nodeCount = arcsFrom.size();
+        long[] potentials = new long[nodeCount];
+        long[] distances = new long[nodeCount];
+        Arc[] arcsTaken = new Arc[nodeCount];
+        int totalFlow = 0;
+
+        while (true) {
+            findShortestPaths(source, potentials, distances, arcsTaken);
+            if (distances[sink] == INFINITE_COST) {
+                break;
+            }
+            for (int node = 0; node < nodeCount; node++) {
+                if (distances[node] < INFINITE_COST) {
+                    potentials[node] += distances[node];
+                }
+            }
+
+            int pathCapacity = Integer.MAX_VALUE;
+            for (int node = sink; node != source; node = arcsTaken[node].reverse.to) {
+                pathCapacity = Math.min(pathCapacity, arcsTaken[node].capacity);
+            }
+            for (int node = sink; node != source; node = arcsTaken[node].reverse.to) {
+                arcsTaken[node].capacity -= pathCapacity;
+                arcsTaken[node].reverse.capacity += pathCapacity;
+            }
+            totalFlow += pathCapacity;
+        }
+        return totalFlow;
+    }
+
+    /**
+     * Finds the shortest reduced distances from {@code source} over arcs with capacity left, recording in
+     * {@code arcsTaken} the last arc on the shortest path to each node.
+     */
+    private void findShortestPaths(int source, long[] potentials, long[] distances, Arc[] arcsTaken) {
+        Arrays.fill(distances, INFINITE_COST);
+        Arrays.fill(arcsTaken, null);
+        distances[source] = 0;
+        PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        queue.add(new long[] {0, source});
+
+        while (!queue.isEmpty()) {
+            long[] entry = queue.poll();
+            int node = (int) entry[1];
+            if (entry[0] > distances[node]) {
+                continue;
+            }
+            for (Arc arc : arcsFrom.get(node)) {
+                if (arc.capacity == 0) {
+                    continue;
+                }
+                long distance = distances[node] + arc.cost + potentials[node] - potentials[arc.to];
+                if (distance < distances[arc.to]) {
+                    distances[arc.to] = distance;
+                    arcsTaken[arc.to] = arc;
+                    queue.add(new long[] {distance, arc.to});
+                }
+            }
+        }
+    }
+}
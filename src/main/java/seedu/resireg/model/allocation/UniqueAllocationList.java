@@ -3,15 +3,24 @@ package seedu.resireg.model.allocation;
 import static java.util.Objects.requireNonNull;
 import static seedu.resireg.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.resireg.commons.util.PatchableObservableList;
+import seedu.resireg.commons.util.PatchedList;
 import seedu.resireg.model.allocation.exceptions.AllocationNotFoundException;
 import seedu.resireg.model.allocation.exceptions.DuplicateAllocationException;
 import seedu.resireg.model.room.Room;
 import seedu.resireg.model.student.Student;
+import seedu.resireg.model.student.StudentId;
 
 /**
  * A list of allocations that enforces uniqueness between its elements and does not allow nulls.
@@ -21,22 +30,30 @@ import seedu.resireg.model.student.Student;
  * UniqueAllocationList. However, the removal of an allocation uses Allocation#equals(Object) so as to ensure that the
  * allocation with exactly the same fields will be removed.
  *
+ * Allocations are additionally indexed by student ID and by room label, so that lookups by student or by room
+ * do not need to scan the list. The indexes are kept in sync with the backing list by every mutating operation.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Allocation#isSameAllocation(Allocation)
  */
 public class UniqueAllocationList implements Iterable<Allocation> {
 
-    private final ObservableList<Allocation> internalList = FXCollections.observableArrayList();
+    private final PatchableObservableList<Allocation> internalList = PatchableObservableList.observableArrayList();
     private final ObservableList<Allocation> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // the list seen by the other methods, which holds the unpublished changes of a batch
+    private List<Allocation> workingList = internalList;
+    private boolean isBatching = false;
+    private final Map<StudentId, Allocation> studentIndex = new HashMap<>();
+    private final Map<String, Allocation> roomIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent allocation as the given argument.
      */
     public boolean contains(Allocation toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return toCheck.equals(studentIndex.get(toCheck.getStudentId()));
     }
 
     /**
@@ -44,32 +61,24 @@ public class UniqueAllocationList implements Iterable<Allocation> {
      */
     public boolean conflicts(Allocation toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAllocation);
+        return studentIndex.containsKey(toCheck.getStudentId())
+                || roomIndex.containsKey(toCheck.getRoomLabel());
     }
 
     /**
      * Returns true if the allocation list contains the {@code student} identifier.
      */
     public boolean hasStudent(Student student) {
-        for (Allocation allocation : internalList) {
-            if (allocation.getStudentId().equals(student.getStudentId())) {
-                return true;
-            }
-        }
-        return false;
+        requireNonNull(student);
+        return studentIndex.containsKey(student.getStudentId());
     }
 
     /**
      * Returns true if the allocation list contains the {@code room} identifier.
      */
     public boolean hasRoom(Room room) {
-        for (Allocation allocation : internalList) {
-            if (allocation.getFloor().equals(room.getFloor())
-                    && allocation.getRoomNumber().equals(room.getRoomNumber())) {
-                return true;
-            }
-        }
-        return false;
+        requireNonNull(room);
+        return roomIndex.containsKey(room.getRoomLabel());
     }
 
     /**
@@ -78,11 +87,20 @@ public class UniqueAllocationList implements Iterable<Allocation> {
      * i.e. the room and student must not have already been allocated.
      */
     public void add(Allocation toAdd) {
+        add(workingList.size(), toAdd);
+    }
+
+    /**
+     * Adds a allocation to the list at a given index.
+     * The room and student must not have already been allocated.
+     */
+    public void add(int index, Allocation toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (conflicts(toAdd)) {
             throw new DuplicateAllocationException();
         }
-        internalList.add(toAdd);
+        index(toAdd);
+        modifiableList().add(index, toAdd);
     }
 
     /**
@@ -94,16 +112,18 @@ public class UniqueAllocationList implements Iterable<Allocation> {
     public void setAllocation(Allocation target, Allocation editedAllocation) {
         requireAllNonNull(target, editedAllocation);
 
-        int index = internalList.indexOf(target);
+        int index = workingList.indexOf(target);
         if (index == -1) {
             throw new AllocationNotFoundException();
         }
 
-        if (!target.equals(editedAllocation) && contains(editedAllocation)) {
+        if (!target.equals(editedAllocation) && conflictsWithOtherThan(target, editedAllocation)) {
             throw new DuplicateAllocationException();
         }
 
-        internalList.set(index, editedAllocation);
+        unindex(target);
+        index(editedAllocation);
+        modifiableList().set(index, editedAllocation);
     }
 
     /**
@@ -112,14 +132,20 @@ public class UniqueAllocationList implements Iterable<Allocation> {
      */
     public void remove(Allocation toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!contains(toRemove)) {
             throw new AllocationNotFoundException();
         }
+        unindex(toRemove);
+        modifiableList().remove(toRemove);
     }
 
     public void setAllocations(UniqueAllocationList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        studentIndex.clear();
+        studentIndex.putAll(replacement.studentIndex);
+        roomIndex.clear();
+        roomIndex.putAll(replacement.roomIndex);
+        replaceAll(replacement.workingList);
     }
 
     /**
@@ -128,10 +154,49 @@ public class UniqueAllocationList implements Iterable<Allocation> {
      */
     public void setAllocations(List<Allocation> allocations) {
         requireAllNonNull(allocations);
-        if (!allocationsAreUnique(allocations)) {
-            throw new DuplicateAllocationException();
+        Optional<Allocation> duplicate = findFirstDuplicate(allocations);
+        if (duplicate.isPresent()) {
+            throw new DuplicateAllocationException(duplicate.get());
+        }
+        studentIndex.clear();
+        roomIndex.clear();
+        allocations.forEach(this::index);
+        replaceAll(allocations);
+    }
+
+    /**
+     * Starts a batch of changes. Until {@link #endBatch()} is called, changes are seen by the other methods of
+     * this list but are not published to the list returned by {@link #asUnmodifiableObservableList()}.
+     */
+    public void beginBatch() {
+        isBatching = true;
+    }
+
+    /**
+     * Ends the current batch of changes, publishing only the range of the list which they changed.
+     */
+    public void endBatch() {
+        if (workingList instanceof PatchedList) {
+            PatchedList<Allocation> changes = (PatchedList<Allocation>) workingList;
+            changes.publish();
+        } else if (workingList != internalList) {
+            internalList.setAll(workingList);
+        }
+        workingList = internalList;
+        isBatching = false;
+    }
+
+    /**
+     * Ends the current batch of changes, discarding them.
+     */
+    public void cancelBatch() {
+        if (workingList != internalList) {
+            workingList = internalList;
+            studentIndex.clear();
+            roomIndex.clear();
+            internalList.forEach(this::index);
         }
-        internalList.setAll(allocations);
+        isBatching = false;
     }
 
     /**
@@ -141,34 +206,84 @@ public class UniqueAllocationList implements Iterable<Allocation> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the position of the allocation equal to {@code allocation} in the list, or -1 if there is none.
+     */
+    public int indexOf(Allocation allocation) {
+        return workingList.indexOf(allocation);
+    }
+
     @Override
     public Iterator<Allocation> iterator() {
-        return internalList.iterator();
+        return workingList.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueAllocationList // instanceof handles nulls
-                && internalList.equals(((UniqueAllocationList) other).internalList));
+                && workingList.equals(((UniqueAllocationList) other).workingList));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return workingList.hashCode();
     }
 
     /**
-     * Returns true if {@code allocations} contains only unique allocations.
+     * Returns true if {@code toCheck} conflicts with an allocation in the list other than {@code target}.
      */
-    private boolean allocationsAreUnique(List<Allocation> allocations) {
-        for (int i = 0; i < allocations.size() - 1; i++) {
-            for (int j = i + 1; j < allocations.size(); j++) {
-                if (allocations.get(i).equals(allocations.get(j))) {
-                    return false;
-                }
+    private boolean conflictsWithOtherThan(Allocation target, Allocation toCheck) {
+        Allocation sameStudent = studentIndex.get(toCheck.getStudentId());
+        Allocation sameRoom = roomIndex.get(toCheck.getRoomLabel());
+        return (sameStudent != null && !sameStudent.equals(target))
+                || (sameRoom != null && !sameRoom.equals(target));
+    }
+
+    private void index(Allocation allocation) {
+        studentIndex.put(allocation.getStudentId(), allocation);
+        roomIndex.put(allocation.getRoomLabel(), allocation);
+    }
+
+    private void unindex(Allocation allocation) {
+        studentIndex.remove(allocation.getStudentId());
+        roomIndex.remove(allocation.getRoomLabel());
+    }
+
+    /**
+     * Returns the first allocation in {@code allocations} sharing a student or a room with an earlier allocation,
+     * or an empty {@code Optional} if {@code allocations} contains only unique allocations.
+     */
+    private Optional<Allocation> findFirstDuplicate(List<Allocation> allocations) {
+        Set<StudentId> seenStudentIds = new HashSet<>();
+        Set<String> seenRoomLabels = new HashSet<>();
+        for (Allocation allocation : allocations) {
+            if (!seenStudentIds.add(allocation.getStudentId()) || !seenRoomLabels.add(allocation.getRoomLabel())) {
+                return Optional.of(allocation);
             }
         }
-        return true;
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the list to make changes to. In a batch, changes are kept apart from the backing list until the
+     * batch ends.
+     */
+    private List<Allocation> modifiableList() {
+        if (isBatching && workingList == internalList) {
+            workingList = new PatchedList<>(internalList);
+        }
+        return workingList;
+    }
+
+    /**
+     * Replaces the contents of the list with {@code allocations}.
+     */
+    private void replaceAll(List<Allocation> allocations) {
+        if (isBatching) {
+            workingList = new ArrayList<>(allocations);
+        } else {
+            internalList.setAll(allocations);
+        }
     }
 }
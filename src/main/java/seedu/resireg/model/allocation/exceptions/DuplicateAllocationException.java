@@ -1,11 +1,20 @@
 package seedu.resireg.model.allocation.exceptions;
 
+import seedu.resireg.model.allocation.Allocation;
+
 /**
  * Signals that the operation will result in duplicate allocations (Allocations are considered duplicates if they have
- * the same data fields).
+ * the same student or the same room).
  */
 public class DuplicateAllocationException extends RuntimeException {
     public DuplicateAllocationException() {
         super("Operation would result in duplicate allocations");
     }
+
+    /**
+     * Creates an exception reporting {@code duplicate} as the first duplicate found.
+     */
+    public DuplicateAllocationException(Allocation duplicate) {
+        super("Operation would result in duplicate allocations: " + duplicate);
+    }
 }
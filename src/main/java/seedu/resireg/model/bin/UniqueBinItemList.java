@@ -3,13 +3,29 @@ package seedu.resireg.model.bin;
 import static java.util.Objects.requireNonNull;
 import static seedu.resireg.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.resireg.commons.util.PatchableObservableList;
+import seedu.resireg.commons.util.PatchedList;
 import seedu.resireg.model.bin.exceptions.BinItemNotFoundException;
 import seedu.resireg.model.bin.exceptions.DuplicateBinItemException;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.student.Student;
+import seedu.resireg.model.student.StudentId;
 
 /**
  * A list of rooms that enforces uniqueness between its elements and does not allow nulls.
@@ -19,21 +35,69 @@ import seedu.resireg.model.bin.exceptions.DuplicateBinItemException;
  * However, the removal of a BinItem uses BinItem#equals(Object) so as to ensure that the BinItem with
  * exactly the same fields will be removed.
  *
+ * Bin items are indexed by their position in the list, which is recomputed lazily after an operation shifts
+ * elements. They are also partitioned by the type of the binned item, and indexed by its identity: the student id
+ * for students, and the room label (floor and room number) for rooms. The indexes are updated before the list is
+ * changed, so that listeners of the list see the indexes already in sync with it.
+ *
  * Supports a minimal set of list operations.
  *
  */
 public class UniqueBinItemList implements Iterable<BinItem> {
 
-    private final ObservableList<BinItem> internalList = FXCollections.observableArrayList();
+    private final PatchableObservableList<BinItem> internalList = PatchableObservableList.observableArrayList();
     private final ObservableList<BinItem> internalImmutableList =
         FXCollections.unmodifiableObservableList(internalList);
+    // the list seen by the other methods, which holds the unpublished changes of a batch
+    private List<BinItem> workingList = internalList;
+    private boolean isBatching = false;
+    // the bin items in workingList, ordered by the date they were deleted, and so by the date they expire
+    private final TreeMap<LocalDate, Set<BinItem>> itemsByDateDeleted = new TreeMap<>();
+    private final Map<BinItem, Integer> positions = new HashMap<>();
+    private boolean arePositionsStale = false;
+    private final Map<StudentId, Set<BinItem>> studentItems = new HashMap<>();
+    private final Map<String, Set<BinItem>> roomItems = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent BinItem as the given argument.
      */
     public boolean contains(BinItem toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return positions.containsKey(toCheck);
+    }
+
+    /**
+     * Returns true if the list contains {@code binItem} and its binned item is a student.
+     */
+    public boolean isBinnedStudent(BinItem binItem) {
+        requireNonNull(binItem);
+        return binItem.getBinnedItem() instanceof Student
+            && getStudentItems((Student) binItem.getBinnedItem()).contains(binItem);
+    }
+
+    /**
+     * Returns true if the list contains {@code binItem} and its binned item is a room.
+     */
+    public boolean isBinnedRoom(BinItem binItem) {
+        requireNonNull(binItem);
+        return binItem.getBinnedItem() instanceof Room
+            && getRoomItems((Room) binItem.getBinnedItem()).contains(binItem);
+    }
+
+    /**
+     * Returns the bin items in the list holding a student with the same student id as {@code student}.
+     */
+    public Set<BinItem> getStudentItems(Student student) {
+        requireNonNull(student);
+        return Collections.unmodifiableSet(studentItems.getOrDefault(student.getStudentId(), Collections.emptySet()));
+    }
+
+    /**
+     * Returns the bin items in the list holding a room with the same floor and room number as {@code room}.
+     */
+    public Set<BinItem> getRoomItems(Room room) {
+        requireNonNull(room);
+        return Collections.unmodifiableSet(roomItems.getOrDefault(room.getRoomLabel(), Collections.emptySet()));
     }
 
     /**
@@ -41,11 +105,24 @@ public class UniqueBinItemList implements Iterable<BinItem> {
      * The BinItem must not already exist in the list.
      */
     public void add(BinItem toAdd) {
+        add(workingList.size(), toAdd);
+    }
+
+    /**
+     * Adds a BinItem to the list at a given index.
+     * The BinItem must not already exist in the list.
+     */
+    public void add(int index, BinItem toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateBinItemException();
         }
-        internalList.add(toAdd);
+        positions.put(toAdd, index);
+        addToIndexes(toAdd);
+        modifiableList().add(index, toAdd);
+        if (index != workingList.size() - 1) {
+            arePositionsStale = true;
+        }
     }
 
     /**
@@ -56,7 +133,7 @@ public class UniqueBinItemList implements Iterable<BinItem> {
     public void setBinItem(BinItem target, BinItem editedBinItem) {
         requireAllNonNull(target, editedBinItem);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new BinItemNotFoundException();
         }
@@ -65,7 +142,11 @@ public class UniqueBinItemList implements Iterable<BinItem> {
             throw new DuplicateBinItemException();
         }
 
-        internalList.set(index, editedBinItem);
+        positions.remove(target);
+        positions.put(editedBinItem, index);
+        removeFromIndexes(target);
+        addToIndexes(editedBinItem);
+        modifiableList().set(index, editedBinItem);
     }
 
     /**
@@ -74,14 +155,22 @@ public class UniqueBinItemList implements Iterable<BinItem> {
      */
     public void remove(BinItem toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new BinItemNotFoundException();
         }
+
+        positions.remove(toRemove);
+        removeFromIndexes(toRemove);
+        modifiableList().remove(index);
+        if (index != workingList.size()) {
+            arePositionsStale = true;
+        }
     }
 
     public void setBinItems(UniqueBinItemList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.workingList);
     }
 
     /**
@@ -90,11 +179,43 @@ public class UniqueBinItemList implements Iterable<BinItem> {
      */
     public void setBinItems(List<BinItem> rooms) {
         requireAllNonNull(rooms);
-        if (!binItemsAreUnique(rooms)) {
-            throw new DuplicateBinItemException();
+        Optional<BinItem> duplicate = findFirstDuplicate(rooms);
+        if (duplicate.isPresent()) {
+            throw new DuplicateBinItemException(duplicate.get());
         }
 
-        internalList.setAll(rooms);
+        replaceAll(rooms);
+    }
+
+    /**
+     * Starts a batch of changes. Until {@link #endBatch()} is called, changes are seen by the other methods of
+     * this list but are not published to the list returned by {@link #asUnmodifiableObservableList()}.
+     */
+    public void beginBatch() {
+        isBatching = true;
+    }
+
+    /**
+     * Ends the current batch of changes, publishing only the range of the list which they changed.
+     */
+    public void endBatch() {
+        if (workingList instanceof PatchedList) {
+            PatchedList<BinItem> changes = (PatchedList<BinItem>) workingList;
+            changes.publish();
+        } else if (workingList != internalList) {
+            internalList.setAll(workingList);
+        }
+        workingList = internalList;
+        isBatching = false;
+    }
+
+    /**
+     * Ends the current batch of changes, discarding them.
+     */
+    public void cancelBatch() {
+        workingList = internalList;
+        isBatching = false;
+        rebuildIndexes();
     }
 
     /**
@@ -104,38 +225,166 @@ public class UniqueBinItemList implements Iterable<BinItem> {
         return internalImmutableList;
     }
 
+    /**
+     * Returns the position of the bin item equal to {@code binItem} in the list, or -1 if there is none.
+     */
+    public int indexOf(BinItem binItem) {
+        Integer index = positions.get(binItem);
+        if (index == null) {
+            return -1;
+        }
+        if (arePositionsStale) {
+            reindex();
+            index = positions.get(binItem);
+        }
+        return index;
+    }
+
     @Override
     public Iterator<BinItem> iterator() {
-        return internalList.iterator();
+        return workingList.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof UniqueBinItemList // instanceof handles nulls
-            && internalList.equals(((UniqueBinItemList) other).internalList));
+            && workingList.equals(((UniqueBinItemList) other).workingList));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return workingList.hashCode();
     }
 
     /**
-     * Returns true if {@code rooms} contains only unique rooms.
+     * Returns the first bin item in {@code binItems} equal to an earlier bin item,
+     * or an empty {@code Optional} if {@code binItems} contains only unique bin items.
      */
-    private boolean binItemsAreUnique(List<BinItem> binItems) {
-        for (int i = 0; i < binItems.size() - 1; i++) {
-            for (int j = i + 1; j < binItems.size(); j++) {
-                if (binItems.get(i).equals(binItems.get(j))) {
-                    return false;
-                }
+    private Optional<BinItem> findFirstDuplicate(List<BinItem> binItems) {
+        Set<BinItem> seenBinItems = new HashSet<>();
+        for (BinItem binItem : binItems) {
+            if (!seenBinItems.add(binItem)) {
+                return Optional.of(binItem);
             }
         }
-        return true;
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the bin items deleted before {@code date}, from the earliest deleted.
+     * Only the bin items deleted before {@code date} are looked at.
+     */
+    public List<BinItem> findItemsDeletedBefore(LocalDate date) {
+        requireNonNull(date);
+        List<BinItem> found = new ArrayList<>();
+        itemsByDateDeleted.headMap(date).values().forEach(found::addAll);
+        return found;
+    }
+
+    /**
+     * Removes the equivalent bin items of {@code toRemove} from the list, as a single change.
+     */
+    public void removeAll(Collection<BinItem> toRemove) {
+        requireAllNonNull(toRemove);
+        if (toRemove.isEmpty()) {
+            return;
+        }
+
+        // a set makes each lookup constant time, where the list would be searched for every bin item
+        Set<BinItem> toRemoveSet = new HashSet<>(toRemove);
+        toRemoveSet.forEach(binItem -> {
+            positions.remove(binItem);
+            removeFromIndexes(binItem);
+        });
+        modifiableList().removeAll(toRemoveSet);
+        arePositionsStale = true;
     }
 
-    public void removeAll(List<BinItem> toRemove) {
-        internalList.removeAll(toRemove);
+    /**
+     * Returns the list to make changes to. In a batch, changes are kept apart from the backing list until the
+     * batch ends.
+     */
+    private List<BinItem> modifiableList() {
+        if (isBatching && workingList == internalList) {
+            workingList = new PatchedList<>(internalList);
+        }
+        return workingList;
+    }
+
+    /**
+     * Replaces the contents of the list with {@code binItems}.
+     */
+    private void replaceAll(List<BinItem> binItems) {
+        if (isBatching) {
+            workingList = new ArrayList<>(binItems);
+            rebuildIndexes();
+        } else {
+            // the indexes are rebuilt from the new items first, so that listeners see them in sync with the list
+            rebuildIndexes(binItems);
+            internalList.setAll(binItems);
+        }
+    }
+
+    /**
+     * Rebuilds the position index from the backing list.
+     */
+    private void reindex() {
+        positions.clear();
+        for (int i = 0; i < workingList.size(); i++) {
+            positions.put(workingList.get(i), i);
+        }
+        arePositionsStale = false;
+    }
+
+    private void rebuildIndexes() {
+        rebuildIndexes(workingList);
+    }
+
+    /**
+     * Rebuilds every index from {@code binItems}, which are the current or soon to be current items of the list.
+     */
+    private void rebuildIndexes(List<BinItem> binItems) {
+        positions.clear();
+        for (int i = 0; i < binItems.size(); i++) {
+            positions.put(binItems.get(i), i);
+        }
+        arePositionsStale = false;
+        itemsByDateDeleted.clear();
+        studentItems.clear();
+        roomItems.clear();
+        binItems.forEach(this::addToIndexes);
+    }
+
+    private void addToIndexes(BinItem binItem) {
+        itemsByDateDeleted.computeIfAbsent(binItem.getDateDeleted(), unused -> new HashSet<>()).add(binItem);
+        Binnable item = binItem.getBinnedItem();
+        if (item instanceof Student) {
+            studentItems.computeIfAbsent(((Student) item).getStudentId(), unused -> new LinkedHashSet<>())
+                .add(binItem);
+        } else if (item instanceof Room) {
+            roomItems.computeIfAbsent(((Room) item).getRoomLabel(), unused -> new LinkedHashSet<>()).add(binItem);
+        }
+    }
+
+    private void removeFromIndexes(BinItem binItem) {
+        removeFromIndex(itemsByDateDeleted, binItem.getDateDeleted(), binItem);
+        Binnable item = binItem.getBinnedItem();
+        if (item instanceof Student) {
+            removeFromIndex(studentItems, ((Student) item).getStudentId(), binItem);
+        } else if (item instanceof Room) {
+            removeFromIndex(roomItems, ((Room) item).getRoomLabel(), binItem);
+        }
+    }
+
+    private static <K> void removeFromIndex(Map<K, Set<BinItem>> index, K key, BinItem binItem) {
+        Set<BinItem> binItems = index.get(key);
+        if (binItems == null) {
+            return;
+        }
+        binItems.remove(binItem);
+        if (binItems.isEmpty()) {
+            index.remove(key);
+        }
     }
 }
@@ -1,11 +1,20 @@
 package seedu.resireg.model.bin.exceptions;
 
+import seedu.resireg.model.bin.BinItem;
+
 /**
- * Signals that the operation will result in duplicate Students (Students are considered duplicates if they have the
- * same identity).
+ * Signals that the operation will result in duplicate bin items (bin items are considered duplicates if they have
+ * the same data fields).
  */
 public class DuplicateBinItemException extends RuntimeException {
     public DuplicateBinItemException() {
-        super("Operation would result in duplicate students");
+        super("Operation would result in duplicate bin items");
+    }
+
+    /**
+     * Creates an exception reporting {@code duplicate} as the first duplicate found.
+     */
+    public DuplicateBinItemException(BinItem duplicate) {
+        super("Operation would result in duplicate bin items: " + duplicate);
     }
 }
@@ -3,6 +3,8 @@ package seedu.resireg.model.room;
 import static java.util.Objects.requireNonNull;
 import static seedu.resireg.commons.util.AppUtil.checkArgument;
 
+import seedu.resireg.commons.util.InternPool;
+
 /**
  * Represents a room's floor number in ResiReg.
  * Guarantees: immutable; is valid as declared in {@link #isValidFloor(String)}
@@ -13,6 +15,8 @@ public class Floor {
             "Floor numbers should only contain numbers, cannot start with 0 and should be at most 2 digits long";
 
     public static final String VALIDATION_REGEX = "^[1-9][0-9]?$";
+    private static final InternPool<Floor> POOL = new InternPool<>(Floor::new);
+
     public final String value;
 
     /**
@@ -26,6 +30,15 @@ public class Floor {
         value = floor;
     }
 
+    /**
+     * Returns a {@code Floor} for {@code floor}, reusing the instance from an earlier call with the same value.
+     *
+     * @param floor A valid floor number.
+     */
+    public static Floor of(String floor) {
+        return POOL.get(floor);
+    }
+
     /**
      * Returns true if a given string is a valid floor number.
      */
@@ -3,6 +3,8 @@ package seedu.resireg.model.room;
 import static java.util.Objects.requireNonNull;
 import static seedu.resireg.commons.util.AppUtil.checkArgument;
 
+import seedu.resireg.commons.util.InternPool;
+
 /**
  * Represents a room's number in ResiReg.
  * Guarantees: immutable; is valid as declared in {@link #isValidRoomNumber(String)}
@@ -14,6 +16,8 @@ public class RoomNumber {
                     + "and should be 3 digits long";
 
     public static final String VALIDATION_REGEX = "^[1-9][0-9][0-9]$";
+    private static final InternPool<RoomNumber> POOL = new InternPool<>(RoomNumber::new);
+
     public final String value;
 
     /**
@@ -27,6 +31,15 @@ public class RoomNumber {
         value = number;
     }
 
+    /**
+     * Returns a {@code RoomNumber} for {@code number}, reusing the instance from an earlier call with the same value.
+     *
+     * @param number A valid room number.
+     */
+    public static RoomNumber of(String number) {
+        return POOL.get(number);
+    }
+
     /**
      * Returns true if a given string is a valid number.
      */
@@ -0,0 +1,146 @@
+package seedu.resireg.model.room;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.resireg.model.room.roomtype.RoomType;
+import seedu.resireg.model.room.roomtype.RoomTypeEnum;
+
+/**
+ * Indexes rooms by floor, room type and whether they are allocated, so that rooms matching a combination of these
+ * can be selected with bitwise operations instead of testing every room.
+ *
+ * Each room is given a slot, identified by its room label. Slots freed by removed rooms are reused by rooms added
+ * later, which keeps the bit sets dense. The indexed room objects are also mapped to their slots, so that a selection
+ * can be tested against a room without building its room label.
+ */
+public class RoomOccupancyIndex {
+
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final Map<Room, Integer> slotsByRoom = new IdentityHashMap<>();
+    private final List<Room> roomsBySlot = new ArrayList<>();
+    private final BitSet usedSlots = new BitSet();
+    private final BitSet occupiedSlots = new BitSet();
+    private final Map<Floor, BitSet> slotsByFloor = new HashMap<>();
+    private final Map<RoomTypeEnum, BitSet> slotsByRoomType = new EnumMap<>(RoomTypeEnum.class);
+
+    /**
+     * Adds {@code room} to the index.
+     * A room with the same room label must not already be in the index.
+     */
+    public void add(Room room, boolean isOccupied) {
+        requireNonNull(room);
+        assert !slots.containsKey(room.getRoomLabel()) : "Room must not already be indexed";
+
+        int slot = usedSlots.nextClearBit(0);
+        slots.put(room.getRoomLabel(), slot);
+        slotsByRoom.put(room, slot);
+        if (slot == roomsBySlot.size()) {
+            roomsBySlot.add(room);
+        } else {
+            roomsBySlot.set(slot, room);
+        }
+        usedSlots.set(slot);
+        occupiedSlots.set(slot, isOccupied);
+        slotsByFloor.computeIfAbsent(room.getFloor(), unused -> new BitSet()).set(slot);
+        slotsByRoomType.computeIfAbsent(room.getRoomType().getRoomTypeEnum(), unused -> new BitSet()).set(slot);
+    }
+
+    /**
+     * Removes {@code room} from the index.
+     * The room must be in the index.
+     */
+    public void remove(Room room) {
+        requireNonNull(room);
+        Integer slot = slots.remove(room.getRoomLabel());
+        assert slot != null : "Room must be indexed";
+
+        slotsByRoom.remove(roomsBySlot.set(slot, null));
+        usedSlots.clear(slot);
+        occupiedSlots.clear(slot);
+        BitSet floorSlots = slotsByFloor.get(room.getFloor());
+        floorSlots.clear(slot);
+        if (floorSlots.isEmpty()) {
+            slotsByFloor.remove(room.getFloor());
+        }
+        slotsByRoomType.get(room.getRoomType().getRoomTypeEnum()).clear(slot);
+    }
+
+    /**
+     * Marks the room with {@code roomLabel} as allocated or vacant.
+     * Does nothing if there is no such room in the index.
+     */
+    public void setOccupied(String roomLabel, boolean isOccupied) {
+        requireNonNull(roomLabel);
+        Integer slot = slots.get(roomLabel);
+        if (slot != null) {
+            occupiedSlots.set(slot, isOccupied);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code rooms}, which are allocated if they satisfy {@code isOccupied}.
+     */
+    public void reset(Iterable<Room> rooms, Predicate<Room> isOccupied) {
+        slots.clear();
+        slotsByRoom.clear();
+        roomsBySlot.clear();
+        usedSlots.clear();
+        occupiedSlots.clear();
+        slotsByFloor.clear();
+        slotsByRoomType.clear();
+        for (Room room : rooms) {
+            add(room, isOccupied.test(room));
+        }
+    }
+
+    /**
+     * Returns a predicate which is true for rooms which are on one of the {@code floors}, are of one of the
+     * {@code roomTypes}, and are allocated if {@code isOccupied} is true or vacant if it is false.
+     * Empty collections and a null {@code isOccupied} do not restrict the selection.
+     *
+     * The predicate reflects the index at the time this method is called. It only matches the room objects which
+     * were added to the index, and tests them by looking up their slot in the selected bit set.
+     */
+    public Predicate<Room> select(Collection<Floor> floors, Collection<RoomType> roomTypes, Boolean isOccupied) {
+        requireNonNull(floors);
+        requireNonNull(roomTypes);
+
+        BitSet selected = (BitSet) usedSlots.clone();
+        if (!floors.isEmpty()) {
+            BitSet floorSlots = new BitSet();
+            for (Floor floor : floors) {
+                floorSlots.or(slotsByFloor.getOrDefault(floor, new BitSet()));
+            }
+            selected.and(floorSlots);
+        }
+        if (!roomTypes.isEmpty()) {
+            BitSet roomTypeSlots = new BitSet();
+            for (RoomType roomType : roomTypes) {
+                roomTypeSlots.or(slotsByRoomType.getOrDefault(roomType.getRoomTypeEnum(), new BitSet()));
+            }
+            selected.and(roomTypeSlots);
+        }
+        if (isOccupied != null && isOccupied) {
+            selected.and(occupiedSlots);
+        } else if (isOccupied != null) {
+            selected.andNot(occupiedSlots);
+        }
+
+        // slots may be reused by rooms added later, so the rooms indexed at this point are remembered as well
+        Room[] indexedRooms = roomsBySlot.toArray(new Room[0]);
+        return room -> {
+            Integer slot = slotsByRoom.get(room);
+            return slot != null && slot < indexedRooms.length && indexedRooms[slot] == room && selected.get(slot);
+        };
+    }
+}
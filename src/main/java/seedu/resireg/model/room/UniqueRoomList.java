@@ -3,13 +3,28 @@ package seedu.resireg.model.room;
 import static java.util.Objects.requireNonNull;
 import static seedu.resireg.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.resireg.commons.util.PatchableObservableList;
+import seedu.resireg.commons.util.PatchedList;
 import seedu.resireg.model.room.exceptions.DuplicateRoomException;
 import seedu.resireg.model.room.exceptions.RoomNotFoundException;
+import seedu.resireg.model.room.roomtype.RoomType;
+import seedu.resireg.model.room.roomtype.RoomTypeEnum;
 
 /**
  * A list of rooms that enforces uniqueness between its elements and does not allow nulls.
@@ -19,22 +34,35 @@ import seedu.resireg.model.room.exceptions.RoomNotFoundException;
  * However, the removal of a room uses Room#equals(Object) so as to ensure that the room with
  * exactly the same fields will be removed.
  *
+ * Rooms are additionally indexed by their room label (floor and room number), mapping each label to the room's
+ * position in the list. The set of indexed labels is always kept in sync with the list, while positions are
+ * recomputed lazily after an operation shifts elements (inserting before the end or removing from the middle).
+ * Rooms are also indexed by floor and by room type, which {@link #findRooms(Collection, Collection)} uses to
+ * avoid looking at rooms which cannot match.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Room#isSameRoom(Room)
  */
 public class UniqueRoomList implements Iterable<Room> {
 
-    private final ObservableList<Room> internalList = FXCollections.observableArrayList();
+    private final PatchableObservableList<Room> internalList = PatchableObservableList.observableArrayList();
     private final ObservableList<Room> internalImmutableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // the list seen by the other methods, which holds the unpublished changes of a batch
+    private List<Room> workingList = internalList;
+    private boolean isBatching = false;
+    private final Map<String, Integer> positions = new HashMap<>();
+    private boolean arePositionsStale = false;
+    private final Map<Floor, Set<Room>> roomsByFloor = new HashMap<>();
+    private final Map<RoomTypeEnum, Set<Room>> roomsByRoomType = new EnumMap<>(RoomTypeEnum.class);
 
     /**
      * Returns true if the list contains an equivalent room as the given argument.
      */
     public boolean contains(Room toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameRoom);
+        return positions.containsKey(toCheck.getRoomLabel());
     }
 
     /**
@@ -42,11 +70,24 @@ public class UniqueRoomList implements Iterable<Room> {
      * The room must not already exist in the list.
      */
     public void add(Room toAdd) {
+        add(workingList.size(), toAdd);
+    }
+
+    /**
+     * Adds a room to the list at a given index.
+     * The room must not already exist in the list.
+     */
+    public void add(int index, Room toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicateRoomException();
         }
-        internalList.add(toAdd);
+        modifiableList().add(index, toAdd);
+        positions.put(toAdd.getRoomLabel(), index);
+        addToSecondaryIndexes(toAdd);
+        if (index != workingList.size() - 1) {
+            arePositionsStale = true;
+        }
     }
 
     /**
@@ -57,7 +98,7 @@ public class UniqueRoomList implements Iterable<Room> {
     public void setRoom(Room target, Room editedRoom) {
         requireAllNonNull(target, editedRoom);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new RoomNotFoundException();
         }
@@ -66,7 +107,11 @@ public class UniqueRoomList implements Iterable<Room> {
             throw new DuplicateRoomException();
         }
 
-        internalList.set(index, editedRoom);
+        modifiableList().set(index, editedRoom);
+        positions.remove(target.getRoomLabel());
+        positions.put(editedRoom.getRoomLabel(), index);
+        removeFromSecondaryIndexes(target);
+        addToSecondaryIndexes(editedRoom);
     }
 
     /**
@@ -75,14 +120,24 @@ public class UniqueRoomList implements Iterable<Room> {
      */
     public void remove(Room toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new RoomNotFoundException();
         }
+
+        modifiableList().remove(index);
+        positions.remove(toRemove.getRoomLabel());
+        removeFromSecondaryIndexes(toRemove);
+        if (index != workingList.size()) {
+            arePositionsStale = true;
+        }
     }
 
     public void setRooms(UniqueRoomList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.workingList);
+        reindex();
+        rebuildSecondaryIndexes();
     }
 
     /**
@@ -91,11 +146,89 @@ public class UniqueRoomList implements Iterable<Room> {
      */
     public void setRooms(List<Room> rooms) {
         requireAllNonNull(rooms);
-        if (!roomsAreUnique(rooms)) {
-            throw new DuplicateRoomException();
+        Optional<Room> duplicate = findFirstDuplicate(rooms);
+        if (duplicate.isPresent()) {
+            throw new DuplicateRoomException(duplicate.get());
         }
 
-        internalList.setAll(rooms);
+        replaceAll(rooms);
+        reindex();
+        rebuildSecondaryIndexes();
+    }
+
+    /**
+     * Returns the rooms which are on one of the {@code floors} and are of one of the {@code roomTypes}.
+     * An empty collection does not restrict the rooms returned.
+     *
+     * Only the rooms in the more selective of the floor and room type indexes are looked at.
+     */
+    public List<Room> findRooms(Collection<Floor> floors, Collection<RoomType> roomTypes) {
+        requireAllNonNull(floors, roomTypes);
+        Set<RoomTypeEnum> roomTypeEnums = EnumSet.noneOf(RoomTypeEnum.class);
+        roomTypes.forEach(roomType -> roomTypeEnums.add(roomType.getRoomTypeEnum()));
+        long roomTypeMask = RoomType.toMask(roomTypes);
+
+        int roomsOnFloors = floors.isEmpty() ? Integer.MAX_VALUE : countIndexed(roomsByFloor, floors);
+        int roomsOfRoomTypes = roomTypeEnums.isEmpty() ? Integer.MAX_VALUE
+                : countIndexed(roomsByRoomType, roomTypeEnums);
+        if (roomsOnFloors == Integer.MAX_VALUE && roomsOfRoomTypes == Integer.MAX_VALUE) {
+            return new ArrayList<>(workingList);
+        }
+
+        List<Room> foundRooms = new ArrayList<>();
+        if (roomsOnFloors <= roomsOfRoomTypes) {
+            for (Floor floor : new HashSet<>(floors)) {
+                for (Room room : roomsByFloor.getOrDefault(floor, Collections.emptySet())) {
+                    if (roomTypeMask == 0 || (room.getRoomType().getMask() & roomTypeMask) != 0) {
+                        foundRooms.add(room);
+                    }
+                }
+            }
+        } else {
+            Set<Floor> floorSet = new HashSet<>(floors);
+            for (RoomTypeEnum roomTypeEnum : roomTypeEnums) {
+                for (Room room : roomsByRoomType.getOrDefault(roomTypeEnum, Collections.emptySet())) {
+                    if (floorSet.isEmpty() || floorSet.contains(room.getFloor())) {
+                        foundRooms.add(room);
+                    }
+                }
+            }
+        }
+        return foundRooms;
+    }
+
+    /**
+     * Starts a batch of changes. Until {@link #endBatch()} is called, changes are seen by the other methods of
+     * this list but are not published to the list returned by {@link #asUnmodifiableObservableList()}.
+     */
+    public void beginBatch() {
+        isBatching = true;
+    }
+
+    /**
+     * Ends the current batch of changes, publishing only the range of the list which they changed.
+     */
+    public void endBatch() {
+        if (workingList instanceof PatchedList) {
+            PatchedList<Room> changes = (PatchedList<Room>) workingList;
+            changes.publish();
+        } else if (workingList != internalList) {
+            internalList.setAll(workingList);
+        }
+        workingList = internalList;
+        isBatching = false;
+    }
+
+    /**
+     * Ends the current batch of changes, discarding them.
+     */
+    public void cancelBatch() {
+        if (workingList != internalList) {
+            workingList = internalList;
+            reindex();
+            rebuildSecondaryIndexes();
+        }
+        isBatching = false;
     }
 
     /**
@@ -107,32 +240,115 @@ public class UniqueRoomList implements Iterable<Room> {
 
     @Override
     public Iterator<Room> iterator() {
-        return internalList.iterator();
+        return workingList.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof seedu.resireg.model.room.UniqueRoomList // instanceof handles nulls
-                && internalList.equals(((seedu.resireg.model.room.UniqueRoomList) other).internalList));
+                && workingList.equals(((seedu.resireg.model.room.UniqueRoomList) other).workingList));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return workingList.hashCode();
     }
 
     /**
-     * Returns true if {@code rooms} contains only unique rooms.
+     * Returns the position of the room equal to {@code room} in the list, or -1 if there is none.
      */
-    private boolean roomsAreUnique(List<Room> rooms) {
-        for (int i = 0; i < rooms.size() - 1; i++) {
-            for (int j = i + 1; j < rooms.size(); j++) {
-                if (rooms.get(i).isSameRoom(rooms.get(j))) {
-                    return false;
-                }
+    public int indexOf(Room room) {
+        Integer index = positions.get(room.getRoomLabel());
+        if (index == null) {
+            return -1;
+        }
+        if (arePositionsStale) {
+            reindex();
+            index = positions.get(room.getRoomLabel());
+        }
+        return workingList.get(index).equals(room) ? index : -1;
+    }
+
+    /**
+     * Rebuilds the position index from the backing list.
+     */
+    private void reindex() {
+        positions.clear();
+        for (int i = 0; i < workingList.size(); i++) {
+            positions.put(workingList.get(i).getRoomLabel(), i);
+        }
+        arePositionsStale = false;
+    }
+
+    /**
+     * Rebuilds the floor and room type indexes from the backing list.
+     */
+    private void rebuildSecondaryIndexes() {
+        roomsByFloor.clear();
+        roomsByRoomType.clear();
+        workingList.forEach(this::addToSecondaryIndexes);
+    }
+
+    private void addToSecondaryIndexes(Room room) {
+        roomsByFloor.computeIfAbsent(room.getFloor(), unused -> new LinkedHashSet<>()).add(room);
+        roomsByRoomType.computeIfAbsent(room.getRoomType().getRoomTypeEnum(), unused -> new LinkedHashSet<>())
+                .add(room);
+    }
+
+    private void removeFromSecondaryIndexes(Room room) {
+        Set<Room> roomsOnFloor = roomsByFloor.get(room.getFloor());
+        roomsOnFloor.remove(room);
+        if (roomsOnFloor.isEmpty()) {
+            roomsByFloor.remove(room.getFloor());
+        }
+        roomsByRoomType.get(room.getRoomType().getRoomTypeEnum()).remove(room);
+    }
+
+    /**
+     * Returns the total number of rooms indexed under the {@code keys} of {@code index}.
+     */
+    private static <K> int countIndexed(Map<K, Set<Room>> index, Collection<K> keys) {
+        int count = 0;
+        for (K key : new HashSet<>(keys)) {
+            count += index.getOrDefault(key, Collections.emptySet()).size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the first room in {@code rooms} with the same identity as an earlier room,
+     * or an empty {@code Optional} if {@code rooms} contains only unique rooms.
+     */
+    private Optional<Room> findFirstDuplicate(List<Room> rooms) {
+        Set<String> seenLabels = new HashSet<>();
+        for (Room room : rooms) {
+            if (!seenLabels.add(room.getRoomLabel())) {
+                return Optional.of(room);
             }
         }
-        return true;
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the list to make changes to. In a batch, changes are kept apart from the backing list until the
+     * batch ends.
+     */
+    private List<Room> modifiableList() {
+        if (isBatching && workingList == internalList) {
+            workingList = new PatchedList<>(internalList);
+        }
+        return workingList;
+    }
+
+    /**
+     * Replaces the contents of the list with {@code rooms}.
+     */
+    private void replaceAll(List<Room> rooms) {
+        if (isBatching) {
+            workingList = new ArrayList<>(rooms);
+        } else {
+            internalList.setAll(rooms);
+        }
     }
 }
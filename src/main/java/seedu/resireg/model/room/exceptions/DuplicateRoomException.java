@@ -1,5 +1,7 @@
 package seedu.resireg.model.room.exceptions;
 
+import seedu.resireg.model.room.Room;
+
 /**
  * Signals that the operation will result in duplicate rooms (Rooms are considered duplicates if they have the
  * same identity).
@@ -8,4 +10,11 @@ public class DuplicateRoomException extends RuntimeException {
     public DuplicateRoomException() {
         super("Operation would result in duplicate rooms");
     }
+
+    /**
+     * Creates an exception reporting {@code duplicate} as the first duplicate found.
+     */
+    public DuplicateRoomException(Room duplicate) {
+        super("Operation would result in duplicate rooms: " + duplicate);
+    }
 }
@@ -4,8 +4,11 @@ import static seedu.resireg.commons.util.AppUtil.checkArgument;
 import static seedu.resireg.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
+import seedu.resireg.commons.util.InternPool;
+
 /**
  * Represents a room's type in ResiReg.
  * Guarantees: immutable; is valid as declared in {@link #isValidRoomType(String)}
@@ -16,7 +19,11 @@ public class RoomType {
     public static final String MESSAGE_CONSTRAINTS =
             "A roomtype must be of the form \"CA\", \"CN\", \"NA\", or \"NN\".";
 
+    private static final InternPool<RoomType> POOL = new InternPool<>(RoomType::new);
+
     public final String name;
+    private final RoomTypeEnum roomTypeEnum;
+    private final long mask;
 
     /**
      * Constructs a {@code RoomType}.
@@ -27,6 +34,19 @@ public class RoomType {
         requireAllNonNull(typeAbbr);
         checkArgument(isValidRoomType(typeAbbr), MESSAGE_CONSTRAINTS);
         name = typeAbbr;
+        roomTypeEnum = Arrays.stream(RoomTypeEnum.values())
+                .filter(roomType -> roomType.matchesRoomTypeAbbreviation(typeAbbr))
+                .findFirst().get();
+        mask = 1L << roomTypeEnum.ordinal();
+    }
+
+    /**
+     * Returns a {@code RoomType} for {@code typeAbbr}, reusing the instance from an earlier call with the same value.
+     *
+     * @param typeAbbr A valid room type abbreviation.
+     */
+    public static RoomType of(String typeAbbr) {
+        return POOL.get(typeAbbr);
     }
 
     /**
@@ -37,6 +57,29 @@ public class RoomType {
         return roomTypes.stream().anyMatch(roomType -> roomType.matchesRoomTypeAbbreviation(test));
     }
 
+    public RoomTypeEnum getRoomTypeEnum() {
+        return roomTypeEnum;
+    }
+
+    /**
+     * Returns a bit mask with only the bit for the ordinal of this room type's {@code RoomTypeEnum} set.
+     */
+    public long getMask() {
+        return mask;
+    }
+
+    /**
+     * Returns the union of the masks of {@code roomTypes}.
+     * A room type is one of the {@code roomTypes} if and only if its mask shares a bit with the union.
+     */
+    public static long toMask(Collection<RoomType> roomTypes) {
+        long mask = 0;
+        for (RoomType roomType : roomTypes) {
+            mask |= roomType.mask;
+        }
+        return mask;
+    }
+
     @Override
     public String toString() {
         return name;
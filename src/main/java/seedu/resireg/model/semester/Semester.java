@@ -80,6 +80,29 @@ public class Semester {
         }
     }
 
+    /**
+     * Returns the predecessor of this semester, which is the first semester of the academic year if this semester is
+     * in sem 2, otherwise the second semester of the previous academic year.
+     * This semester must not be the first semester of {@link #YEAR_OF_ESTABLISHMENT}.
+     *
+     * @return the predecessor of this semester
+     */
+    public Semester getPreviousSemester() {
+        if (semesterNumber.get() == SECOND_SEMESTER) {
+            return new Semester(academicYear.get(), FIRST_SEMESTER);
+        } else {
+            return new Semester(academicYear.get() - 1, SECOND_SEMESTER);
+        }
+    }
+
+    /**
+     * Returns true if this semester has a predecessor, i.e. it is not the first semester of
+     * {@link #YEAR_OF_ESTABLISHMENT}.
+     */
+    public boolean hasPreviousSemester() {
+        return academicYear.get() > YEAR_OF_ESTABLISHMENT || semesterNumber.get() == SECOND_SEMESTER;
+    }
+
     /**
      * @return a shortened String representation of the semester in form of "AY" + year + "S" + semesterNumber.
      */
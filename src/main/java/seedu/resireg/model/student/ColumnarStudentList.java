@@ -0,0 +1,257 @@
+package seedu.resireg.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.resireg.commons.util.PatchableObservableList;
+import seedu.resireg.model.student.faculty.Faculty;
+import seedu.resireg.model.student.faculty.FacultyEnum;
+import seedu.resireg.model.tag.Tag;
+
+/**
+ * An {@code ObservableList} of students which keeps each field of the students in a separate column of primitives,
+ * instead of keeping a graph of objects for every student, which takes less memory for large lists.
+ *
+ * <ul>
+ *     <li>Student IDs are kept as their packed values.</li>
+ *     <li>Faculties are kept as the ordinals of their {@code FacultyEnum}.</li>
+ *     <li>Each distinct tag is given a number, and each distinct set of tags is kept once, as a bit set of the
+ *     numbers of its tags. Students refer to their set of tags by its position.</li>
+ *     <li>Names, phones and emails are appended to a single pool of characters, and students refer to them by
+ *     their offset and length in the pool.</li>
+ * </ul>
+ *
+ * Students are rebuilt from the columns every time they are retrieved, without validating the stored values
+ * again, so the same element is always equal but not the same instance each time. The list only saves memory while
+ * nothing else holds on to the students it returns, so callers should not keep them, such as in caches keyed by
+ * identity, which would never hit anyway.
+ */
+public class ColumnarStudentList extends PatchableObservableList<Student> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Faculty[] FACULTIES = Arrays.stream(FacultyEnum.values())
+            .map(faculty -> Faculty.of(faculty.toString())).toArray(Faculty[]::new);
+
+    private int size = 0;
+    private long[] studentIds = new long[INITIAL_CAPACITY];
+    private byte[] faculties = new byte[INITIAL_CAPACITY];
+    private int[] tagSets = new int[INITIAL_CAPACITY];
+    private long[] names = new long[INITIAL_CAPACITY];
+    private long[] phones = new long[INITIAL_CAPACITY];
+    private long[] emails = new long[INITIAL_CAPACITY];
+
+    private final List<Tag> tagDictionary = new ArrayList<>();
+    private final Map<Tag, Integer> tagNumbers = new HashMap<>();
+    private final List<BitSet> tagSetDictionary = new ArrayList<>();
+    private final Map<BitSet, Integer> tagSetNumbers = new HashMap<>();
+
+    private final StringBuilder stringPool = new StringBuilder();
+    private int unusedPoolLength = 0;
+
+    @Override
+    public Student get(int index) {
+        checkIndex(index);
+        return loadStudent(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    protected void doAdd(int index, Student element) {
+        requireNonNull(element);
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        ensureCapacity(size + 1);
+        shiftColumns(index, index + 1, size - index);
+        size++;
+        storeStudent(index, element);
+    }
+
+    @Override
+    protected Student doSet(int index, Student element) {
+        requireNonNull(element);
+        Student oldElement = get(index);
+        releaseStrings(index);
+        storeStudent(index, element);
+        compactStringPoolIfWasteful();
+        return oldElement;
+    }
+
+    @Override
+    protected Student doRemove(int index) {
+        Student oldElement = get(index);
+        releaseStrings(index);
+        shiftColumns(index + 1, index, size - index - 1);
+        size--;
+        compactStringPoolIfWasteful();
+        return oldElement;
+    }
+
+    /**
+     * Removes the students in the range as a single shift of the columns, instead of removing them one at a time.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        List<Student> removed = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            removed.add(get(i));
+            releaseStrings(i);
+        }
+        shiftColumns(toIndex, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        modCount++;
+
+        beginChange();
+        nextRemove(fromIndex, removed);
+        endChange();
+        compactStringPoolIfWasteful();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private Student loadStudent(int index) {
+        return new Student(Name.fromStoredValue(loadString(names[index])),
+                Phone.fromStoredValue(loadString(phones[index])), Email.fromStoredValue(loadString(emails[index])),
+                FACULTIES[faculties[index]], StudentId.fromPackedValue(studentIds[index]), loadTags(tagSets[index]));
+    }
+
+    private void storeStudent(int index, Student student) {
+        studentIds[index] = student.getStudentId().getPackedValue();
+        faculties[index] = (byte) student.getFaculty().getFacultyEnum().ordinal();
+        tagSets[index] = storeTags(student.getTags());
+        names[index] = storeString(student.getName().toString());
+        phones[index] = storeString(student.getPhone().toString());
+        emails[index] = storeString(student.getEmail().toString());
+    }
+
+    //// columns
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= studentIds.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity, studentIds.length * 2);
+        studentIds = Arrays.copyOf(studentIds, newCapacity);
+        faculties = Arrays.copyOf(faculties, newCapacity);
+        tagSets = Arrays.copyOf(tagSets, newCapacity);
+        names = Arrays.copyOf(names, newCapacity);
+        phones = Arrays.copyOf(phones, newCapacity);
+        emails = Arrays.copyOf(emails, newCapacity);
+    }
+
+    private void shiftColumns(int from, int to, int length) {
+        System.arraycopy(studentIds, from, studentIds, to, length);
+        System.arraycopy(faculties, from, faculties, to, length);
+        System.arraycopy(tagSets, from, tagSets, to, length);
+        System.arraycopy(names, from, names, to, length);
+        System.arraycopy(phones, from, phones, to, length);
+        System.arraycopy(emails, from, emails, to, length);
+    }
+
+    //// tags
+
+    /**
+     * Returns the number of the set of {@code tags} in the tag set dictionary, adding it if needed.
+     */
+    private int storeTags(Set<Tag> tags) {
+        BitSet tagSet = new BitSet();
+        for (Tag tag : tags) {
+            tagSet.set(tagNumbers.computeIfAbsent(tag, unused -> {
+                tagDictionary.add(tag);
+                return tagDictionary.size() - 1;
+            }));
+        }
+        return tagSetNumbers.computeIfAbsent(tagSet, unused -> {
+            tagSetDictionary.add(tagSet);
+            return tagSetDictionary.size() - 1;
+        });
+    }
+
+    private Set<Tag> loadTags(int tagSetNumber) {
+        BitSet tagSet = tagSetDictionary.get(tagSetNumber);
+        Set<Tag> tags = new HashSet<>();
+        for (int tag = tagSet.nextSetBit(0); tag >= 0; tag = tagSet.nextSetBit(tag + 1)) {
+            tags.add(tagDictionary.get(tag));
+        }
+        return tags;
+    }
+
+    //// strings
+
+    /**
+     * Appends {@code string} to the string pool and returns a reference to it, made up of its offset in the pool
+     * in the upper 32 bits and its length in the lower 32 bits.
+     */
+    private long storeString(String string) {
+        long reference = ((long) stringPool.length() << Integer.SIZE) | string.length();
+        stringPool.append(string);
+        return reference;
+    }
+
+    private String loadString(long reference) {
+        int offset = (int) (reference >>> Integer.SIZE);
+        return stringPool.substring(offset, offset + getLength(reference));
+    }
+
+    private static int getLength(long reference) {
+        return (int) reference;
+    }
+
+    /**
+     * Records that the strings of the student at {@code index} are no longer used.
+     */
+    private void releaseStrings(int index) {
+        unusedPoolLength += getLength(names[index]) + getLength(phones[index]) + getLength(emails[index]);
+    }
+
+    /**
+     * Rebuilds the string pool with only the strings still in use, once most of the pool is unused.
+     */
+    private void compactStringPoolIfWasteful() {
+        if (unusedPoolLength <= stringPool.length() / 2) {
+            return;
+        }
+
+        String oldPool = stringPool.toString();
+        stringPool.setLength(0);
+        for (int i = 0; i < size; i++) {
+            names[i] = moveString(oldPool, names[i]);
+            phones[i] = moveString(oldPool, phones[i]);
+            emails[i] = moveString(oldPool, emails[i]);
+        }
+        stringPool.trimToSize();
+        unusedPoolLength = 0;
+    }
+
+    private long moveString(String oldPool, long reference) {
+        int offset = (int) (reference >>> Integer.SIZE);
+        long newReference = ((long) stringPool.length() << Integer.SIZE) | getLength(reference);
+        stringPool.append(oldPool, offset, offset + getLength(reference));
+        return newReference;
+    }
+}
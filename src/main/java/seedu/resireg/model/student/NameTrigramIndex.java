@@ -0,0 +1,114 @@
+package seedu.resireg.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the trigrams (substrings of three characters) of students' lower-cased names to the
+ * students whose names contain them, used to find students whose names contain a given string.
+ *
+ * A student's name contains a query of at least three characters only if it contains every trigram of the query,
+ * so the students indexed under the least common trigram of the query are the only ones which need to be checked.
+ */
+public class NameTrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<StudentId, String> lowerCaseNames = new HashMap<>();
+    private final Map<String, Set<StudentId>> postings = new HashMap<>();
+
+    /**
+     * Adds {@code student} to the index.
+     * A student with the same student id must not already be in the index.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        String lowerCaseName = toLowerCase(student.getName());
+        assert !lowerCaseNames.containsKey(student.getStudentId()) : "Student must not already be indexed";
+
+        lowerCaseNames.put(student.getStudentId(), lowerCaseName);
+        for (String trigram : getTrigrams(lowerCaseName)) {
+            postings.computeIfAbsent(trigram, unused -> new HashSet<>()).add(student.getStudentId());
+        }
+    }
+
+    /**
+     * Removes {@code student} from the index.
+     * The student must be in the index.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        String lowerCaseName = lowerCaseNames.remove(student.getStudentId());
+        assert lowerCaseName != null : "Student must be indexed";
+
+        for (String trigram : getTrigrams(lowerCaseName)) {
+            Set<StudentId> studentIds = postings.get(trigram);
+            studentIds.remove(student.getStudentId());
+            if (studentIds.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code students}.
+     */
+    public void reset(Iterable<Student> students) {
+        lowerCaseNames.clear();
+        postings.clear();
+        students.forEach(this::add);
+    }
+
+    /**
+     * Returns the ids of the students whose names contain {@code query}, ignoring case.
+     */
+    public Set<StudentId> findNamesContaining(String query) {
+        requireNonNull(query);
+        String lowerCaseQuery = query.toLowerCase();
+        Set<StudentId> found = new HashSet<>();
+        if (lowerCaseQuery.length() < GRAM_LENGTH) {
+            lowerCaseNames.forEach((studentId, name) -> {
+                if (name.contains(lowerCaseQuery)) {
+                    found.add(studentId);
+                }
+            });
+            return found;
+        }
+
+        List<Set<StudentId>> candidateSets = new ArrayList<>();
+        for (String trigram : getTrigrams(lowerCaseQuery)) {
+            Set<StudentId> studentIds = postings.get(trigram);
+            if (studentIds == null) {
+                return found;
+            }
+            candidateSets.add(studentIds);
+        }
+
+        Set<StudentId> candidates = candidateSets.stream().min(Comparator.comparingInt(Set::size)).get();
+        for (StudentId studentId : candidates) {
+            if (lowerCaseNames.get(studentId).contains(lowerCaseQuery)) {
+                found.add(studentId);
+            }
+        }
+        return found;
+    }
+
+    private static String toLowerCase(Name name) {
+        return name.toString().toLowerCase();
+    }
+
+    private static Set<String> getTrigrams(String lowerCaseString) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseString.length(); i++) {
+            trigrams.add(lowerCaseString.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -6,6 +6,9 @@ import static seedu.resireg.commons.util.AppUtil.checkArgument;
 /**
  * Represents a Student's identification number in ResiReg.
  * Guarantees: immutable; is valid as declared in {@link #isValidStudentId(String)}
+ *
+ * As every student ID has the same prefix, the digits after it are kept as a {@code long}, which is used for
+ * equality and hashing instead of the string.
  */
 public class StudentId {
 
@@ -13,7 +16,13 @@ public class StudentId {
     public static final String MESSAGE_CONSTRAINTS =
         "A student's identification number should begin with an \'E0\' followed by 6 digits.";
     public static final String VALIDATION_REGEX = "E0[0-9]{6}";
+    private static final String PREFIX = "E0";
+    private static final int DIGITS = 6;
+    private static final long MAX_PACKED_VALUE = 999_999;
+
     public final String value;
+    private final long packedValue;
+    private final int hash;
 
     /**
      * Constructs a {@code StudentId}.
@@ -24,6 +33,30 @@ public class StudentId {
         requireNonNull(studentId);
         checkArgument(isValidStudentId(studentId), MESSAGE_CONSTRAINTS);
         value = studentId;
+        packedValue = Long.parseLong(studentId.substring(PREFIX.length()));
+        hash = Long.hashCode(packedValue);
+    }
+
+    private StudentId(long packedValue) {
+        checkArgument(packedValue >= 0 && packedValue <= MAX_PACKED_VALUE, MESSAGE_CONSTRAINTS);
+        String digits = Long.toString(packedValue);
+        StringBuilder builder = new StringBuilder(PREFIX.length() + DIGITS).append(PREFIX);
+        for (int i = digits.length(); i < DIGITS; i++) {
+            builder.append('0');
+        }
+        value = builder.append(digits).toString();
+        this.packedValue = packedValue;
+        hash = Long.hashCode(packedValue);
+    }
+
+    /**
+     * Returns the {@code StudentId} with the given packed value. Only the range of the value is checked, so this
+     * is cheaper than parsing the string.
+     *
+     * @param packedValue A packed value returned by {@link #getPackedValue()}.
+     */
+    public static StudentId fromPackedValue(long packedValue) {
+        return new StudentId(packedValue);
     }
 
     /**
@@ -33,6 +66,14 @@ public class StudentId {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns this student ID packed into a {@code long}. Two student IDs are equal if and only if their packed
+     * values are equal.
+     */
+    public long getPackedValue() {
+        return packedValue;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -42,12 +83,12 @@ public class StudentId {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
             || (other instanceof StudentId // instanceof handles nulls
-            && value.equals(((StudentId) other).value)); // state check
+            && packedValue == ((StudentId) other).packedValue); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return hash;
     }
 
 }
@@ -3,11 +3,19 @@ package seedu.resireg.model.student;
 import static java.util.Objects.requireNonNull;
 import static seedu.resireg.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.resireg.commons.util.PatchableObservableList;
+import seedu.resireg.commons.util.PatchedList;
 import seedu.resireg.model.student.exceptions.DuplicateStudentException;
 import seedu.resireg.model.student.exceptions.StudentNotFoundException;
 
@@ -19,22 +27,50 @@ import seedu.resireg.model.student.exceptions.StudentNotFoundException;
  * However, the removal of a student uses Student#equals(Object) so as to ensure that the student with
  * exactly the same fields will be removed.
  *
+ * Students are additionally indexed by {@code StudentId}, mapping each ID to the student's position in the list.
+ * The set of indexed IDs is always kept in sync with the list, while positions are recomputed lazily after an
+ * operation shifts elements (inserting at the front or removing from the middle).
+ * Names are also indexed by their trigrams, which {@link #findNamesContaining(String)} uses to search names
+ * without looking at every student.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Student#isSameStudent(Student)
  */
 public class UniqueStudentList implements Iterable<Student> {
 
-    private final ObservableList<Student> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Student> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final PatchableObservableList<Student> internalList;
+    private final ObservableList<Student> internalUnmodifiableList;
+    // the list seen by the other methods, which holds the unpublished changes of a batch
+    private List<Student> workingList;
+    private boolean isBatching = false;
+    private final Map<StudentId, Integer> positions = new HashMap<>();
+    private boolean arePositionsStale = false;
+    private final NameTrigramIndex nameIndex = new NameTrigramIndex();
+
+    public UniqueStudentList() {
+        this(PatchableObservableList.observableArrayList());
+    }
+
+    private UniqueStudentList(PatchableObservableList<Student> internalList) {
+        this.internalList = internalList;
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+        workingList = internalList;
+    }
+
+    /**
+     * Creates an empty {@code UniqueStudentList} which keeps its students in a {@code ColumnarStudentList}.
+     */
+    public static UniqueStudentList createColumnar() {
+        return new UniqueStudentList(new ColumnarStudentList());
+    }
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameStudent);
+        return positions.containsKey(toCheck.getStudentId());
     }
 
     /**
@@ -42,7 +78,7 @@ public class UniqueStudentList implements Iterable<Student> {
      * The student must not already exist in the list.
      */
     public void add(Student toAdd) {
-        add(internalList.size(), toAdd);
+        add(workingList.size(), toAdd);
     }
 
     /**
@@ -54,7 +90,12 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicateStudentException();
         }
-        internalList.add(index, toAdd);
+        modifiableList().add(index, toAdd);
+        positions.put(toAdd.getStudentId(), index);
+        nameIndex.add(toAdd);
+        if (index != workingList.size() - 1) {
+            arePositionsStale = true;
+        }
     }
 
     /**
@@ -65,7 +106,7 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new StudentNotFoundException();
         }
@@ -74,7 +115,11 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicateStudentException();
         }
 
-        internalList.set(index, editedStudent);
+        modifiableList().set(index, editedStudent);
+        positions.remove(target.getStudentId());
+        positions.put(editedStudent.getStudentId(), index);
+        nameIndex.remove(target);
+        nameIndex.add(editedStudent);
     }
 
     /**
@@ -83,14 +128,24 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new StudentNotFoundException();
         }
+
+        modifiableList().remove(index);
+        positions.remove(toRemove.getStudentId());
+        nameIndex.remove(toRemove);
+        if (index != workingList.size()) {
+            arePositionsStale = true;
+        }
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        replaceAll(replacement.workingList);
+        reindex();
+        nameIndex.reset(workingList);
     }
 
     /**
@@ -99,11 +154,56 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
-            throw new DuplicateStudentException();
+        Optional<Student> duplicate = findFirstDuplicate(students);
+        if (duplicate.isPresent()) {
+            throw new DuplicateStudentException(duplicate.get());
         }
 
-        internalList.setAll(students);
+        replaceAll(students);
+        reindex();
+        nameIndex.reset(workingList);
+    }
+
+    /**
+     * Returns the student IDs of the students whose names contain {@code query}, ignoring case.
+     */
+    public Set<StudentId> findNamesContaining(String query) {
+        requireNonNull(query);
+        return nameIndex.findNamesContaining(query);
+    }
+
+    /**
+     * Starts a batch of changes. Until {@link #endBatch()} is called, changes are seen by the other methods of
+     * this list but are not published to the list returned by {@link #asUnmodifiableObservableList()}.
+     */
+    public void beginBatch() {
+        isBatching = true;
+    }
+
+    /**
+     * Ends the current batch of changes, publishing only the range of the list which they changed.
+     */
+    public void endBatch() {
+        if (workingList instanceof PatchedList) {
+            PatchedList<Student> changes = (PatchedList<Student>) workingList;
+            changes.publish();
+        } else if (workingList != internalList) {
+            internalList.setAll(workingList);
+        }
+        workingList = internalList;
+        isBatching = false;
+    }
+
+    /**
+     * Ends the current batch of changes, discarding them.
+     */
+    public void cancelBatch() {
+        if (workingList != internalList) {
+            workingList = internalList;
+            reindex();
+            nameIndex.reset(workingList);
+        }
+        isBatching = false;
     }
 
     /**
@@ -115,32 +215,80 @@ public class UniqueStudentList implements Iterable<Student> {
 
     @Override
     public Iterator<Student> iterator() {
-        return internalList.iterator();
+        return workingList.iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueStudentList // instanceof handles nulls
-                        && internalList.equals(((UniqueStudentList) other).internalList));
+                        && workingList.equals(((UniqueStudentList) other).workingList));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return workingList.hashCode();
+    }
+
+    /**
+     * Returns the position of the student equal to {@code student} in the list, or -1 if there is none.
+     */
+    public int indexOf(Student student) {
+        Integer index = positions.get(student.getStudentId());
+        if (index == null) {
+            return -1;
+        }
+        if (arePositionsStale) {
+            reindex();
+            index = positions.get(student.getStudentId());
+        }
+        return workingList.get(index).equals(student) ? index : -1;
+    }
+
+    /**
+     * Rebuilds the position index from the backing list.
+     */
+    private void reindex() {
+        positions.clear();
+        for (int i = 0; i < workingList.size(); i++) {
+            positions.put(workingList.get(i).getStudentId(), i);
+        }
+        arePositionsStale = false;
     }
 
     /**
-     * Returns true if {@code students} contains only unique students.
+     * Returns the first student in {@code students} with the same identity as an earlier student,
+     * or an empty {@code Optional} if {@code students} contains only unique students.
      */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSameStudent(students.get(j))) {
-                    return false;
-                }
+    private Optional<Student> findFirstDuplicate(List<Student> students) {
+        Set<StudentId> seenIds = new HashSet<>();
+        for (Student student : students) {
+            if (!seenIds.add(student.getStudentId())) {
+                return Optional.of(student);
             }
         }
-        return true;
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the list to make changes to. In a batch, changes are kept apart from the backing list until the
+     * batch ends.
+     */
+    private List<Student> modifiableList() {
+        if (isBatching && workingList == internalList) {
+            workingList = new PatchedList<>(internalList);
+        }
+        return workingList;
+    }
+
+    /**
+     * Replaces the contents of the list with {@code students}.
+     */
+    private void replaceAll(List<Student> students) {
+        if (isBatching) {
+            workingList = new ArrayList<>(students);
+        } else {
+            internalList.setAll(students);
+        }
     }
 }
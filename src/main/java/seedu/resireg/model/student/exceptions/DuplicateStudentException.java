@@ -1,5 +1,7 @@
 package seedu.resireg.model.student.exceptions;
 
+import seedu.resireg.model.student.Student;
+
 /**
  * Signals that the operation will result in duplicate Students (Students are considered duplicates if they have the
  * same identity).
@@ -8,4 +10,11 @@ public class DuplicateStudentException extends RuntimeException {
     public DuplicateStudentException() {
         super("Operation would result in duplicate students");
     }
+
+    /**
+     * Creates an exception reporting {@code duplicate} as the first duplicate found.
+     */
+    public DuplicateStudentException(Student duplicate) {
+        super("Operation would result in duplicate students: " + duplicate);
+    }
 }
@@ -4,8 +4,11 @@ import static java.util.Objects.requireNonNull;
 import static seedu.resireg.commons.util.AppUtil.checkArgument;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 
+import seedu.resireg.commons.util.InternPool;
+
 /**
  * Represents a Student's faculty in ResiReg.
  * Guarantees: immutable; is valid as declared in {@link #isValidFaculty(String)}
@@ -18,7 +21,11 @@ public class Faculty {
             + "The following is a list of all faculty codes used in ResiReg: "
             + FacultyEnum.toListString();
 
+    private static final InternPool<Faculty> POOL = new InternPool<>(Faculty::new);
+
     public final String value;
+    private final FacultyEnum facultyEnum;
+    private final long mask;
 
     /**
      * Constructs a {@code Faculty}.
@@ -29,6 +36,20 @@ public class Faculty {
         requireNonNull(facultyAbbr);
         checkArgument(isValidFaculty(facultyAbbr), MESSAGE_CONSTRAINTS);
         value = facultyAbbr;
+        facultyEnum = Arrays.stream(FacultyEnum.values())
+                .filter(faculty -> faculty.matchesFacultyAbbreviation(facultyAbbr))
+                .findFirst().get();
+        assert facultyEnum.ordinal() < Long.SIZE : "Faculty masks only have room for 64 faculties";
+        mask = 1L << facultyEnum.ordinal();
+    }
+
+    /**
+     * Returns a {@code Faculty} for {@code facultyAbbr}, reusing the instance from an earlier call with the same value.
+     *
+     * @param facultyAbbr A valid faculty abbreviation.
+     */
+    public static Faculty of(String facultyAbbr) {
+        return POOL.get(facultyAbbr);
     }
 
     /**
@@ -39,6 +60,29 @@ public class Faculty {
         return faculties.stream().anyMatch(faculty -> faculty.matchesFacultyAbbreviation(test));
     }
 
+    public FacultyEnum getFacultyEnum() {
+        return facultyEnum;
+    }
+
+    /**
+     * Returns a bit mask with only the bit for the ordinal of this faculty's {@code FacultyEnum} set.
+     */
+    public long getMask() {
+        return mask;
+    }
+
+    /**
+     * Returns the union of the masks of {@code faculties}.
+     * A faculty is one of the {@code faculties} if and only if its mask shares a bit with the union.
+     */
+    public static long toMask(Collection<Faculty> faculties) {
+        long mask = 0;
+        for (Faculty faculty : faculties) {
+            mask |= faculty.mask;
+        }
+        return mask;
+    }
+
     @Override
     public String toString() {
         return value;
@@ -32,47 +32,47 @@ public class SampleDataUtil {
     public static Student[] getSampleStudents() {
         return new Student[]{
             new Student(new Name("Alex Yeoh"), new Phone("01234567"), new Email("alexyeoh@example.com"),
-                new Faculty("FASS"), new StudentId("E0111111"),
+                Faculty.of("FASS"), new StudentId("E0111111"),
                 getTagSet("friends")),
             new Student(new Name("Bernice Yu"), new Phone("12345678"), new Email("berniceyu@example.com"),
-                new Faculty("SOC"), new StudentId("E0222222"),
+                Faculty.of("SOC"), new StudentId("E0222222"),
                 getTagSet("colleagues", "friends")),
             new Student(new Name("Charlotte Oliveiro"), new Phone("23456789"), new Email("charlotte@example.com"),
-                new Faculty("DEN"), new StudentId("E0333333"),
+                Faculty.of("DEN"), new StudentId("E0333333"),
                 getTagSet("neighbours")),
             new Student(new Name("David Li"), new Phone("34567890"), new Email("lidavid@example.com"),
-                new Faculty("FOS"), new StudentId("E0444444"),
+                Faculty.of("FOS"), new StudentId("E0444444"),
                 getTagSet("family")),
             new Student(new Name("Irfan Ibrahim"), new Phone("45678901"), new Email("irfan@example.com"),
-                new Faculty("BIZ"), new StudentId("E0555555"),
+                Faculty.of("BIZ"), new StudentId("E0555555"),
                 getTagSet("classmates")),
             new Student(new Name("Roy Balakrishnan"), new Phone("56789012"), new Email("royb@example.com"),
-                new Faculty("FASS"), new StudentId("E0666666"),
+                Faculty.of("FASS"), new StudentId("E0666666"),
                 getTagSet("colleagues")),
             new Student(new Name("Charlotte Tan"), new Phone("66642069"), new Email("charlottetan@example.com"),
-                new Faculty("LAW"), new StudentId("E0777777"),
+                Faculty.of("LAW"), new StudentId("E0777777"),
                 getTagSet("friends"))
         };
     }
 
     public static Room[] getSampleRooms() {
         return new Room[]{
-            new Room(new Floor("11"), new RoomNumber("108"), new RoomType("CA"),
+            new Room(Floor.of("11"), RoomNumber.of("108"), RoomType.of("CA"),
                 getTagSet("normal")),
-            new Room(new Floor("11"), new RoomNumber("104"), new RoomType("CN"),
+            new Room(Floor.of("11"), RoomNumber.of("104"), RoomType.of("CN"),
                 getTagSet("normal")),
-            new Room(new Floor("9"), new RoomNumber("102"), new RoomType("NN"),
+            new Room(Floor.of("9"), RoomNumber.of("102"), RoomType.of("NN"),
                 getTagSet("normal")),
-            new Room(new Floor("8"), new RoomNumber("107"), new RoomType("NA"),
+            new Room(Floor.of("8"), RoomNumber.of("107"), RoomType.of("NA"),
                 getTagSet("room")),
-            new Room(new Floor("7"), new RoomNumber("106"), new RoomType("CN"),
+            new Room(Floor.of("7"), RoomNumber.of("106"), RoomType.of("CN"),
                 getTagSet("hello"))
         };
     }
 
     public static Allocation[] getSampleAllocations() {
         return new Allocation[]{
-            // new Allocation(new Floor("11"), new RoomNumber("108"), new StudentId("E0111111"))
+            // new Allocation(Floor.of("11"), RoomNumber.of("108"), new StudentId("E0111111"))
         };
     }
 
@@ -96,7 +96,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-            .map(Tag::new)
+            .map(Tag::of)
             .collect(Collectors.toSet());
     }
 }
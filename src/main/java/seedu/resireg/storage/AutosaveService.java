@@ -0,0 +1,149 @@
+package seedu.resireg.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.resireg.commons.core.LogsCenter;
+import seedu.resireg.commons.util.StringUtil;
+import seedu.resireg.model.ReadOnlyResiReg;
+import seedu.resireg.model.ReadOnlyUserPrefs;
+import seedu.resireg.model.ResiRegSnapshot;
+import seedu.resireg.model.UserPrefs;
+
+/**
+ * Saves ResiReg and the user prefs on a single background thread, so that a command does not wait for the data
+ * file to be written.
+ *
+ * Each save takes a snapshot of the data, which is then only read by the writer thread. As the entities are
+ * immutable and shared with the snapshot, taking it only copies the lists of references to them. Saves which are
+ * requested while an earlier one is being written are coalesced, so only the latest snapshot is written once the
+ * writer is free, and a burst of commands costs at most two writes.
+ */
+public class AutosaveService {
+
+    /** The longest time {@link #flush()} and {@link #stop()} wait for the pending save to be written. */
+    public static final long FLUSH_TIMEOUT_SECONDS = 30;
+
+    private static final Logger logger = LogsCenter.getLogger(AutosaveService.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "autosave");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Consumer<IOException> failureListener = ioe -> { };
+    private Snapshot pendingSnapshot; // guarded by this
+
+    /**
+     * Creates an {@code AutosaveService} which saves to {@code storage}.
+     */
+    public AutosaveService(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the listener which is told when a save fails. It is called on the writer thread.
+     */
+    public void setFailureListener(Consumer<IOException> failureListener) {
+        requireNonNull(failureListener);
+        this.failureListener = failureListener;
+    }
+
+    /**
+     * Takes a snapshot of {@code resiReg} and a copy of {@code userPrefs}, and saves them in the background.
+     * This must be called on the thread which changes them, as they are copied straight away.
+     * Once the service is stopped, the data is saved on the calling thread instead.
+     */
+    public void save(ReadOnlyResiReg resiReg, ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(resiReg);
+        requireNonNull(userPrefs);
+        Snapshot snapshot = new Snapshot(new ResiRegSnapshot(resiReg), new UserPrefs(userPrefs));
+
+        synchronized (this) {
+            if (!writer.isShutdown()) {
+                boolean isWriteScheduled = pendingSnapshot != null;
+                pendingSnapshot = snapshot;
+                if (!isWriteScheduled) {
+                    writer.execute(this::writePendingSnapshot);
+                }
+                return;
+            }
+        }
+        write(snapshot);
+    }
+
+    /**
+     * Waits until the saves requested so far have been written, or have failed.
+     */
+    public void flush() {
+        if (writer.isShutdown()) {
+            return; // saves are written on the calling thread
+        }
+        try {
+            writer.submit(() -> { }).get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.severe("Pending save was not written: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes the pending save, and stops the writer thread.
+     */
+    public void stop() {
+        synchronized (this) {
+            writer.shutdown(); // the save already scheduled is still written
+        }
+        try {
+            if (!writer.awaitTermination(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.severe("Pending save was not written in time.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writePendingSnapshot() {
+        Snapshot snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+        }
+        write(snapshot);
+    }
+
+    private void write(Snapshot snapshot) {
+        try {
+            storage.saveResiReg(snapshot.resiReg);
+            storage.saveUserPrefs(snapshot.userPrefs);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data: " + StringUtil.getDetails(ioe));
+            failureListener.accept(ioe);
+        }
+    }
+
+    /**
+     * Copies of the data to be saved, which nothing else holds.
+     */
+    private static class Snapshot {
+        private final ReadOnlyResiReg resiReg;
+        private final ReadOnlyUserPrefs userPrefs;
+
+        Snapshot(ReadOnlyResiReg resiReg, ReadOnlyUserPrefs userPrefs) {
+            this.resiReg = resiReg;
+            this.userPrefs = userPrefs;
+        }
+    }
+}
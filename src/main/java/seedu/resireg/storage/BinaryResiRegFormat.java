@@ -0,0 +1,435 @@
+package seedu.resireg.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.resireg.commons.exceptions.IllegalValueException;
+import seedu.resireg.model.ReadOnlyResiReg;
+import seedu.resireg.model.ResiReg;
+import seedu.resireg.model.allocation.Allocation;
+import seedu.resireg.model.bin.BinItem;
+import seedu.resireg.model.bin.Binnable;
+import seedu.resireg.model.room.Floor;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.room.RoomNumber;
+import seedu.resireg.model.room.roomtype.RoomType;
+import seedu.resireg.model.student.Email;
+import seedu.resireg.model.student.Name;
+import seedu.resireg.model.student.Phone;
+import seedu.resireg.model.student.Student;
+import seedu.resireg.model.student.StudentId;
+import seedu.resireg.model.student.faculty.Faculty;
+import seedu.resireg.model.tag.Tag;
+
+/**
+ * Writes and reads ResiReg in a compact binary format, which loads much faster than json.
+ *
+ * The file starts with {@link #MAGIC} and {@link #VERSION}, followed by the semester and a dictionary of each of
+ * the tags, faculties, room types, floors and room numbers used. Entities refer to these values by their index in
+ * the dictionary, so each distinct value is stored, and validated, only once. Student IDs are stored as their
+ * packed values. Each list is then stored as its size followed by one record per entity, each prefixed with its
+ * length, and the file ends with the CRC-32 of everything before it. Sizes, lengths and indices are stored as
+ * variable-length integers, so small values take a single byte.
+ */
+class BinaryResiRegFormat {
+
+    public static final String MESSAGE_NOT_RESIREG = "The file is not a ResiReg binary file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION =
+            "The file is in version %d of the format, which this version of ResiReg cannot read.";
+    public static final String MESSAGE_RECORD_LENGTH_MISMATCH = "A record in the file does not match its length.";
+    public static final String MESSAGE_MISSING_DICTIONARY_ENTRY = "A value in the file is not in its dictionary.";
+
+    /** The first bytes of every file, which spell "RREG". */
+    static final int MAGIC = 0x52524547;
+    /** The version of the format written. Files with a different version cannot be read. */
+    static final int VERSION = 1;
+
+    private static final int STUDENT_ITEM = 0;
+    private static final int ROOM_ITEM = 1;
+
+    /**
+     * Writes an entity as the content of a record.
+     */
+    @FunctionalInterface
+    private interface RecordWriter<T> {
+        void write(DataOutput record, T entity) throws IOException;
+    }
+
+    /**
+     * Reads an entity from the content of a record, and adds it to ResiReg.
+     */
+    @FunctionalInterface
+    private interface RecordReader {
+        void read(DataInput record, ResiReg resiReg) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * The values of one kind which entities refer to by index, in the order they were first used.
+     */
+    private static class Dictionary<T> {
+        private final Map<T, Integer> indices = new HashMap<>();
+        private final List<T> values = new ArrayList<>();
+
+        /**
+         * Returns the index of {@code value}, adding it to the dictionary if it is not already in it.
+         */
+        int indexOf(T value) {
+            return indices.computeIfAbsent(value, unused -> {
+                values.add(value);
+                return values.size() - 1;
+            });
+        }
+
+        void add(T value) {
+            values.add(value);
+        }
+
+        T get(int index) throws IllegalValueException {
+            if (index >= values.size()) {
+                throw new IllegalValueException(MESSAGE_MISSING_DICTIONARY_ENTRY);
+            }
+            return values.get(index);
+        }
+
+        /**
+         * Writes the size of the dictionary, followed by the string form of each value.
+         */
+        void writeTo(DataOutput output, Function<T, String> toString) throws IOException {
+            writeVarInt(output, values.size());
+            for (T value : values) {
+                output.writeUTF(toString.apply(value));
+            }
+        }
+
+        /**
+         * Reads a dictionary written by {@link #writeTo}, creating each value from its string form.
+         */
+        static <T> Dictionary<T> readFrom(DataInput input, Function<String, T> fromString)
+                throws IOException, IllegalValueException {
+            Dictionary<T> dictionary = new Dictionary<>();
+            int size = readVarInt(input);
+            for (int i = 0; i < size; i++) {
+                dictionary.add(toModelValue(fromString, input.readUTF()));
+            }
+            return dictionary;
+        }
+    }
+
+    /**
+     * The dictionaries of a file.
+     */
+    private static class Dictionaries {
+        private Dictionary<Tag> tags = new Dictionary<>();
+        private Dictionary<Faculty> faculties = new Dictionary<>();
+        private Dictionary<RoomType> roomTypes = new Dictionary<>();
+        private Dictionary<Floor> floors = new Dictionary<>();
+        private Dictionary<RoomNumber> roomNumbers = new Dictionary<>();
+
+        /**
+         * Returns dictionaries of all of the values used by {@code resiReg}.
+         */
+        static Dictionaries of(ReadOnlyResiReg resiReg) {
+            Dictionaries dictionaries = new Dictionaries();
+            resiReg.getStudentList().forEach(dictionaries::addValuesOf);
+            resiReg.getRoomList().forEach(dictionaries::addValuesOf);
+            for (Allocation allocation : resiReg.getAllocationList()) {
+                dictionaries.floors.indexOf(allocation.getFloor());
+                dictionaries.roomNumbers.indexOf(allocation.getRoomNumber());
+            }
+            for (BinItem binItem : resiReg.getBinItemList()) {
+                Binnable item = binItem.getBinnedItem();
+                if (item instanceof Student) {
+                    dictionaries.addValuesOf((Student) item);
+                } else {
+                    dictionaries.addValuesOf((Room) item);
+                }
+            }
+            return dictionaries;
+        }
+
+        private void addValuesOf(Student student) {
+            faculties.indexOf(student.getFaculty());
+            student.getTags().forEach(tags::indexOf);
+        }
+
+        private void addValuesOf(Room room) {
+            floors.indexOf(room.getFloor());
+            roomNumbers.indexOf(room.getRoomNumber());
+            roomTypes.indexOf(room.getRoomType());
+            room.getTags().forEach(tags::indexOf);
+        }
+
+        void writeTo(DataOutput output) throws IOException {
+            tags.writeTo(output, tag -> tag.tagName);
+            faculties.writeTo(output, faculty -> faculty.value);
+            roomTypes.writeTo(output, roomType -> roomType.name);
+            floors.writeTo(output, floor -> floor.value);
+            roomNumbers.writeTo(output, roomNumber -> roomNumber.value);
+        }
+
+        static Dictionaries readFrom(DataInput input) throws IOException, IllegalValueException {
+            Dictionaries dictionaries = new Dictionaries();
+            dictionaries.tags = Dictionary.readFrom(input, Tag::of);
+            dictionaries.faculties = Dictionary.readFrom(input, Faculty::of);
+            dictionaries.roomTypes = Dictionary.readFrom(input, RoomType::of);
+            dictionaries.floors = Dictionary.readFrom(input, Floor::of);
+            dictionaries.roomNumbers = Dictionary.readFrom(input, RoomNumber::of);
+            return dictionaries;
+        }
+    }
+
+    /**
+     * Writes {@code resiReg} to {@code outputStream}, and closes the stream.
+     */
+    static void write(ReadOnlyResiReg resiReg, OutputStream outputStream) throws IOException {
+        CheckedOutputStream checkedOutputStream =
+                new CheckedOutputStream(new BufferedOutputStream(outputStream), new CRC32());
+        try (DataOutputStream output = new DataOutputStream(checkedOutputStream)) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(resiReg.getSemester().getAcademicYear());
+            output.writeByte(resiReg.getSemester().getSemesterNumber());
+
+            Dictionaries dictionaries = Dictionaries.of(resiReg);
+            dictionaries.writeTo(output);
+
+            writeRecords(output, resiReg.getStudentList(), (record, student) ->
+                    writeStudent(record, student, dictionaries));
+            writeRecords(output, resiReg.getRoomList(), (record, room) -> writeRoom(record, room, dictionaries));
+            writeRecords(output, resiReg.getAllocationList(), (record, allocation) -> {
+                writeVarInt(record, dictionaries.floors.indexOf(allocation.getFloor()));
+                writeVarInt(record, dictionaries.roomNumbers.indexOf(allocation.getRoomNumber()));
+                writeVarInt(record, (int) allocation.getStudentId().getPackedValue());
+            });
+            writeRecords(output, resiReg.getBinItemList(), (record, binItem) -> {
+                record.writeInt(Math.toIntExact(binItem.getDateDeleted().toEpochDay()));
+                Binnable item = binItem.getBinnedItem();
+                if (item instanceof Student) {
+                    record.writeByte(STUDENT_ITEM);
+                    writeStudent(record, (Student) item, dictionaries);
+                } else {
+                    record.writeByte(ROOM_ITEM);
+                    writeRoom(record, (Room) item, dictionaries);
+                }
+            });
+
+            output.flush();
+            output.writeInt((int) checkedOutputStream.getChecksum().getValue());
+        }
+    }
+
+    private static <T> void writeRecords(DataOutput output, List<T> entities, RecordWriter<T> recordWriter)
+            throws IOException {
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        writeVarInt(output, entities.size());
+        for (T entity : entities) {
+            recordBytes.reset();
+            recordWriter.write(record, entity);
+            writeVarInt(output, recordBytes.size());
+            output.write(recordBytes.toByteArray());
+        }
+    }
+
+    private static void writeStudent(DataOutput record, Student student, Dictionaries dictionaries)
+            throws IOException {
+        writeVarInt(record, (int) student.getStudentId().getPackedValue());
+        record.writeUTF(student.getNameAsString());
+        record.writeUTF(student.getPhone().value);
+        record.writeUTF(student.getEmail().value);
+        writeVarInt(record, dictionaries.faculties.indexOf(student.getFaculty()));
+        writeTags(record, student.getTags(), dictionaries);
+    }
+
+    private static void writeRoom(DataOutput record, Room room, Dictionaries dictionaries) throws IOException {
+        writeVarInt(record, dictionaries.floors.indexOf(room.getFloor()));
+        writeVarInt(record, dictionaries.roomNumbers.indexOf(room.getRoomNumber()));
+        writeVarInt(record, dictionaries.roomTypes.indexOf(room.getRoomType()));
+        writeTags(record, room.getTags(), dictionaries);
+    }
+
+    private static void writeTags(DataOutput record, Set<Tag> tags, Dictionaries dictionaries) throws IOException {
+        writeVarInt(record, tags.size());
+        for (Tag tag : tags) {
+            writeVarInt(record, dictionaries.tags.indexOf(tag));
+        }
+    }
+
+    /**
+     * Reads a ResiReg from {@code inputStream}, and closes the stream.
+     *
+     * @throws IOException if the stream could not be read or ends too early.
+     * @throws IllegalValueException if the stream does not hold a valid ResiReg in a version of the format which
+     *     can be read, or does not match its checksum.
+     */
+    static ResiReg read(InputStream inputStream) throws IOException, IllegalValueException {
+        CheckedInputStream checkedInputStream =
+                new CheckedInputStream(new BufferedInputStream(inputStream), new CRC32());
+        try (DataInputStream input = new DataInputStream(checkedInputStream)) {
+            if (input.readInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_NOT_RESIREG);
+            }
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            ResiReg resiReg = new ResiReg();
+            int academicYear = input.readInt();
+            int semesterNumber = input.readByte();
+            resiReg.setSemester(new JsonAdaptedSemester(academicYear, semesterNumber).toModelType());
+
+            Dictionaries dictionaries = Dictionaries.readFrom(input);
+            readRecords(input, resiReg, (record, reg) ->
+                    JsonSerializableResiReg.addStudent(reg, readStudent(record, dictionaries)));
+            readRecords(input, resiReg, (record, reg) ->
+                    JsonSerializableResiReg.addRoom(reg, readRoom(record, dictionaries)));
+            readRecords(input, resiReg, (record, reg) -> {
+                Floor floor = dictionaries.floors.get(readVarInt(record));
+                RoomNumber roomNumber = dictionaries.roomNumbers.get(readVarInt(record));
+                StudentId studentId = readStudentId(record);
+                JsonSerializableResiReg.addAllocation(reg, new Allocation(floor, roomNumber, studentId));
+            });
+            readRecords(input, resiReg, (record, reg) -> {
+                LocalDate dateDeleted = LocalDate.ofEpochDay(record.readInt());
+                int itemKind = record.readByte();
+                Binnable item;
+                if (itemKind == STUDENT_ITEM) {
+                    item = readStudent(record, dictionaries);
+                } else if (itemKind == ROOM_ITEM) {
+                    item = readRoom(record, dictionaries);
+                } else {
+                    throw new IllegalValueException(MESSAGE_NOT_RESIREG);
+                }
+                JsonSerializableResiReg.addBinItem(reg, new BinItem(item, dateDeleted));
+            });
+
+            long checksum = checkedInputStream.getChecksum().getValue();
+            if ((input.readInt() & 0xFFFFFFFFL) != checksum) {
+                throw new IllegalValueException(JsonResiRegStorage.MESSAGE_CHECKSUM_MISMATCH);
+            }
+            return resiReg;
+        }
+    }
+
+    /**
+     * Reads a list of records, checking that each record is exactly as long as its length says.
+     */
+    private static void readRecords(DataInput input, ResiReg resiReg, RecordReader recordReader)
+            throws IOException, IllegalValueException {
+        int size = readVarInt(input);
+        byte[] recordBytes = new byte[0];
+        for (int i = 0; i < size; i++) {
+            int length = readVarInt(input);
+            if (recordBytes.length < length) {
+                recordBytes = new byte[Math.max(length, recordBytes.length * 2)];
+            }
+            input.readFully(recordBytes, 0, length);
+            ByteArrayInputStream recordStream = new ByteArrayInputStream(recordBytes, 0, length);
+            try {
+                recordReader.read(new DataInputStream(recordStream), resiReg);
+            } catch (IllegalArgumentException e) {
+                // thrown by the model when a value which is not in a dictionary is invalid
+                throw new IllegalValueException(e.getMessage());
+            } catch (IOException e) {
+                throw new IllegalValueException(MESSAGE_RECORD_LENGTH_MISMATCH);
+            }
+            if (recordStream.available() != 0) {
+                throw new IllegalValueException(MESSAGE_RECORD_LENGTH_MISMATCH);
+            }
+        }
+    }
+
+    private static Student readStudent(DataInput record, Dictionaries dictionaries)
+            throws IOException, IllegalValueException {
+        StudentId studentId = readStudentId(record);
+        Name name = new Name(record.readUTF());
+        Phone phone = new Phone(record.readUTF());
+        Email email = new Email(record.readUTF());
+        Faculty faculty = dictionaries.faculties.get(readVarInt(record));
+        return new Student(name, phone, email, faculty, studentId, readTags(record, dictionaries));
+    }
+
+    private static Room readRoom(DataInput record, Dictionaries dictionaries)
+            throws IOException, IllegalValueException {
+        Floor floor = dictionaries.floors.get(readVarInt(record));
+        RoomNumber roomNumber = dictionaries.roomNumbers.get(readVarInt(record));
+        RoomType roomType = dictionaries.roomTypes.get(readVarInt(record));
+        return new Room(floor, roomNumber, roomType, readTags(record, dictionaries));
+    }
+
+    private static StudentId readStudentId(DataInput record) throws IOException {
+        return StudentId.fromPackedValue(readVarInt(record));
+    }
+
+    private static Set<Tag> readTags(DataInput record, Dictionaries dictionaries)
+            throws IOException, IllegalValueException {
+        int size = readVarInt(record);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            tags.add(dictionaries.tags.get(readVarInt(record)));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the model value created from {@code string}, turning the exception thrown by the model for an
+     * invalid value into an {@code IllegalValueException}.
+     */
+    private static <T> T toModelValue(Function<String, T> fromString, String string) throws IllegalValueException {
+        try {
+            return fromString.apply(string);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the non-negative {@code value} seven bits at a time, lowest bits first, setting the top bit of every
+     * byte but the last.
+     */
+    private static void writeVarInt(DataOutput output, int value) throws IOException {
+        assert value >= 0;
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            output.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        output.writeByte(remaining);
+    }
+
+    private static int readVarInt(DataInput input) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            int b = input.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw new IOException(MESSAGE_NOT_RESIREG);
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.resireg.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.resireg.commons.core.LogsCenter;
+import seedu.resireg.commons.exceptions.DataConversionException;
+import seedu.resireg.commons.exceptions.IllegalValueException;
+import seedu.resireg.commons.util.FileUtil;
+import seedu.resireg.model.ReadOnlyResiReg;
+import seedu.resireg.model.ResiReg;
+import seedu.resireg.model.semester.Semester;
+
+/**
+ * A class to access ResiReg data stored in the binary format of {@link BinaryResiRegFormat} on the hard disk.
+ *
+ * As with {@link JsonResiRegStorage}, files are replaced atomically, the file before the last save is kept as a
+ * backup, and the backup is read if the file is damaged. Every save rewrites the whole file, which is cheap as the
+ * format is compact.
+ */
+public class BinaryResiRegStorage implements ResiRegStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryResiRegStorage.class);
+    private static final String ARCHIVE_FILENAME = "archive" + FILE_EXTENSION;
+
+    private final Path filePath;
+    // whether filePath was damaged when it was read, in which case the backup must not be replaced by it
+    private volatile boolean isFileDamaged;
+
+    public BinaryResiRegStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary file to use in place of the file at {@code filePath}, which is
+     * {@code filePath} with its extension replaced by {@link #FILE_EXTENSION}.
+     */
+    public static Path toBinaryFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return filePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    public Path getResiRegFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyResiReg> readResiReg() throws DataConversionException {
+        return readResiReg(filePath);
+    }
+
+    /**
+     * Similar to {@link #readResiReg()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file and its backup are not in the correct format.
+     */
+    public Optional<ReadOnlyResiReg> readResiReg(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(readFile(filePath));
+        } catch (DataConversionException e) {
+            Path backupPath = FileUtil.getBackupPath(filePath);
+            if (!Files.exists(backupPath)) {
+                throw e;
+            }
+            logger.warning("Reading the backup " + backupPath + " instead of " + filePath);
+            ResiReg resiReg = readFile(backupPath);
+            if (filePath.equals(this.filePath)) {
+                isFileDamaged = true;
+            }
+            return Optional.of(resiReg);
+        }
+    }
+
+    private ResiReg readFile(Path filePath) throws DataConversionException {
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            return BinaryResiRegFormat.read(inputStream);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveResiReg(ReadOnlyResiReg resiReg) throws IOException {
+        saveResiReg(resiReg, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveResiReg(ReadOnlyResiReg)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveResiReg(ReadOnlyResiReg resiReg, Path filePath) throws IOException {
+        requireNonNull(resiReg);
+        requireNonNull(filePath);
+        boolean isMainFile = filePath.equals(this.filePath);
+        FileUtil.writeAtomically(filePath, outputStream -> BinaryResiRegFormat.write(resiReg, outputStream),
+                !isMainFile || !isFileDamaged);
+        if (isMainFile) {
+            isFileDamaged = false;
+        }
+    }
+
+    @Override
+    public void archiveResiReg(ReadOnlyResiReg resiReg) throws IOException {
+        requireNonNull(resiReg);
+        saveResiReg(resiReg, getArchivePath(resiReg.getSemesterString()));
+    }
+
+    @Override
+    public Optional<ReadOnlyResiReg> readArchivedResiReg(Semester semester) throws DataConversionException {
+        requireNonNull(semester);
+        return readResiReg(getArchivePath(semester.getShortRepresentation()));
+    }
+
+    private Path getArchivePath(String semesterString) {
+        return filePath.toAbsolutePath().resolveSibling(Paths.get(semesterString, ARCHIVE_FILENAME));
+    }
+
+}
@@ -0,0 +1,38 @@
+package seedu.resireg.storage;
+
+import static seedu.resireg.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import seedu.resireg.commons.util.CsvUtil;
+
+/**
+ * A {@code TableWriter} which writes comma-separated values, with a header line naming the columns.
+ */
+public class CsvTableWriter implements TableWriter {
+
+    private final BufferedWriter writer;
+
+    /**
+     * Creates a {@code CsvTableWriter} which writes to {@code writer} a table with {@code columns}.
+     */
+    public CsvTableWriter(Writer writer, List<String> columns) throws IOException {
+        requireAllNonNull(writer, columns);
+        this.writer = new BufferedWriter(writer);
+        writeRow(columns);
+    }
+
+    @Override
+    public void writeRow(List<String> values) throws IOException {
+        writer.write(CsvUtil.joinLine(values));
+        writer.newLine();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.resireg.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The file formats which tables can be exported to, each identified by its file extension.
+ */
+public enum ExportFormat {
+    CSV(".csv") {
+        @Override
+        public TableWriter createWriter(Writer writer, List<String> columns) throws IOException {
+            return new CsvTableWriter(writer, columns);
+        }
+    },
+    JSON(".json") {
+        @Override
+        public TableWriter createWriter(Writer writer, List<String> columns) throws IOException {
+            return new JsonTableWriter(writer, columns);
+        }
+    };
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    /**
+     * Returns a {@code TableWriter} which writes to {@code writer} a table with {@code columns} in this format.
+     */
+    public abstract TableWriter createWriter(Writer writer, List<String> columns) throws IOException;
+
+    /**
+     * Returns the format whose extension {@code file} has, ignoring case, if there is one.
+     */
+    public static Optional<ExportFormat> of(Path file) {
+        requireNonNull(file);
+        Path fileName = file.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+        String name = fileName.toString().toLowerCase(Locale.ROOT);
+        return Arrays.stream(values()).filter(format -> name.endsWith(format.extension)).findFirst();
+    }
+}
@@ -53,7 +53,7 @@ class JsonAdaptedAllocation {
         if (!Floor.isValidFloor(floor)) {
             throw new IllegalValueException(Floor.MESSAGE_CONSTRAINTS);
         }
-        final Floor modelFloor = new Floor(floor);
+        final Floor modelFloor = Floor.of(floor);
 
         if (roomNumber == null) {
             throw new IllegalValueException(
@@ -62,7 +62,7 @@ class JsonAdaptedAllocation {
         if (!RoomNumber.isValidRoomNumber(roomNumber)) {
             throw new IllegalValueException(RoomNumber.MESSAGE_CONSTRAINTS);
         }
-        final RoomNumber modelRoomNumber = new RoomNumber(roomNumber);
+        final RoomNumber modelRoomNumber = RoomNumber.of(roomNumber);
 
         if (studentId == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
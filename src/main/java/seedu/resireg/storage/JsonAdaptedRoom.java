@@ -72,7 +72,7 @@ class JsonAdaptedRoom {
         if (!Floor.isValidFloor(floor)) {
             throw new IllegalValueException(Floor.MESSAGE_CONSTRAINTS);
         }
-        final Floor modelFloor = new Floor(floor);
+        final Floor modelFloor = Floor.of(floor);
 
         if (roomNumber == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -81,7 +81,7 @@ class JsonAdaptedRoom {
         if (!RoomNumber.isValidRoomNumber(roomNumber)) {
             throw new IllegalValueException(RoomNumber.MESSAGE_CONSTRAINTS);
         }
-        final RoomNumber modelNumber = new RoomNumber(roomNumber);
+        final RoomNumber modelNumber = RoomNumber.of(roomNumber);
 
         if (roomType == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -90,7 +90,7 @@ class JsonAdaptedRoom {
         if (!RoomType.isValidRoomType(roomType)) {
             throw new IllegalValueException(RoomType.MESSAGE_CONSTRAINTS);
         }
-        final RoomType modelRoomType = new RoomType(roomType);
+        final RoomType modelRoomType = RoomType.of(roomType);
 
         final Set<Tag> modelTags = new HashSet<>(roomTags);
 
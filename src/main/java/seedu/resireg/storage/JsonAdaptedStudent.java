@@ -107,7 +107,7 @@ class JsonAdaptedStudent {
         if (!Faculty.isValidFaculty(faculty)) {
             throw new IllegalValueException(Faculty.MESSAGE_CONSTRAINTS);
         }
-        final Faculty modelFaculty = new Faculty(faculty);
+        final Faculty modelFaculty = Faculty.of(faculty);
 
         if (studentId == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -0,0 +1,424 @@
+package seedu.resireg.storage;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.resireg.commons.core.LogsCenter;
+import seedu.resireg.commons.exceptions.IllegalValueException;
+import seedu.resireg.commons.util.FileUtil;
+import seedu.resireg.commons.util.JsonUtil;
+import seedu.resireg.model.ResiReg;
+import seedu.resireg.model.ResiRegDelta;
+import seedu.resireg.model.ResiRegDelta.EntityList;
+import seedu.resireg.model.ResiRegDelta.ListChange;
+import seedu.resireg.model.allocation.Allocation;
+import seedu.resireg.model.bin.BinItem;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.semester.Semester;
+import seedu.resireg.model.student.Student;
+
+/**
+ * A journal of the changes made to ResiReg since its json file was last written, kept in a file next to it.
+ *
+ * The first line of the journal holds the id of the json file it belongs to, and each line after it holds the
+ * {@code ResiRegDelta} of one save. Saving only appends a line, so it costs as much as the entities changed
+ * rather than the whole of ResiReg. A json file gets a new id whenever it is written, so a journal left behind
+ * when the file was being rewritten is never replayed over the new file.
+ *
+ * Records are appended through a channel which is kept open between saves, and each record is forced to the disk
+ * before the save returns, so a save which returned is not lost if the system fails right after it.
+ */
+class JsonResiRegJournal {
+
+    public static final String MESSAGE_NOT_JOURNAL_RECORD = "The line is not a record of the journal";
+
+    static final String JOURNAL_SUFFIX = ".journal";
+
+    private static final String FIELD_CHANGES = "changes";
+    private static final String FIELD_LIST = "list";
+    private static final String FIELD_FROM = "from";
+    private static final String FIELD_REMOVED = "removed";
+    private static final String FIELD_ADDED = "added";
+    private static final int RECORD_SEPARATOR = '\n';
+
+    private static final Logger logger = LogsCenter.getLogger(JsonResiRegJournal.class);
+
+    private final Path path;
+    private FileChannel channel; // opened on the first append after the journal is started
+
+    /**
+     * Creates the journal of the ResiReg json file at {@code resiRegFilePath}.
+     */
+    JsonResiRegJournal(Path resiRegFilePath) {
+        path = resiRegFilePath.resolveSibling(resiRegFilePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Replaces the journal with an empty journal for the json file with the id {@code journalId}.
+     */
+    void start(long journalId) throws IOException {
+        // the journal file is replaced, so appends must go through a channel to the new file
+        closeChannel();
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createCompactGenerator(record)) {
+            generator.writeStartObject();
+            generator.writeNumberField(JsonResiRegStream.FIELD_JOURNAL_ID, journalId);
+            generator.writeEndObject();
+        }
+        record.write(RECORD_SEPARATOR);
+        byte[] header = record.toByteArray();
+        FileUtil.writeAtomically(path, outputStream -> outputStream.write(header), false);
+    }
+
+    /**
+     * Appends {@code delta} to the journal, which must have been started, and returns the size of the journal
+     * in bytes.
+     */
+    long append(ResiRegDelta delta) throws IOException {
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createCompactGenerator(record)) {
+            writeDelta(generator, delta);
+        }
+        // the separator is written last, so a record is only complete once all of it is written
+        record.write(RECORD_SEPARATOR);
+        try {
+            if (channel == null) {
+                channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(record.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+            return channel.size();
+        } catch (IOException ioe) {
+            closeChannel();
+            throw ioe;
+        }
+    }
+
+    /**
+     * Returns {@code resiReg}, which was read from the json file with the id {@code journalId}, with the changes
+     * in the journal applied to it. The journal is ignored if it belongs to another json file.
+     * A last record which was not completely written is removed from the journal.
+     *
+     * @throws IOException if the journal could not be read, or a complete record in it is not valid json.
+     * @throws IllegalValueException if a record holds invalid values, or changes which do not fit ResiReg.
+     */
+    ResiReg replay(ResiReg resiReg, long journalId) throws IOException, IllegalValueException {
+        if (!Files.exists(path)) {
+            return resiReg;
+        }
+
+        Map<EntityList, List<Object>> lists = ResiRegDelta.copyLists(resiReg);
+        Semester semester = resiReg.getSemester();
+        int recordCount = 0;
+        long completeLength = 0;
+        boolean isTorn = false;
+
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            boolean isHeader = true;
+            while (true) {
+                boolean isComplete = readLine(inputStream, line);
+                if (!isComplete) {
+                    isTorn = line.size() > 0;
+                    break;
+                }
+                if (isHeader) {
+                    OptionalLong headerId = readHeader(line.toByteArray());
+                    if (!headerId.isPresent() || headerId.getAsLong() != journalId) {
+                        logger.info("Journal " + path + " belongs to an earlier data file, ignoring it");
+                        return resiReg;
+                    }
+                    isHeader = false;
+                } else {
+                    ResiRegDelta delta = readRecord(line.toByteArray());
+                    delta.applyTo(lists);
+                    semester = delta.getSemester();
+                    recordCount++;
+                }
+                completeLength += line.size() + 1;
+            }
+        }
+
+        if (isTorn) {
+            logger.warning("Removing the incomplete last record of journal " + path);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(completeLength);
+            }
+        }
+        if (recordCount == 0) {
+            return resiReg;
+        }
+        logger.info("Replayed " + recordCount + " record(s) of journal " + path);
+        return toResiReg(semester, lists);
+    }
+
+    /**
+     * Deletes the journal, if there is one.
+     */
+    void delete() throws IOException {
+        closeChannel();
+        Files.deleteIfExists(path);
+    }
+
+    /**
+     * Closes the channel records are appended through, if it is open. A failure to close it is only logged, as
+     * every record appended through it has already been forced to the disk.
+     */
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ioe) {
+            logger.warning("Failed to close journal " + path + ": " + ioe);
+        }
+        channel = null;
+    }
+
+    /**
+     * Reads the bytes of {@code inputStream} up to the next record separator into {@code line}, replacing what
+     * it held. Returns true if the separator was found, or false if the stream ended first.
+     */
+    private static boolean readLine(InputStream inputStream, ByteArrayOutputStream line) throws IOException {
+        line.reset();
+        int b;
+        while ((b = inputStream.read()) != -1) {
+            if (b == RECORD_SEPARATOR) {
+                return true;
+            }
+            line.write(b);
+        }
+        return false;
+    }
+
+    private static OptionalLong readHeader(byte[] line) throws IOException {
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(line))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_JOURNAL_RECORD);
+            }
+            OptionalLong journalId = OptionalLong.empty();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                if (fieldName.equals(JsonResiRegStream.FIELD_JOURNAL_ID)
+                        && parser.getCurrentToken() == JsonToken.VALUE_NUMBER_INT) {
+                    journalId = OptionalLong.of(parser.getLongValue());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return journalId;
+        }
+    }
+
+    private static ResiRegDelta readRecord(byte[] line) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(new ByteArrayInputStream(line))) {
+            parser.nextToken();
+            ResiRegDelta delta = readDelta(parser);
+            if (delta.getSemester() == null) {
+                throw new IllegalValueException(JsonResiRegStream.MESSAGE_MISSING_SEMESTER);
+            }
+            return delta;
+        }
+    }
+
+    /**
+     * Writes {@code delta} as a json object. The semester is left out if the delta does not change it.
+     */
+    static void writeDelta(JsonGenerator generator, ResiRegDelta delta) throws IOException {
+        generator.writeStartObject();
+        if (delta.getSemester() != null) {
+            generator.writeObjectField(JsonResiRegStream.FIELD_SEMESTER, new JsonAdaptedSemester(delta.getSemester()));
+        }
+        generator.writeArrayFieldStart(FIELD_CHANGES);
+        for (ListChange change : delta.getChanges()) {
+            generator.writeStartObject();
+            generator.writeStringField(FIELD_LIST, toFieldName(change.getList()));
+            generator.writeNumberField(FIELD_FROM, change.getFrom());
+            generator.writeNumberField(FIELD_REMOVED, change.getRemovedCount());
+            generator.writeArrayFieldStart(FIELD_ADDED);
+            for (Object entity : change.getAdded()) {
+                generator.writeObject(toJsonAdapted(change.getList(), entity));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the delta written by {@link #writeDelta} which starts at the current token of {@code parser}.
+     */
+    static ResiRegDelta readDelta(JsonParser parser) throws IOException, IllegalValueException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+        Semester semester = null;
+        List<ListChange> changes = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (fieldName.equals(JsonResiRegStream.FIELD_SEMESTER)) {
+                semester = parser.readValueAs(JsonAdaptedSemester.class).toModelType();
+            } else if (fieldName.equals(FIELD_CHANGES)) {
+                expect(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    changes.add(readChange(parser));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new ResiRegDelta(semester, changes);
+    }
+
+    /**
+     * Reads the change which starts at the current token of {@code parser}.
+     * The list of the change must come before the entities added to it.
+     */
+    private static ListChange readChange(JsonParser parser) throws IOException, IllegalValueException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+        EntityList list = null;
+        int from = -1;
+        int removedCount = -1;
+        List<Object> added = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case FIELD_LIST:
+                list = fromFieldName(parser.getValueAsString());
+                break;
+            case FIELD_FROM:
+                from = parser.getValueAsInt(-1);
+                break;
+            case FIELD_REMOVED:
+                removedCount = parser.getValueAsInt(-1);
+                break;
+            case FIELD_ADDED:
+                if (list == null) {
+                    throw new JsonParseException(parser, MESSAGE_NOT_JOURNAL_RECORD);
+                }
+                expect(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+                    added.add(readEntity(parser, list));
+                }
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        if (list == null) {
+            throw new JsonParseException(parser, MESSAGE_NOT_JOURNAL_RECORD);
+        }
+        return new ListChange(list, from, removedCount, added);
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, MESSAGE_NOT_JOURNAL_RECORD);
+        }
+    }
+
+    private static String toFieldName(EntityList list) {
+        switch (list) {
+        case STUDENTS:
+            return JsonResiRegStream.FIELD_STUDENTS;
+        case ROOMS:
+            return JsonResiRegStream.FIELD_ROOMS;
+        case ALLOCATIONS:
+            return JsonResiRegStream.FIELD_ALLOCATIONS;
+        default:
+            return JsonResiRegStream.FIELD_BIN_ITEMS;
+        }
+    }
+
+    /**
+     * Returns the list whose field in the json is {@code fieldName}.
+     *
+     * @throws IllegalValueException if there is no such list.
+     */
+    private static EntityList fromFieldName(String fieldName) throws IllegalValueException {
+        for (EntityList list : EntityList.values()) {
+            if (toFieldName(list).equals(fieldName)) {
+                return list;
+            }
+        }
+        throw new IllegalValueException("ResiReg has no list named " + fieldName);
+    }
+
+    private static Object toJsonAdapted(EntityList list, Object entity) {
+        switch (list) {
+        case STUDENTS:
+            return new JsonAdaptedStudent((Student) entity);
+        case ROOMS:
+            return new JsonAdaptedRoom((Room) entity);
+        case ALLOCATIONS:
+            return new JsonAdaptedAllocation((Allocation) entity);
+        default:
+            return new JsonAdaptedBinItem((BinItem) entity);
+        }
+    }
+
+    private static Object readEntity(JsonParser parser, EntityList list) throws IOException, IllegalValueException {
+        switch (list) {
+        case STUDENTS:
+            return parser.readValueAs(JsonAdaptedStudent.class).toModelType();
+        case ROOMS:
+            return parser.readValueAs(JsonAdaptedRoom.class).toModelType();
+        case ALLOCATIONS:
+            return parser.readValueAs(JsonAdaptedAllocation.class).toModelType();
+        default:
+            return parser.readValueAs(JsonAdaptedBinItem.class).toModelType();
+        }
+    }
+
+    /**
+     * Returns a ResiReg with {@code semester} and the entities in {@code lists}, checking them the same way as
+     * the entities read from the json file.
+     */
+    private static ResiReg toResiReg(Semester semester, Map<EntityList, List<Object>> lists)
+            throws IllegalValueException {
+        ResiReg resiReg = new ResiReg();
+        resiReg.setSemester(semester);
+        for (Object student : lists.get(EntityList.STUDENTS)) {
+            JsonSerializableResiReg.addStudent(resiReg, (Student) student);
+        }
+        for (Object room : lists.get(EntityList.ROOMS)) {
+            JsonSerializableResiReg.addRoom(resiReg, (Room) room);
+        }
+        for (Object allocation : lists.get(EntityList.ALLOCATIONS)) {
+            JsonSerializableResiReg.addAllocation(resiReg, (Allocation) allocation);
+        }
+        for (Object binItem : lists.get(EntityList.BIN_ITEMS)) {
+            JsonSerializableResiReg.addBinItem(resiReg, (BinItem) binItem);
+        }
+        return resiReg;
+    }
+}
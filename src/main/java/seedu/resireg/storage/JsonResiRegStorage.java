@@ -3,30 +3,77 @@ package seedu.resireg.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 
 import seedu.resireg.commons.core.LogsCenter;
 import seedu.resireg.commons.exceptions.DataConversionException;
 import seedu.resireg.commons.exceptions.IllegalValueException;
 import seedu.resireg.commons.util.FileUtil;
-import seedu.resireg.commons.util.JsonUtil;
 import seedu.resireg.model.ReadOnlyResiReg;
+import seedu.resireg.model.ResiReg;
+import seedu.resireg.model.ResiRegDelta;
+import seedu.resireg.model.ResiRegDelta.EntityList;
+import seedu.resireg.model.semester.Semester;
 
 /**
  * A class to access ResiReg data stored as a json file on the hard disk.
+ * The file is streamed one entity at a time, so the whole file is never held in memory.
+ *
+ * If a journal size is given, saves only append the changes since the previous save to a
+ * {@link JsonResiRegJournal} next to the file. The file is rewritten, and the journal emptied, on the first save,
+ * once the journal is larger than the journal size, and when the semester changes or is archived.
+ * A journal is replayed whenever the file is read.
+ *
+ * Files are replaced atomically, and the file before the last rewrite is kept as a backup. If the file cannot be
+ * read, or its checksum shows that it was damaged, the backup is read instead.
  */
 public class JsonResiRegStorage implements ResiRegStorage {
 
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "The file does not match its checksum, so it is damaged.";
+
+    /** The journal size used by the app, past which the file is rewritten. */
+    public static final long DEFAULT_MAX_JOURNAL_SIZE = 1024 * 1024;
+
     private static final Logger logger = LogsCenter.getLogger(JsonResiRegStorage.class);
     private static final String ARCHIVE_FILENAME = "archive.json";
 
-    private Path filePath;
+    private final Path filePath;
+    private final long maxJournalSize;
+    private final JsonResiRegJournal journal;
+
+    // the lists and semester as last saved to filePath, or null if the next save must rewrite the file
+    private Map<EntityList, List<Object>> savedLists;
+    private Semester savedSemester;
+    // whether filePath was damaged when it was read, in which case the backup must not be replaced by it
+    private volatile boolean isFileDamaged;
 
+    /**
+     * Creates a {@code JsonResiRegStorage} which rewrites the file at {@code filePath} on every save.
+     */
     public JsonResiRegStorage(Path filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a {@code JsonResiRegStorage} which journals the changes to the file at {@code filePath}, until the
+     * journal is larger than {@code maxJournalSize} bytes. The journal is not used if {@code maxJournalSize} is 0.
+     */
+    public JsonResiRegStorage(Path filePath, long maxJournalSize) {
+        assert maxJournalSize >= 0;
         this.filePath = filePath;
+        this.maxJournalSize = maxJournalSize;
+        this.journal = new JsonResiRegJournal(filePath);
     }
 
     public Path getResiRegFilePath() {
@@ -47,20 +94,72 @@ public class JsonResiRegStorage implements ResiRegStorage {
     public Optional<ReadOnlyResiReg> readResiReg(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableResiReg> jsonResiReg = JsonUtil.readJsonFile(
-                filePath, JsonSerializableResiReg.class);
-        if (!jsonResiReg.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonResiReg.get().toModelType());
+            return Optional.of(readVerifiedResiReg(filePath));
+        } catch (DataConversionException e) {
+            Path backupPath = FileUtil.getBackupPath(filePath);
+            if (!Files.exists(backupPath)) {
+                throw e;
+            }
+            logger.warning("Reading the backup " + backupPath + " instead of " + filePath);
+            ResiReg resiReg = readVerifiedResiReg(backupPath);
+            if (filePath.equals(this.filePath)) {
+                isFileDamaged = true;
+            }
+            return Optional.of(resiReg);
+        }
+    }
+
+    /**
+     * Reads the ResiReg in {@code filePath}, checking it against its checksum if it has one, and replays its
+     * journal.
+     */
+    private ResiReg readVerifiedResiReg(Path filePath) throws DataConversionException {
+        try {
+            JsonResiRegStream.Metadata metadata = new JsonResiRegStream.Metadata();
+            ResiReg resiReg;
+            try (InputStream inputStream = Files.newInputStream(filePath)) {
+                resiReg = JsonResiRegStream.read(inputStream, metadata);
+            }
+            OptionalLong checksum = metadata.getChecksum();
+            if (checksum.isPresent()
+                    && checksum.getAsLong() != computeChecksum(filePath, metadata.getChecksummedLength())) {
+                throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+            }
+            if (metadata.getJournalId().isPresent()) {
+                resiReg = new JsonResiRegJournal(filePath).replay(resiReg, metadata.getJournalId().getAsLong());
+            }
+            return resiReg;
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Returns the CRC-32 of the first {@code length} bytes of {@code filePath}.
+     */
+    private static long computeChecksum(Path filePath, long length) throws IOException {
+        byte[] buffer = new byte[8192];
+        try (CheckedInputStream inputStream = new CheckedInputStream(Files.newInputStream(filePath), new CRC32())) {
+            long remaining = length;
+            int read;
+            while (remaining > 0
+                    && (read = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining))) != -1) {
+                remaining -= read;
+            }
+            return inputStream.getChecksum().getValue();
+        }
+    }
+
     @Override
     public void saveResiReg(ReadOnlyResiReg resiReg) throws IOException {
         saveResiReg(resiReg, filePath);
@@ -74,19 +173,77 @@ public class JsonResiRegStorage implements ResiRegStorage {
     public void saveResiReg(ReadOnlyResiReg resiReg, Path filePath) throws IOException {
         requireNonNull(resiReg);
         requireNonNull(filePath);
+        if (maxJournalSize > 0 && filePath.equals(this.filePath)) {
+            saveWithJournal(resiReg);
+        } else {
+            writeResiReg(resiReg, filePath, OptionalLong.empty());
+        }
+    }
+
+    /**
+     * Appends the changes since the last save to the journal, or rewrites the file if it is due.
+     */
+    private synchronized void saveWithJournal(ReadOnlyResiReg resiReg) throws IOException {
+        Map<EntityList, List<Object>> lists = ResiRegDelta.copyLists(resiReg);
+        Semester semester = new Semester(resiReg.getSemester().getAcademicYear(),
+                resiReg.getSemester().getSemesterNumber());
+        try {
+            if (savedLists == null || !semester.equals(savedSemester)) {
+                compact(resiReg);
+            } else {
+                ResiRegDelta delta = ResiRegDelta.between(savedLists, resiReg);
+                if (!delta.getChanges().isEmpty() && journal.append(delta) > maxJournalSize) {
+                    compact(resiReg);
+                }
+            }
+        } catch (IOException ioe) {
+            // the journal may no longer follow on from the file
+            savedLists = null;
+            throw ioe;
+        }
+        savedLists = lists;
+        savedSemester = semester;
+    }
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableResiReg(resiReg), filePath);
+    /**
+     * Rewrites the file with {@code resiReg}, and starts a new journal after it.
+     */
+    private void compact(ReadOnlyResiReg resiReg) throws IOException {
+        long journalId = ThreadLocalRandom.current().nextLong();
+        writeResiReg(resiReg, filePath, OptionalLong.of(journalId));
+        journal.start(journalId);
     }
 
     @Override
     public void archiveResiReg(ReadOnlyResiReg resiReg) throws IOException {
         requireNonNull(resiReg);
-        Path currentPath = filePath.subpath(0, filePath.getNameCount() - 1).toAbsolutePath();
-        Path newPath = Paths.get(currentPath.toString(), resiReg.getSemesterString(), ARCHIVE_FILENAME);
+        writeResiReg(resiReg, getArchivePath(resiReg.getSemesterString()), OptionalLong.empty());
+        synchronized (this) {
+            savedLists = null; // the next semester starts with a new file
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyResiReg> readArchivedResiReg(Semester semester) throws DataConversionException {
+        requireNonNull(semester);
+        return readResiReg(getArchivePath(semester.getShortRepresentation()));
+    }
+
+    /**
+     * Replaces the file at {@code filePath} with {@code resiReg}, keeping the file it replaces as a backup unless
+     * it is damaged.
+     */
+    private void writeResiReg(ReadOnlyResiReg resiReg, Path filePath, OptionalLong journalId) throws IOException {
+        boolean isMainFile = filePath.equals(this.filePath);
+        FileUtil.writeAtomically(filePath, outputStream -> JsonResiRegStream.write(resiReg, outputStream, journalId),
+                !isMainFile || !isFileDamaged);
+        if (isMainFile) {
+            isFileDamaged = false;
+        }
+    }
 
-        FileUtil.createIfMissing(newPath);
-        JsonUtil.saveJsonFile(new JsonSerializableResiReg(resiReg), newPath);
+    private Path getArchivePath(String semesterString) {
+        return filePath.toAbsolutePath().resolveSibling(Paths.get(semesterString, ARCHIVE_FILENAME));
     }
 
 }
@@ -0,0 +1,209 @@
+package seedu.resireg.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.resireg.commons.exceptions.IllegalValueException;
+import seedu.resireg.commons.util.JsonUtil;
+import seedu.resireg.model.ReadOnlyResiReg;
+import seedu.resireg.model.ResiReg;
+
+/**
+ * Writes and reads ResiReg as json in the same format as {@code JsonSerializableResiReg}, one entity at a time.
+ *
+ * {@code JsonSerializableResiReg} adapts every entity before any of them is written, and is written as a single
+ * string, so saving holds several copies of the whole file in memory. Here each entity is adapted and written
+ * straight to the stream, and each entity read is added to ResiReg before the next one is parsed, so only one
+ * entity at a time is held in its json form. Jackson buffers the stream, so it does not need to be buffered.
+ */
+class JsonResiRegStream {
+
+    public static final String MESSAGE_MISSING_SEMESTER = "ResiReg's semester field is missing!";
+    public static final String MESSAGE_NOT_RESIREG = "The json is not an object with the fields of ResiReg";
+
+    static final String FIELD_SEMESTER = "semester";
+    static final String FIELD_STUDENTS = "students";
+    static final String FIELD_ROOMS = "rooms";
+    static final String FIELD_ALLOCATIONS = "allocations";
+    static final String FIELD_BIN_ITEMS = "binItems";
+    static final String FIELD_JOURNAL_ID = "journalId";
+    static final String FIELD_CHECKSUM = "checksum";
+
+    /**
+     * Adds an entity read from json to ResiReg.
+     */
+    @FunctionalInterface
+    private interface EntityAdder<T> {
+        void add(ResiReg resiReg, T jsonAdaptedEntity) throws IllegalValueException;
+    }
+
+    /**
+     * The details of a ResiReg json file which are not part of ResiReg.
+     */
+    static class Metadata {
+        private OptionalLong journalId = OptionalLong.empty();
+        private OptionalLong checksum = OptionalLong.empty();
+        private long checksummedLength;
+
+        /**
+         * Returns the id of the journal of the changes made after the file was written, if it has one.
+         */
+        OptionalLong getJournalId() {
+            return journalId;
+        }
+
+        /**
+         * Returns the CRC-32 of the first {@link #getChecksummedLength()} bytes of the file, if it has one.
+         */
+        OptionalLong getChecksum() {
+            return checksum;
+        }
+
+        long getChecksummedLength() {
+            return checksummedLength;
+        }
+    }
+
+    /**
+     * Writes {@code resiReg} to {@code outputStream} as json, and closes the stream.
+     * The json ends with the CRC-32 of the bytes before it, so that a damaged file can be detected.
+     */
+    static void write(ReadOnlyResiReg resiReg, OutputStream outputStream) throws IOException {
+        write(resiReg, outputStream, OptionalLong.empty());
+    }
+
+    /**
+     * Writes {@code resiReg} to {@code outputStream} as json together with the id of the journal of changes made
+     * after it, if any, and closes the stream.
+     */
+    static void write(ReadOnlyResiReg resiReg, OutputStream outputStream, OptionalLong journalId)
+            throws IOException {
+        CheckedOutputStream checkedOutputStream = new CheckedOutputStream(outputStream, new CRC32());
+        try (JsonGenerator generator = JsonUtil.createGenerator(checkedOutputStream)) {
+            generator.writeStartObject();
+            if (journalId.isPresent()) {
+                generator.writeNumberField(FIELD_JOURNAL_ID, journalId.getAsLong());
+            }
+            generator.writeObjectField(FIELD_SEMESTER, new JsonAdaptedSemester(resiReg.getSemester()));
+            writeArray(generator, FIELD_STUDENTS, resiReg.getStudentList(), JsonAdaptedStudent::new);
+            writeArray(generator, FIELD_ROOMS, resiReg.getRoomList(), JsonAdaptedRoom::new);
+            writeArray(generator, FIELD_ALLOCATIONS, resiReg.getAllocationList(), JsonAdaptedAllocation::new);
+            writeArray(generator, FIELD_BIN_ITEMS, resiReg.getBinItemList(), JsonAdaptedBinItem::new);
+            generator.flush(); // so the checksum covers everything written before it
+            generator.writeNumberField(FIELD_CHECKSUM, checkedOutputStream.getChecksum().getValue());
+            generator.writeEndObject();
+        }
+    }
+
+    private static <T> void writeArray(JsonGenerator generator, String fieldName, List<T> entities,
+            Function<T, ?> adapter) throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (T entity : entities) {
+            generator.writeObject(adapter.apply(entity));
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Reads a ResiReg from the json in {@code inputStream}, and closes the stream.
+     * Fields which are not fields of ResiReg are ignored, and missing lists are read as empty lists.
+     *
+     * @throws IOException if the stream could not be read or does not hold a json object.
+     * @throws IllegalValueException if the json does not hold a valid ResiReg.
+     */
+    static ResiReg read(InputStream inputStream) throws IOException, IllegalValueException {
+        return read(inputStream, new Metadata());
+    }
+
+    /**
+     * Reads a ResiReg like {@link #read(InputStream)}, and fills in {@code metadata} with the details of the json.
+     * The checksum is not verified, as the bytes it covers are only known once it has been read.
+     */
+    static ResiReg read(InputStream inputStream, Metadata metadata) throws IOException, IllegalValueException {
+        ResiReg resiReg = new ResiReg();
+        boolean hasSemester = false;
+
+        try (JsonParser parser = JsonUtil.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_RESIREG);
+            }
+            long endOfLastValue = parser.getCurrentLocation().getByteOffset();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case FIELD_SEMESTER:
+                    if (parser.getCurrentToken() != JsonToken.VALUE_NULL) {
+                        resiReg.setSemester(parser.readValueAs(JsonAdaptedSemester.class).toModelType());
+                        hasSemester = true;
+                    }
+                    break;
+                case FIELD_STUDENTS:
+                    readArray(parser, resiReg, JsonAdaptedStudent.class, JsonSerializableResiReg::addStudent);
+                    break;
+                case FIELD_ROOMS:
+                    readArray(parser, resiReg, JsonAdaptedRoom.class, JsonSerializableResiReg::addRoom);
+                    break;
+                case FIELD_ALLOCATIONS:
+                    readArray(parser, resiReg, JsonAdaptedAllocation.class, JsonSerializableResiReg::addAllocation);
+                    break;
+                case FIELD_BIN_ITEMS:
+                    readArray(parser, resiReg, JsonAdaptedBinItem.class, JsonSerializableResiReg::addBinItem);
+                    break;
+                case FIELD_JOURNAL_ID:
+                    if (parser.getCurrentToken() == JsonToken.VALUE_NUMBER_INT) {
+                        metadata.journalId = OptionalLong.of(parser.getLongValue());
+                    }
+                    break;
+                case FIELD_CHECKSUM:
+                    if (parser.getCurrentToken() == JsonToken.VALUE_NUMBER_INT) {
+                        metadata.checksum = OptionalLong.of(parser.getLongValue());
+                        metadata.checksummedLength = endOfLastValue;
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+                endOfLastValue = parser.getCurrentLocation().getByteOffset();
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_RESIREG);
+            }
+        }
+
+        if (!hasSemester) {
+            throw new IllegalValueException(MESSAGE_MISSING_SEMESTER);
+        }
+        return resiReg;
+    }
+
+    /**
+     * Reads the json array at the parser's current token one element at a time, adding each to {@code resiReg}.
+     */
+    private static <T> void readArray(JsonParser parser, ResiReg resiReg, Class<T> jsonAdaptedClass,
+            EntityAdder<T> adder) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, MESSAGE_NOT_RESIREG);
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.getCurrentToken() == null || parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+                throw new JsonParseException(parser, MESSAGE_NOT_RESIREG);
+            }
+            adder.add(resiReg, parser.readValueAs(jsonAdaptedClass));
+        }
+    }
+}
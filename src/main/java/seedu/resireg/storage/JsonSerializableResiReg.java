@@ -74,34 +74,103 @@ class JsonSerializableResiReg {
         assert semester != null;
         resiReg.setSemester(semester.toModelType());
         for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            Student student = jsonAdaptedStudent.toModelType();
-            if (resiReg.hasStudent(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
-            }
-            resiReg.addStudent(student);
+            addStudent(resiReg, jsonAdaptedStudent);
         }
         for (JsonAdaptedRoom jsonAdaptedRoom : rooms) {
-            Room room = jsonAdaptedRoom.toModelType();
-            if (resiReg.hasRoom(room)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ROOM);
-            }
-            resiReg.addRoom(room);
+            addRoom(resiReg, jsonAdaptedRoom);
         }
         for (JsonAdaptedAllocation jsonAdaptedAllocation : allocations) {
-            Allocation allocation = jsonAdaptedAllocation.toModelType();
-            if (resiReg.hasAllocation(allocation)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ALLOCATION);
-            }
-            resiReg.addAllocation(allocation);
+            addAllocation(resiReg, jsonAdaptedAllocation);
         }
         for (JsonAdaptedBinItem jsonAdaptedBinItem : binItems) {
-            BinItem binItem = jsonAdaptedBinItem.toModelType();
-            if (resiReg.hasBinItem(binItem)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_BIN_ITEM);
-            }
-            resiReg.addBinItem(binItem);
+            addBinItem(resiReg, jsonAdaptedBinItem);
         }
         return resiReg;
     }
 
+    /**
+     * Adds the student of {@code jsonAdaptedStudent} to {@code resiReg}.
+     *
+     * @throws IllegalValueException if the student is invalid or already in {@code resiReg}.
+     */
+    static void addStudent(ResiReg resiReg, JsonAdaptedStudent jsonAdaptedStudent) throws IllegalValueException {
+        addStudent(resiReg, jsonAdaptedStudent.toModelType());
+    }
+
+    /**
+     * Adds {@code student} to {@code resiReg}.
+     *
+     * @throws IllegalValueException if the student is already in {@code resiReg}.
+     */
+    static void addStudent(ResiReg resiReg, Student student) throws IllegalValueException {
+        if (resiReg.hasStudent(student)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
+        }
+        resiReg.addStudent(student);
+    }
+
+    /**
+     * Adds the room of {@code jsonAdaptedRoom} to {@code resiReg}.
+     *
+     * @throws IllegalValueException if the room is invalid or already in {@code resiReg}.
+     */
+    static void addRoom(ResiReg resiReg, JsonAdaptedRoom jsonAdaptedRoom) throws IllegalValueException {
+        addRoom(resiReg, jsonAdaptedRoom.toModelType());
+    }
+
+    /**
+     * Adds {@code room} to {@code resiReg}.
+     *
+     * @throws IllegalValueException if the room is already in {@code resiReg}.
+     */
+    static void addRoom(ResiReg resiReg, Room room) throws IllegalValueException {
+        if (resiReg.hasRoom(room)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ROOM);
+        }
+        resiReg.addRoom(room);
+    }
+
+    /**
+     * Adds the allocation of {@code jsonAdaptedAllocation} to {@code resiReg}.
+     *
+     * @throws IllegalValueException if the allocation is invalid or conflicts with one in {@code resiReg}.
+     */
+    static void addAllocation(ResiReg resiReg, JsonAdaptedAllocation jsonAdaptedAllocation)
+            throws IllegalValueException {
+        addAllocation(resiReg, jsonAdaptedAllocation.toModelType());
+    }
+
+    /**
+     * Adds {@code allocation} to {@code resiReg}.
+     *
+     * @throws IllegalValueException if the allocation conflicts with one in {@code resiReg}.
+     */
+    static void addAllocation(ResiReg resiReg, Allocation allocation) throws IllegalValueException {
+        if (resiReg.hasConflictingAllocation(allocation)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ALLOCATION);
+        }
+        resiReg.addAllocation(allocation);
+    }
+
+    /**
+     * Adds the bin item of {@code jsonAdaptedBinItem} to {@code resiReg}.
+     *
+     * @throws IllegalValueException if the bin item is invalid or already in {@code resiReg}.
+     */
+    static void addBinItem(ResiReg resiReg, JsonAdaptedBinItem jsonAdaptedBinItem) throws IllegalValueException {
+        addBinItem(resiReg, jsonAdaptedBinItem.toModelType());
+    }
+
+    /**
+     * Adds {@code binItem} to {@code resiReg}.
+     *
+     * @throws IllegalValueException if the bin item is already in {@code resiReg}.
+     */
+    static void addBinItem(ResiReg resiReg, BinItem binItem) throws IllegalValueException {
+        if (resiReg.hasBinItem(binItem)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_BIN_ITEM);
+        }
+        resiReg.addBinItem(binItem);
+    }
+
 }
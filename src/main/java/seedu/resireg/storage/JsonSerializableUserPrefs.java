@@ -9,6 +9,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.resireg.commons.core.DataFileFormat;
 import seedu.resireg.commons.core.GuiSettings;
 import seedu.resireg.commons.exceptions.IllegalValueException;
 import seedu.resireg.model.ReadOnlyUserPrefs;
@@ -26,7 +27,9 @@ class JsonSerializableUserPrefs {
     private final List<JsonAdaptedCommandWordAlias> commandWordAliases = new ArrayList<>();
     private final GuiSettings guiSettings;
     private final Path resiRegFilePath;
+    private final DataFileFormat resiRegFileFormat;
     private final int daysStoredInBin;
+    private final Integer undoLevelsInMemory;
 
     /**
      * Constructs a {@code JsonSerializableResiReg} with the given students.
@@ -35,11 +38,15 @@ class JsonSerializableUserPrefs {
     public JsonSerializableUserPrefs(@JsonProperty("guiSettings") GuiSettings guiSettings,
                                      @JsonProperty("commandWordAliases") List<JsonAdaptedCommandWordAlias> aliases,
                                      @JsonProperty("addressBookFilePath") Path resiRegFilePath,
-                                     @JsonProperty("daysStoredInBin") int daysStoredInBin) {
+                                     @JsonProperty("resiRegFileFormat") DataFileFormat resiRegFileFormat,
+                                     @JsonProperty("daysStoredInBin") int daysStoredInBin,
+                                     @JsonProperty("undoLevelsInMemory") Integer undoLevelsInMemory) {
         this.commandWordAliases.addAll(aliases);
         this.guiSettings = guiSettings;
         this.resiRegFilePath = resiRegFilePath;
+        this.resiRegFileFormat = resiRegFileFormat;
         this.daysStoredInBin = daysStoredInBin;
+        this.undoLevelsInMemory = undoLevelsInMemory;
     }
 
     /**
@@ -52,7 +59,9 @@ class JsonSerializableUserPrefs {
             .collect(Collectors.toList()));
         this.guiSettings = source.getGuiSettings();
         this.resiRegFilePath = source.getResiRegFilePath();
+        this.resiRegFileFormat = source.getResiRegFileFormat();
         this.daysStoredInBin = source.getDaysStoredInBin();
+        this.undoLevelsInMemory = source.getUndoLevelsInMemory();
     }
 
     /**
@@ -73,6 +82,13 @@ class JsonSerializableUserPrefs {
         userPrefs.setGuiSettings(guiSettings);
         userPrefs.setResiRegFilePath(resiRegFilePath);
         userPrefs.setDaysStoredInBin(daysStoredInBin);
+        // preferences saved by older versions do not have these fields
+        if (resiRegFileFormat != null) {
+            userPrefs.setResiRegFileFormat(resiRegFileFormat);
+        }
+        if (undoLevelsInMemory != null) {
+            userPrefs.setUndoLevelsInMemory(undoLevelsInMemory);
+        }
         return userPrefs;
     }
 
@@ -0,0 +1,205 @@
+package seedu.resireg.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.NoSuchElementException;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.resireg.commons.core.LogsCenter;
+import seedu.resireg.commons.exceptions.DataConversionException;
+import seedu.resireg.commons.exceptions.IllegalValueException;
+import seedu.resireg.commons.util.JsonUtil;
+import seedu.resireg.commons.util.StringUtil;
+import seedu.resireg.model.ResiRegDelta;
+import seedu.resireg.model.SpilledStateStack;
+
+/**
+ * A {@code SpilledStateStack} which keeps undo levels as gzip-compressed json records in a temporary file, in the
+ * same format as the records of the {@code JsonResiRegJournal}.
+ *
+ * Records are streamed to the end of the file, and popping a level truncates the file at the start of its record.
+ * Once the records take more than {@code maxSizeInBytes}, the oldest records are dropped, and the file is
+ * compacted when the dropped records take more space than the records left. The file is created on the first
+ * push, and deleted when the stack is cleared or the application exits.
+ */
+public class JsonSpilledStateStack implements SpilledStateStack {
+
+    public static final long DEFAULT_MAX_SIZE_IN_BYTES = 16L * 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonSpilledStateStack.class);
+    private static final String FILE_PREFIX = "resireg-history";
+    private static final String FILE_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final long maxSizeInBytes;
+    // offsets of the records in the file, from the newest to the oldest
+    private final Deque<Long> recordOffsets = new ArrayDeque<>();
+    private Path file;
+    private long endOffset;
+
+    /**
+     * Creates a {@code JsonSpilledStateStack} which keeps its temporary file in {@code directory}, and uses at
+     * most {@link #DEFAULT_MAX_SIZE_IN_BYTES} bytes.
+     */
+    public JsonSpilledStateStack(Path directory) {
+        this(directory, DEFAULT_MAX_SIZE_IN_BYTES);
+    }
+
+    /**
+     * Creates a {@code JsonSpilledStateStack} which keeps its temporary file in {@code directory}, and drops its
+     * oldest levels once they take more than {@code maxSizeInBytes} bytes.
+     */
+    public JsonSpilledStateStack(Path directory, long maxSizeInBytes) {
+        requireNonNull(directory);
+        assert maxSizeInBytes > 0 : "The stack must be allowed to use some space";
+        this.directory = directory;
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    @Override
+    public void push(ResiRegDelta level) throws IOException {
+        requireNonNull(level);
+        if (file == null) {
+            file = createFile();
+        }
+
+        try (OutputStream outputStream = new GZIPOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(file, StandardOpenOption.APPEND)));
+             JsonGenerator generator = JsonUtil.createCompactGenerator(outputStream)) {
+            JsonResiRegJournal.writeDelta(generator, level);
+        }
+        recordOffsets.push(endOffset);
+        endOffset = Files.size(file);
+        dropOldestLevels();
+    }
+
+    @Override
+    public ResiRegDelta pop() throws IOException, DataConversionException {
+        if (recordOffsets.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+
+        long offset = recordOffsets.pop();
+        ResiRegDelta level;
+        // the record is the last in the file, so the input ends with it
+        try (InputStream inputStream = new GZIPInputStream(new BufferedInputStream(
+                Channels.newInputStream(FileChannel.open(file, StandardOpenOption.READ).position(offset))));
+             JsonParser parser = JsonUtil.createParser(inputStream)) {
+            parser.nextToken();
+            level = JsonResiRegJournal.readDelta(parser);
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        } finally {
+            truncate(offset);
+        }
+        return level;
+    }
+
+    @Override
+    public int size() {
+        return recordOffsets.size();
+    }
+
+    @Override
+    public long getSizeInBytes() {
+        return endOffset - getStartOffset();
+    }
+
+    @Override
+    public void clear() {
+        recordOffsets.clear();
+        endOffset = 0;
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warning("Failed to delete undo history file " + file + ": " + StringUtil.getDetails(e));
+        }
+        file = null;
+    }
+
+    private Path createFile() throws IOException {
+        Files.createDirectories(directory);
+        Path newFile = Files.createTempFile(directory, FILE_PREFIX, FILE_SUFFIX);
+        newFile.toFile().deleteOnExit();
+        return newFile;
+    }
+
+    /**
+     * Returns the offset of the oldest record in the file. The bytes before it belong to dropped records.
+     */
+    private long getStartOffset() {
+        return recordOffsets.isEmpty() ? endOffset : recordOffsets.peekLast();
+    }
+
+    private void truncate(long offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(offset);
+        }
+        endOffset = offset;
+    }
+
+    /**
+     * Drops the oldest levels until the levels left take at most {@code maxSizeInBytes}. This may drop every
+     * level, if the newest level alone takes more than that.
+     */
+    private void dropOldestLevels() throws IOException {
+        int droppedCount = 0;
+        while (getSizeInBytes() > maxSizeInBytes) {
+            recordOffsets.removeLast();
+            droppedCount++;
+        }
+        if (droppedCount == 0) {
+            return;
+        }
+
+        logger.info("Dropped the " + droppedCount + " oldest undo level(s) to keep the undo history file within "
+                + maxSizeInBytes + " bytes");
+        if (getStartOffset() > getSizeInBytes()) {
+            compact();
+        }
+    }
+
+    /**
+     * Moves the records left to the start of a new file, removing the dropped records.
+     */
+    private void compact() throws IOException {
+        long startOffset = getStartOffset();
+        Path compactedFile = createFile();
+        try (FileChannel source = FileChannel.open(file, StandardOpenOption.READ);
+             FileChannel target = FileChannel.open(compactedFile, StandardOpenOption.WRITE)) {
+            long position = startOffset;
+            while (position < endOffset) {
+                position += source.transferTo(position, endOffset - position, target);
+            }
+        }
+        Files.delete(file);
+        file = compactedFile;
+
+        Deque<Long> offsets = new ArrayDeque<>();
+        recordOffsets.forEach(offset -> offsets.addLast(offset - startOffset));
+        recordOffsets.clear();
+        recordOffsets.addAll(offsets);
+        endOffset -= startOffset;
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.resireg.storage;
+
+import static seedu.resireg.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * A {@code TableWriter} which writes a JSON array with an object for each row, whose fields are named by the
+ * columns. Each row is written by a {@code JsonGenerator} as soon as it is given, instead of building the array
+ * in memory first.
+ */
+public class JsonTableWriter implements TableWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonGenerator generator;
+    private final List<String> columns;
+
+    /**
+     * Creates a {@code JsonTableWriter} which writes to {@code writer} a table with {@code columns}.
+     */
+    public JsonTableWriter(Writer writer, List<String> columns) throws IOException {
+        requireAllNonNull(writer, columns);
+        this.columns = columns;
+        generator = JSON_FACTORY.createGenerator(writer).useDefaultPrettyPrinter();
+        generator.writeStartArray();
+    }
+
+    @Override
+    public void writeRow(List<String> values) throws IOException {
+        assert values.size() == columns.size() : "Each row must have a value for every column";
+        generator.writeStartObject();
+        for (int i = 0; i < columns.size(); i++) {
+            generator.writeStringField(columns.get(i), values.get(i));
+        }
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.writeEndArray();
+        generator.close();
+    }
+}
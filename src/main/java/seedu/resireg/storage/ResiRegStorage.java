@@ -7,6 +7,7 @@ import java.util.Optional;
 import seedu.resireg.commons.exceptions.DataConversionException;
 import seedu.resireg.model.ReadOnlyResiReg;
 import seedu.resireg.model.ResiReg;
+import seedu.resireg.model.semester.Semester;
 
 /**
  * Represents a storage for {@link ResiReg}.
@@ -52,4 +53,13 @@ public interface ResiRegStorage {
      * @throws IOException if there was any problem writing to the file.
      */
     void archiveResiReg(ReadOnlyResiReg resiReg) throws IOException;
+
+    /**
+     * Returns the data archived for {@code semester} as a {@link ReadOnlyResiReg}.
+     * Returns {@code Optional.empty()} if the semester was not archived.
+     *
+     * @throws DataConversionException if the archived data is not in the expected format.
+     * @throws IOException             if there was any problem when reading from the storage.
+     */
+    Optional<ReadOnlyResiReg> readArchivedResiReg(Semester semester) throws DataConversionException, IOException;
 }
@@ -1,21 +1,31 @@
 package seedu.resireg.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import seedu.resireg.commons.core.DataFileFormat;
 import seedu.resireg.commons.core.LogsCenter;
 import seedu.resireg.commons.exceptions.DataConversionException;
+import seedu.resireg.commons.util.StringUtil;
 import seedu.resireg.model.ReadOnlyResiReg;
 import seedu.resireg.model.ReadOnlyUserPrefs;
 import seedu.resireg.model.UserPrefs;
+import seedu.resireg.model.semester.Semester;
 
 /**
  * Manages storage of ResiReg data in local storage.
  */
 public class StorageManager implements Storage {
 
+    public static final String RETIRED_FILE_SUFFIX = ".old";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private ResiRegStorage resiRegStorage;
     private UserPrefsStorage userPrefsStorage;
@@ -29,6 +39,75 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns a {@code ResiRegStorage} for the data file in {@code format}. The json data file is at
+     * {@code jsonFilePath}, and the binary data file is kept next to it. <br>
+     * If the data file in the other format holds newer data, such as after the format was changed, it is converted
+     * to {@code format} and then retired, by renaming it with {@link #RETIRED_FILE_SUFFIX}. As a data file is only
+     * kept in one format, changing the format back later converts the latest data again. If the conversion fails,
+     * the other data file is kept, so that no data is lost.
+     */
+    public static ResiRegStorage createResiRegStorage(Path jsonFilePath, DataFileFormat format) {
+        JsonResiRegStorage jsonStorage = new JsonResiRegStorage(jsonFilePath,
+                JsonResiRegStorage.DEFAULT_MAX_JOURNAL_SIZE);
+        BinaryResiRegStorage binaryStorage =
+                new BinaryResiRegStorage(BinaryResiRegStorage.toBinaryFilePath(jsonFilePath));
+        // the json data is also in its journal, which is appended to without writing the json file
+        List<Path> jsonFiles = Arrays.asList(jsonFilePath, new JsonResiRegJournal(jsonFilePath).getPath());
+        List<Path> binaryFiles = Collections.singletonList(binaryStorage.getResiRegFilePath());
+
+        if (format == DataFileFormat.BINARY) {
+            convertIfNewer(jsonStorage, jsonFiles, binaryStorage, binaryFiles);
+            return binaryStorage;
+        }
+        convertIfNewer(binaryStorage, binaryFiles, jsonStorage, jsonFiles);
+        return jsonStorage;
+    }
+
+    /**
+     * Converts the data in {@code source} to {@code target} and retires the {@code sourceFiles}, if the data file
+     * of {@code source} exists and was changed after all of the {@code targetFiles}.
+     */
+    private static void convertIfNewer(ResiRegStorage source, List<Path> sourceFiles, ResiRegStorage target,
+            List<Path> targetFiles) {
+        Path sourceFilePath = source.getResiRegFilePath();
+        if (!Files.exists(sourceFilePath) || getLastModifiedTime(sourceFiles) <= getLastModifiedTime(targetFiles)) {
+            return;
+        }
+
+        logger.info("Converting " + sourceFilePath + " to " + target.getResiRegFilePath());
+        try {
+            Optional<ReadOnlyResiReg> resiReg = source.readResiReg();
+            if (resiReg.isPresent()) {
+                target.saveResiReg(resiReg.get());
+            }
+            for (Path sourceFile : sourceFiles) {
+                if (Files.exists(sourceFile)) {
+                    Files.move(sourceFile, sourceFile.resolveSibling(sourceFile.getFileName() + RETIRED_FILE_SUFFIX),
+                            StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to convert the data file " + sourceFilePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the time the latest of the existing {@code files} was changed, in milliseconds since the epoch, or
+     * {@code Long.MIN_VALUE} if none of them exist.
+     */
+    private static long getLastModifiedTime(List<Path> files) {
+        long lastModifiedTime = Long.MIN_VALUE;
+        for (Path file : files) {
+            try {
+                lastModifiedTime = Math.max(lastModifiedTime, Files.getLastModifiedTime(file).toMillis());
+            } catch (IOException e) {
+                // the file does not exist
+            }
+        }
+        return lastModifiedTime;
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -82,4 +161,11 @@ public class StorageManager implements Storage {
         resiRegStorage.archiveResiReg(resiReg);
     }
 
+    @Override
+    public Optional<ReadOnlyResiReg> readArchivedResiReg(Semester semester)
+            throws DataConversionException, IOException {
+        logger.fine("Attempting to read the archived data of " + semester.getShortRepresentation());
+        return resiRegStorage.readArchivedResiReg(semester);
+    }
+
 }
@@ -0,0 +1,23 @@
+package seedu.resireg.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes a table, one row at a time, to a file. Rows are written as they are given, so a table of any size can
+ * be written without holding all of it in memory.
+ */
+public interface TableWriter extends Closeable {
+
+    /**
+     * Writes a row with the values of the columns, in the order the columns were given to the writer.
+     */
+    void writeRow(List<String> values) throws IOException;
+
+    /**
+     * Finishes the table and closes the file.
+     */
+    @Override
+    void close() throws IOException;
+}
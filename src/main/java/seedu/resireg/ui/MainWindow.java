@@ -1,7 +1,11 @@
 package seedu.resireg.ui;
 
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,6 +16,8 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.resireg.commons.core.GuiSettings;
 import seedu.resireg.commons.core.LogsCenter;
+import seedu.resireg.commons.util.StringUtil;
+import seedu.resireg.logic.ExportJob;
 import seedu.resireg.logic.Logic;
 import seedu.resireg.logic.commands.CommandResult;
 import seedu.resireg.logic.commands.TabView;
@@ -25,14 +31,21 @@ import seedu.resireg.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String SAVE_FAILURE_SOURCE = "(autosave)";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
+    private final ExecutorService exportExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "export");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private Stage primaryStage;
     private Logic logic;
 
     // Independent Ui parts residing in this Ui container
     private ResultDisplay resultDisplay;
+    private ResultDisplayItem latestResult;
     private HelpWindow helpWindow;
     private MainPanel mainPanel;
 
@@ -122,6 +135,8 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureListener(message -> Platform.runLater(() ->
+                resultDisplay.setFeedbackToUser(SAVE_FAILURE_SOURCE, message, true)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getResiRegFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -190,6 +205,24 @@ public class MainWindow extends UiPart<Stage> {
         mainPanel.toggleStudentsRoomsTabSplit();
     }
 
+    /**
+     * Runs {@code job} on a background thread, one export at a time, and shows its progress in place of the
+     * result of the command which started it.
+     */
+    public void handleExport(ExportJob<?> job) {
+        ResultDisplayItem result = latestResult;
+        exportExecutor.execute(() -> {
+            try {
+                job.run(rowsWritten -> Platform.runLater(() ->
+                        result.setFeedback(job.getProgressMessage(rowsWritten), false)));
+                Platform.runLater(() -> result.setFeedback(job.getSuccessMessage(), false));
+            } catch (IOException ioe) {
+                logger.warning("Unable to export to " + job.getFile() + ": " + StringUtil.getDetails(ioe));
+                Platform.runLater(() -> result.setFeedback(job.getFailureMessage(), true));
+            }
+        });
+    }
+
     /**
      * Executes the command and returns the result.
      *
@@ -199,7 +232,7 @@ public class MainWindow extends UiPart<Stage> {
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandText, commandResult.getFeedbackToUser());
+            latestResult = resultDisplay.addFeedbackToUser(commandText, commandResult.getFeedbackToUser(), false);
 
             commandResult.displayResult(this);
 
@@ -28,14 +28,22 @@ public class ResultDisplay extends UiPart<Region> {
     }
 
     public void setFeedbackToUser(String command, String feedbackToUser, boolean isError) {
+        addFeedbackToUser(command, feedbackToUser, isError);
+    }
+
+    public void setFeedbackToUser(String command, String feedbackToUser) {
+        setFeedbackToUser(command, feedbackToUser, false);
+    }
+
+    /**
+     * Displays the result of a command, and returns its item so the feedback can be updated later.
+     */
+    ResultDisplayItem addFeedbackToUser(String command, String feedbackToUser, boolean isError) {
         requireNonNull(feedbackToUser);
         ResultDisplayItem response = new ResultDisplayItem(command, feedbackToUser, isError);
         responseContainer
                 .getChildren()
                 .add(response.getRoot());
-    }
-
-    public void setFeedbackToUser(String command, String feedbackToUser) {
-        setFeedbackToUser(command, feedbackToUser, false);
+        return response;
     }
 }
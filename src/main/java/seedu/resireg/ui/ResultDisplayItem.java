@@ -11,6 +11,8 @@ import javafx.scene.layout.VBox;
 class ResultDisplayItem extends UiPart<VBox> {
 
     private static final String FXML = "ResultDisplayItem.fxml";
+    private static final String VALID_COMMAND_STYLE_CLASS = "result-display-valid-command";
+    private static final String INVALID_COMMAND_STYLE_CLASS = "result-display-invalid-command";
 
     @FXML
     private Label command;
@@ -26,13 +28,19 @@ class ResultDisplayItem extends UiPart<VBox> {
     ResultDisplayItem(String commandText, String feedbackText, boolean isError) {
         super(FXML);
         command.setText(commandText);
-        feedback.setText(feedbackText);
+        setFeedback(feedbackText, isError);
+    }
 
-        if (isError) {
-            command.getStyleClass().add("result-display-invalid-command");
-        } else {
-            command.getStyleClass().add("result-display-valid-command");
-        }
+    /**
+     * Replaces the feedback shown, for commands whose results change after they are executed.
+     *
+     * @param feedbackText Feedback to show to user.
+     * @param isError Whether the command has failed.
+     */
+    void setFeedback(String feedbackText, boolean isError) {
+        feedback.setText(feedbackText);
+        command.getStyleClass().removeAll(VALID_COMMAND_STYLE_CLASS, INVALID_COMMAND_STYLE_CLASS);
+        command.getStyleClass().add(isError ? INVALID_COMMAND_STYLE_CLASS : VALID_COMMAND_STYLE_CLASS);
     }
 
     @Override
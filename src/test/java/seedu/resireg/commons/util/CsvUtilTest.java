@@ -0,0 +1,50 @@
+package seedu.resireg.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.resireg.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.resireg.commons.exceptions.IllegalValueException;
+
+public class CsvUtilTest {
+
+    @Test
+    public void splitLine_unquotedFields_splitAtCommas() throws Exception {
+        assertEquals(Arrays.asList("a", " b ", "c"), CsvUtil.splitLine("a, b ,c"));
+        assertEquals(Collections.singletonList(""), CsvUtil.splitLine(""));
+        assertEquals(Arrays.asList("", "", ""), CsvUtil.splitLine(",,"));
+    }
+
+    @Test
+    public void splitLine_quotedFields_unquoted() throws Exception {
+        assertEquals(Arrays.asList("a, b", "c"), CsvUtil.splitLine("\"a, b\",c"));
+        assertEquals(Arrays.asList("say \"hi\"", ""), CsvUtil.splitLine("\"say \"\"hi\"\"\",\"\""));
+    }
+
+    @Test
+    public void splitLine_malformedQuotes_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_UNTERMINATED_QUOTE, () ->
+                CsvUtil.splitLine("a,\"b"));
+        assertThrows(IllegalValueException.class, CsvUtil.MESSAGE_TEXT_AFTER_QUOTE, () ->
+                CsvUtil.splitLine("\"a\"b,c"));
+    }
+
+    @Test
+    public void joinLine_fieldsWithSpecialCharacters_splitBackIntoSameFields() throws Exception {
+        List<String> fields = Arrays.asList("plain", "a, b", "say \"hi\"", "");
+        assertEquals("plain,\"a, b\",\"say \"\"hi\"\"\",", CsvUtil.joinLine(fields));
+        assertEquals(fields, CsvUtil.splitLine(CsvUtil.joinLine(fields)));
+
+        assertEquals("two lines", CsvUtil.joinLine(Collections.singletonList("two\nlines")));
+    }
+
+    @Test
+    public void splitLine_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CsvUtil.splitLine(null));
+    }
+}
@@ -1,13 +1,22 @@
 package seedu.resireg.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.resireg.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +29,32 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_keepBackup_previousFileBackedUp() throws Exception {
+        Path file = testFolder.resolve("data").resolve("file.txt");
+        FileUtil.writeAtomically(file, outputStream -> outputStream.write('a'), true);
+        assertEquals("a", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+
+        FileUtil.writeAtomically(file, outputStream -> outputStream.write('b'), true);
+        assertEquals("b", FileUtil.readFromFile(file));
+        assertEquals("a", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+
+        // the temporary files are removed
+        assertEquals(2, Files.list(file.getParent()).count());
+    }
+
+    @Test
+    public void writeAtomically_writerThrows_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "old");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, outputStream -> {
+            outputStream.write('n');
+            throw new IOException("disk full");
+        }, true));
+        assertEquals("old", FileUtil.readFromFile(file));
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
 }
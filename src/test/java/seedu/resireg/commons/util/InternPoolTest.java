@@ -0,0 +1,31 @@
+package seedu.resireg.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.resireg.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.resireg.model.tag.Tag;
+
+public class InternPoolTest {
+
+    private final InternPool<Tag> pool = new InternPool<>(Tag::new);
+
+    @Test
+    public void get_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> pool.get(null));
+    }
+
+    @Test
+    public void get_sameKey_returnsSameInstance() {
+        assertSame(pool.get("friends"), pool.get(new String("friends")));
+        assertNotSame(pool.get("friends"), pool.get("family"));
+    }
+
+    @Test
+    public void get_invalidKey_throwsAndIsNotPooled() {
+        assertThrows(IllegalArgumentException.class, () -> pool.get("not valid"));
+        assertThrows(IllegalArgumentException.class, () -> pool.get("not valid"));
+    }
+}
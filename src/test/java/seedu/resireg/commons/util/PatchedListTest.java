@@ -0,0 +1,102 @@
+package seedu.resireg.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.resireg.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class PatchedListTest {
+
+    private PatchableObservableList<String> base;
+    private List<ListChangeListener.Change<? extends String>> changes;
+    private PatchedList<String> patchedList;
+
+    @BeforeEach
+    public void setUp() {
+        base = PatchableObservableList.observableArrayList();
+        base.addAll(Arrays.asList("a", "b", "c", "d", "e"));
+        changes = new ArrayList<>();
+        base.addListener((ListChangeListener<String>) changes::add);
+        patchedList = new PatchedList<>(base);
+    }
+
+    @Test
+    public void modify_changesSeenByViewOnly() {
+        patchedList.remove(1);
+        patchedList.add(3, "x");
+        patchedList.set(0, "y");
+
+        assertEquals(Arrays.asList("y", "c", "d", "x", "e"), patchedList);
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), base);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void publish_changesSpreadOut_changedRangePublishedOnce() {
+        patchedList.set(1, "x");
+        patchedList.add(4, "y");
+        patchedList.publish();
+
+        assertEquals(Arrays.asList("a", "x", "c", "d", "y", "e"), base);
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends String> change = changes.get(0);
+        assertTrue(change.next());
+        assertEquals(1, change.getFrom());
+        assertEquals(Arrays.asList("b", "c", "d"), change.getRemoved());
+        assertEquals(Arrays.asList("x", "c", "d", "y"), change.getAddedSubList());
+        assertFalse(change.next());
+    }
+
+    @Test
+    public void publish_unchangedElementsAtEnds_leftOut() {
+        patchedList.set(1, "x");
+        patchedList.set(3, "y");
+        patchedList.set(1, "b");
+        patchedList.publish();
+
+        assertEquals(Arrays.asList("a", "b", "c", "y", "e"), base);
+        assertEquals(1, changes.size());
+        ListChangeListener.Change<? extends String> change = changes.get(0);
+        assertTrue(change.next());
+        assertTrue(change.wasReplaced());
+        assertEquals(3, change.getFrom());
+    }
+
+    @Test
+    public void publish_noNetChange_nothingPublished() {
+        patchedList.add(2, "x");
+        patchedList.remove(2);
+        patchedList.publish();
+
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), base);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void publish_afterPublish_viewReusable() {
+        patchedList.remove(0);
+        patchedList.publish();
+        patchedList.add(0, "x");
+        patchedList.publish();
+
+        assertEquals(Arrays.asList("x", "b", "c", "d", "e"), base);
+        assertEquals(base, patchedList);
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void modify_invalidIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> patchedList.set(5, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> patchedList.add(6, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> patchedList.remove(-1));
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.resireg.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+
+public class BinPurgeSchedulerTest {
+
+    private static final ZoneId SINGAPORE = ZoneId.of("Asia/Singapore");
+
+    @Test
+    public void getDelayUntilNextMidnight_lateEvening_delayUntilMidnight() {
+        ZonedDateTime now = ZonedDateTime.of(LocalDateTime.of(2020, 10, 26, 23, 30), SINGAPORE);
+        assertEquals(Duration.ofMinutes(30), BinPurgeScheduler.getDelayUntilNextMidnight(now));
+    }
+
+    @Test
+    public void getDelayUntilNextMidnight_atMidnight_delayOfOneDay() {
+        ZonedDateTime now = ZonedDateTime.of(LocalDateTime.of(2020, 10, 26, 0, 0), SINGAPORE);
+        assertEquals(Duration.ofDays(1), BinPurgeScheduler.getDelayUntilNextMidnight(now));
+    }
+
+    @Test
+    public void getDelayUntilNextMidnight_daylightSavingStarts_delayOfShorterDay() {
+        ZonedDateTime now = ZonedDateTime.of(LocalDateTime.of(2020, 3, 8, 0, 0), ZoneId.of("America/New_York"));
+        assertEquals(Duration.ofHours(23), BinPurgeScheduler.getDelayUntilNextMidnight(now));
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.resireg.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.resireg.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.resireg.storage.ExportFormat;
+
+public class ExportJobTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void run_manyRows_allRowsWrittenWithProgress() throws IOException {
+        int rowCount = ExportJob.PROGRESS_INTERVAL * 2 + 1;
+        List<Integer> items = IntStream.range(0, rowCount).boxed().collect(Collectors.toList());
+        Path file = testFolder.resolve("numbers.csv");
+        ExportJob<Integer> job = new ExportJob<>(file, ExportFormat.CSV, "number(s)",
+                Collections.singletonList("number"), items, item -> Collections.singletonList(item.toString()));
+        List<Integer> progress = new ArrayList<>();
+
+        job.run(progress::add);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(rowCount + 1, lines.size());
+        assertEquals("number", lines.get(0));
+        assertEquals(String.valueOf(rowCount - 1), lines.get(rowCount));
+        assertEquals(List.of(ExportJob.PROGRESS_INTERVAL, ExportJob.PROGRESS_INTERVAL * 2), progress);
+        assertEquals(String.format(ExportJob.MESSAGE_SUCCESS, rowCount, "number(s)", file),
+                job.getSuccessMessage());
+    }
+
+    @Test
+    public void run_itemsChangedAfterCreation_snapshotWritten() throws IOException {
+        List<String> items = new ArrayList<>(List.of("a"));
+        Path file = testFolder.resolve("letters.csv");
+        ExportJob<String> job = new ExportJob<>(file, ExportFormat.CSV, "letter(s)",
+                Collections.singletonList("letter"), items, Collections::singletonList);
+        items.add("b");
+
+        job.run(unused -> { });
+
+        assertEquals(List.of("letter", "a"), Files.readAllLines(file));
+    }
+
+    @Test
+    public void run_rowCannotBeMade_existingFileKept() throws IOException {
+        Path file = testFolder.resolve("letters.csv");
+        Files.write(file, List.of("old"));
+        Function<String, List<String>> failingRowMapper = item -> {
+            throw new IllegalStateException();
+        };
+        ExportJob<String> job = new ExportJob<>(file, ExportFormat.CSV, "letter(s)",
+                Collections.singletonList("letter"), List.of("a"), failingRowMapper);
+
+        assertThrows(IllegalStateException.class, () -> job.run(unused -> { }));
+
+        assertEquals(List.of("old"), Files.readAllLines(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertTrue(files.allMatch(file::equals));
+        }
+    }
+}
@@ -13,7 +13,9 @@ import static seedu.resireg.testutil.TypicalStudents.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +34,7 @@ import seedu.resireg.model.ModelManager;
 import seedu.resireg.model.ReadOnlyResiReg;
 import seedu.resireg.model.UserPrefs;
 import seedu.resireg.model.student.Student;
+import seedu.resireg.storage.AutosaveService;
 import seedu.resireg.storage.JsonResiRegStorage;
 import seedu.resireg.storage.JsonUserPrefsStorage;
 import seedu.resireg.storage.StorageManager;
@@ -53,7 +56,7 @@ public class LogicManagerTest {
                 new JsonResiRegStorage(temporaryFolder.resolve("resireg.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         StorageManager storage = new StorageManager(resiRegStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, new AutosaveService(storage));
     }
 
     @Test
@@ -78,14 +81,17 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void execute_storageThrowsIoException_throwsCommandException() {
+    public void execute_storageThrowsIoException_failureReportedToListener() throws Exception {
         // Setup LogicManager with JsonResiRegIoExceptionThrowingStub
         JsonResiRegStorage resiRegStorage =
                 new JsonResiRegIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionResiReg.json"));
         JsonUserPrefsStorage userPrefsStorage =
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(resiRegStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        AutosaveService autosaveService = new AutosaveService(storage);
+        logic = new LogicManager(model, storage, autosaveService);
+        List<String> saveFailures = Collections.synchronizedList(new ArrayList<>());
+        logic.setSaveFailureListener(saveFailures::add);
 
         // Execute add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
@@ -94,9 +100,14 @@ public class LogicManagerTest {
         ModelManager expectedModel = new ModelManager();
         expectedModel.addStudent(expectedStudent);
         expectedModel.saveStateResiReg();
-        String expectedMessage = LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION;
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandSuccess(addCommand, String.format(AddCommand.MESSAGE_SUCCESS,
+                expectedStudent.getNameAsString(), expectedStudent.getStudentId().value), expectedModel);
         assertHistoryCorrect(addCommand);
+
+        // the command is not held up by the save, which fails later
+        autosaveService.flush();
+        assertEquals(Collections.singletonList(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION),
+                saveFailures);
     }
 
     @Test
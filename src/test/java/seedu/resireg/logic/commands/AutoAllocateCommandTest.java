@@ -0,0 +1,87 @@
+package seedu.resireg.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.resireg.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.resireg.testutil.TypicalAllocations.getTypicalResiReg;
+import static seedu.resireg.testutil.TypicalRooms.ROOM_FIVE;
+import static seedu.resireg.testutil.TypicalStudents.DANIEL;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.resireg.logic.CommandHistory;
+import seedu.resireg.logic.commands.exceptions.CommandException;
+import seedu.resireg.model.Model;
+import seedu.resireg.model.ModelManager;
+import seedu.resireg.model.ReadOnlyResiReg;
+import seedu.resireg.model.ResiReg;
+import seedu.resireg.model.UserPrefs;
+import seedu.resireg.model.allocation.Allocation;
+import seedu.resireg.model.allocation.AllocationConstraints;
+import seedu.resireg.model.semester.Semester;
+import seedu.resireg.testutil.AllocationBuilder;
+import seedu.resireg.testutil.StorageStub;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code AutoAllocateCommand}.
+ * TypicalResiReg is assumed to have 4 unallocated students and 2 vacant rooms.
+ */
+public class AutoAllocateCommandTest {
+
+    private static final AllocationConstraints NOT_RETURNING = new AllocationConstraints(true, true, false);
+
+    private final CommandHistory history = new CommandHistory();
+    private final Model model = new ModelManager(getTypicalResiReg(), new UserPrefs());
+
+    @Test
+    public void execute_vacantRooms_allVacantRoomsAllocatedAsOneUndoableChange() throws Exception {
+        int allocationCount = model.getResiReg().getAllocationList().size();
+        CommandResult result = new AutoAllocateCommand(NOT_RETURNING).execute(model, new StorageStub(), history);
+
+        assertEquals(String.format(AutoAllocateCommand.MESSAGE_SUCCESS, 2, 2), result.getFeedbackToUser());
+        assertEquals(allocationCount + 2, model.getResiReg().getAllocationList().size());
+        assertTrue(model.getResiReg().getRoomList().stream().allMatch(model::isAllocated));
+
+        model.undoResiReg();
+        assertEquals(allocationCount, model.getResiReg().getAllocationList().size());
+    }
+
+    @Test
+    public void execute_returningResident_previousRoomKept() throws Exception {
+        Allocation previousAllocation = new AllocationBuilder().withFloor(ROOM_FIVE.getFloor().value)
+                .withRoomNumber(ROOM_FIVE.getRoomNumber().value).withStudentId(DANIEL.getStudentId().value).build();
+        ResiReg previousResiReg = new ResiReg();
+        previousResiReg.addStudent(DANIEL);
+        previousResiReg.addRoom(ROOM_FIVE);
+        previousResiReg.addAllocation(previousAllocation);
+
+        new AutoAllocateCommand(AllocationConstraints.ALL).execute(model, new StorageStub() {
+            @Override
+            public Optional<ReadOnlyResiReg> readArchivedResiReg(Semester semester) {
+                assertEquals(model.getSemester().getPreviousSemester(), semester);
+                return Optional.of(previousResiReg);
+            }
+        }, history);
+        assertTrue(model.hasAllocation(previousAllocation));
+    }
+
+    @Test
+    public void execute_noVacantRooms_throwsCommandException() throws CommandException {
+        new AutoAllocateCommand(NOT_RETURNING).execute(model, new StorageStub(), history);
+        assertCommandFailure(new AutoAllocateCommand(NOT_RETURNING), model, history,
+                AutoAllocateCommand.MESSAGE_NO_VACANT_ROOMS);
+    }
+
+    @Test
+    public void equals() {
+        AutoAllocateCommand autoAllocateCommand = new AutoAllocateCommand(AllocationConstraints.ALL);
+
+        assertTrue(autoAllocateCommand.equals(autoAllocateCommand));
+        assertTrue(autoAllocateCommand.equals(new AutoAllocateCommand(new AllocationConstraints(true, true, true))));
+        assertFalse(autoAllocateCommand.equals(new AutoAllocateCommand(NOT_RETURNING)));
+        assertFalse(autoAllocateCommand.equals(null));
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.resireg.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.resireg.testutil.TypicalAllocations.getTypicalResiReg;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.resireg.commons.util.CsvUtil;
+import seedu.resireg.logic.CommandHistory;
+import seedu.resireg.logic.ExportJob;
+import seedu.resireg.model.Model;
+import seedu.resireg.model.ModelManager;
+import seedu.resireg.model.UserPrefs;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.student.Student;
+import seedu.resireg.storage.ExportFormat;
+import seedu.resireg.testutil.StorageStub;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ExportCommand}.
+ * In TypicalResiReg, Alice is allocated to room 19-112.
+ */
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final CommandHistory history = new CommandHistory();
+    private final Model model = new ModelManager(getTypicalResiReg(), new UserPrefs());
+
+    @Test
+    public void execute_students_listedStudentsExportedWithRooms() throws Exception {
+        Path file = testFolder.resolve("students.csv");
+        model.updateFilteredStudentList(student -> student.getNameAsString().startsWith("Alice"));
+
+        ExportJob<?> job = runExport(new ExportCommand(Student.class, file, ExportFormat.CSV));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1, job.getRowCount());
+        assertEquals(CsvUtil.joinLine(ExportCommand.STUDENT_COLUMNS), lines.get(0));
+        assertEquals("Alice Pauline,E0111110,12345678,alice@example.com,FASS,friends,19,112", lines.get(1));
+    }
+
+    @Test
+    public void execute_rooms_listedRoomsExportedWithStudents() throws Exception {
+        Path file = testFolder.resolve("rooms.csv");
+
+        ExportJob<?> job = runExport(new ExportCommand(Room.class, file, ExportFormat.CSV));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(model.getFilteredRoomList().size(), job.getRowCount());
+        assertEquals(job.getRowCount() + 1, lines.size());
+        assertTrue(lines.contains("19,112,CA,repaired,E0111110,Alice Pauline"));
+        assertTrue(lines.contains("8,107,NA,musical,,"));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Student.class, Paths.get("a.csv"), ExportFormat.CSV);
+
+        assertTrue(exportCommand.equals(exportCommand));
+        assertTrue(exportCommand.equals(new ExportCommand(Student.class, Paths.get("a.csv"), ExportFormat.CSV)));
+        assertFalse(exportCommand.equals(new ExportCommand(Room.class, Paths.get("a.csv"), ExportFormat.CSV)));
+        assertFalse(exportCommand.equals(new ExportCommand(Student.class, Paths.get("b.csv"), ExportFormat.CSV)));
+        assertFalse(exportCommand.equals(null));
+    }
+
+    /**
+     * Executes {@code command}, checks that it only started an export, and runs the export.
+     */
+    private ExportJob<?> runExport(ExportCommand command) throws IOException {
+        CommandResult result = command.execute(model, new StorageStub(), history);
+        ExportJob<?> job = ((ExportCommandResult) result).getJob();
+        assertEquals(job.getStartedMessage(), result.getFeedbackToUser());
+        assertFalse(Files.exists(job.getFile()));
+
+        job.run(unused -> { });
+        return job;
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.resireg.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.resireg.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.resireg.testutil.TypicalStudents.ALICE;
+import static seedu.resireg.testutil.TypicalStudents.getTypicalResiReg;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.resireg.logic.CommandHistory;
+import seedu.resireg.model.Model;
+import seedu.resireg.model.ModelManager;
+import seedu.resireg.model.UserPrefs;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.student.Student;
+import seedu.resireg.model.student.StudentId;
+import seedu.resireg.testutil.RoomBuilder;
+import seedu.resireg.testutil.StorageStub;
+import seedu.resireg.testutil.StudentBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+
+    private static final String STUDENT_HEADER = "Name,Student_ID,Phone,Email,Faculty,Tags";
+
+    @TempDir
+    public Path testFolder;
+
+    private final CommandHistory history = new CommandHistory();
+    private final Model model = new ModelManager(getTypicalResiReg(), new UserPrefs());
+
+    @Test
+    public void execute_validAndInvalidLines_validLinesImportedAsOneUndoableChange() throws Exception {
+        Path file = writeFile(STUDENT_HEADER,
+                "Jane Tan,E0200001,91234567,jane@u.nus.edu,SOC,ca leader",
+                "",
+                "\"Kim Tan\",E0200002,91234568,kim@u.nus.edu,FASS,",
+                "Bad Id,X123,91234569,bad@u.nus.edu,SOC,",
+                "Too Few,E0200003",
+                ALICE.getNameAsString() + "," + ALICE.getStudentId() + ",91234560,alice@u.nus.edu,SOC,");
+        int studentCount = model.getResiReg().getStudentList().size();
+
+        CommandResult result = new ImportCommand(file).execute(model, new StorageStub(), history);
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, "student(s)", 3)
+                + "\n" + String.format(ImportCommand.MESSAGE_SKIPPED_LINE, 5, StudentId.MESSAGE_CONSTRAINTS)
+                + "\n" + String.format(ImportCommand.MESSAGE_SKIPPED_LINE, 6,
+                        String.format(ImportCommand.MESSAGE_WRONG_FIELD_COUNT, 6, 2))
+                + "\n" + String.format(ImportCommand.MESSAGE_SKIPPED_LINE, 7, AddCommand.MESSAGE_DUPLICATE_STUDENT);
+        assertEquals(expectedMessage, result.getFeedbackToUser());
+
+        Student jane = new StudentBuilder().withName("Jane Tan").withStudentId("E0200001").withPhone("91234567")
+                .withEmail("jane@u.nus.edu").withFaculty("SOC").withTags("ca", "leader").build();
+        assertTrue(model.getResiReg().getStudentList().contains(jane));
+        assertEquals(studentCount + 2, model.getResiReg().getStudentList().size());
+
+        model.undoResiReg();
+        assertEquals(studentCount, model.getResiReg().getStudentList().size());
+        assertFalse(model.canUndoResiReg());
+    }
+
+    @Test
+    public void execute_rooms_roomsImported() throws Exception {
+        Path file = writeFile("room_type,floor,room_number", "CA,20,101", "XX,20,102");
+
+        CommandResult result = new ImportCommand(file).execute(model, new StorageStub(), history);
+
+        assertTrue(result.getFeedbackToUser().startsWith(
+                String.format(ImportCommand.MESSAGE_SUCCESS, 1, "room(s)", 1)));
+        Room room = new RoomBuilder().withFloor("20").withRoomNumber("101").withRoomType("CA").build();
+        assertTrue(model.hasRoom(room));
+    }
+
+    @Test
+    public void execute_manyInvalidLines_onlyFirstFewReported() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(STUDENT_HEADER);
+        int invalidLineCount = ImportCommand.MAX_REPORTED_LINES + 5;
+        for (int i = 0; i < invalidLineCount; i++) {
+            lines.add("a,b,c,d,e,f");
+        }
+        Path file = writeFile(lines.toArray(new String[0]));
+
+        String feedback = new ImportCommand(file).execute(model, new StorageStub(), history).getFeedbackToUser();
+
+        assertEquals(ImportCommand.MAX_REPORTED_LINES + 2, feedback.split("\n").length);
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_SKIPPED_LINES, 5)));
+        assertFalse(model.canUndoResiReg());
+    }
+
+    @Test
+    public void execute_invalidFile_throwsCommandException() throws IOException {
+        Path missingFile = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(missingFile), model, history,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, missingFile));
+
+        Path emptyFile = writeFile();
+        assertCommandFailure(new ImportCommand(emptyFile), model, history,
+                String.format(ImportCommand.MESSAGE_EMPTY_FILE, emptyFile));
+
+        assertCommandFailure(new ImportCommand(writeFile("name,floor")), model, history,
+                ImportCommand.MESSAGE_INVALID_HEADER);
+        assertCommandFailure(new ImportCommand(writeFile(STUDENT_HEADER + ",name")), model, history,
+                ImportCommand.MESSAGE_INVALID_HEADER);
+        assertCommandFailure(new ImportCommand(writeFile(STUDENT_HEADER + ",\"")), model, history,
+                ImportCommand.MESSAGE_INVALID_HEADER);
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("students.csv"));
+
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("students.csv"))));
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("rooms.csv"))));
+        assertFalse(importCommand.equals(null));
+    }
+
+    private Path writeFile(String... lines) throws IOException {
+        Path file = Files.createTempFile(testFolder, "import", ".csv");
+        Files.write(file, Arrays.asList(lines));
+        return file;
+    }
+}
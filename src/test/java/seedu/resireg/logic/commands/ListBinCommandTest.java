@@ -1,7 +1,16 @@
 package seedu.resireg.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.resireg.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.resireg.testutil.TypicalAllocations.getTypicalResiReg;
+import static seedu.resireg.testutil.TypicalBinItems.BIN_ITEM_ONE;
+import static seedu.resireg.testutil.TypicalBinItems.BIN_ITEM_THREE;
+import static seedu.resireg.testutil.TypicalBinItems.BIN_ITEM_TWO;
+import static seedu.resireg.testutil.TypicalRooms.ROOM_ONE;
+import static seedu.resireg.testutil.TypicalStudents.ALICE;
+
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,6 +19,10 @@ import seedu.resireg.logic.CommandHistory;
 import seedu.resireg.model.Model;
 import seedu.resireg.model.ModelManager;
 import seedu.resireg.model.UserPrefs;
+import seedu.resireg.model.bin.BinItem;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.student.Student;
+import seedu.resireg.testutil.TypicalBinItems;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for ListStudentsCommand.
@@ -30,4 +43,24 @@ public class ListBinCommandTest {
     public void execute_listIsNotFiltered_showsSameList() {
         assertCommandSuccess(new ListBinCommand(), model, history, ListBinCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_studentsFlag_showsOnlyBinnedStudents() {
+        Model binModel = new ModelManager(TypicalBinItems.getTypicalResiReg(), new UserPrefs());
+        new ListBinCommand(Student.class).execute(binModel, null, history);
+        assertEquals(Arrays.asList(BIN_ITEM_ONE, BIN_ITEM_THREE), binModel.getFilteredBinItemList());
+
+        // bin items added later are listed if they hold students
+        BinItem binnedAlice = new BinItem(ALICE);
+        binModel.addBinItem(new BinItem(ROOM_ONE));
+        binModel.addBinItem(binnedAlice);
+        assertEquals(Arrays.asList(BIN_ITEM_ONE, BIN_ITEM_THREE, binnedAlice), binModel.getFilteredBinItemList());
+    }
+
+    @Test
+    public void execute_roomsFlag_showsOnlyBinnedRooms() {
+        Model binModel = new ModelManager(TypicalBinItems.getTypicalResiReg(), new UserPrefs());
+        new ListBinCommand(Room.class).execute(binModel, null, history);
+        assertEquals(Collections.singletonList(BIN_ITEM_TWO), binModel.getFilteredBinItemList());
+    }
 }
@@ -2,6 +2,7 @@ package seedu.resireg.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.resireg.logic.commands.CommandTestUtil.VALID_FLOOR_A;
 import static seedu.resireg.logic.commands.CommandTestUtil.VALID_FLOOR_B;
 import static seedu.resireg.logic.commands.CommandTestUtil.VALID_FLOOR_C;
@@ -154,6 +155,18 @@ public class ListRoomsCommandTest {
                 ListRoomsCommand.MESSAGE_FILTERED_SUCCESS, expectedModel, TabView.ROOMS);
     }
 
+    @Test
+    void execute_matchingRoomAddedAfterFilteringByFloor_roomShown() throws Exception {
+        Floor floor = new Floor(VALID_FLOOR_A);
+        new ListRoomsCommand(new RoomFilterBuilder().addFloor(floor).build()).execute(model, null, history);
+        Room room = new RoomBuilder().withFloor(VALID_FLOOR_A).withRoomNumber(VALID_ROOM_NUMBER_C)
+                .withRoomType(VALID_ROOM_TYPE_C).build();
+
+        model.addRoom(room);
+        assertEquals(3, model.getFilteredRoomList().size());
+        assertTrue(model.getFilteredRoomList().contains(room));
+    }
+
     @Test
     void execute_listFilterMultipleFloors_showsCorrect() {
         Collection<Floor> floors = Arrays.asList(new Floor(VALID_FLOOR_A), new Floor(VALID_FLOOR_B));
@@ -85,6 +85,16 @@ public class ListStudentsCommandTest {
                 history, ListStudentsCommand.MESSAGE_FILTERED_SUCCESS, expectedModel, TabView.STUDENTS);
     }
 
+    @Test
+    public void execute_matchingStudentAddedAfterFilteringByName_studentShown() throws Exception {
+        filter.addValidNames(List.of(new Name(AMY.getNameAsString())));
+        new ListStudentsCommand(filter).execute(model, null, history);
+        assertEquals(List.of(), model.getFilteredStudentList());
+
+        model.addStudent(AMY);
+        assertEquals(List.of(AMY), model.getFilteredStudentList());
+    }
+
     @Test
     public void execute_listStudentsFilteredPhones_showsStudentWithMatchingPhones() {
         // Matching phone number exists
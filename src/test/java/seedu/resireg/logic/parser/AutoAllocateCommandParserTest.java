@@ -0,0 +1,38 @@
+package seedu.resireg.logic.parser;
+
+import static seedu.resireg.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.resireg.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.resireg.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.resireg.logic.commands.AutoAllocateCommand;
+import seedu.resireg.model.allocation.AllocationConstraints;
+
+class AutoAllocateCommandParserTest {
+
+    private static final String MESSAGE_INVALID_COMMAND =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AutoAllocateCommand.HELP.getFullMessage());
+
+    private final AutoAllocateCommandParser parser = new AutoAllocateCommandParser();
+
+    @Test
+    void parse_noFlags_allConstraints() {
+        assertParseSuccess(parser, "", new AutoAllocateCommand(AllocationConstraints.ALL));
+    }
+
+    @Test
+    void parse_flags_constraintsTurnedOff() {
+        assertParseSuccess(parser, " --" + AutoAllocateCommand.COMMAND_NO_SPREADING_FLAG,
+                new AutoAllocateCommand(new AllocationConstraints(true, false, true)));
+        assertParseSuccess(parser, " --" + AutoAllocateCommand.COMMAND_NO_PREFERENCES_FLAG
+                + " --" + AutoAllocateCommand.COMMAND_NO_RETURNING_FLAG,
+                new AutoAllocateCommand(new AllocationConstraints(false, true, false)));
+    }
+
+    @Test
+    void parse_invalidArgs_failure() {
+        assertParseFailure(parser, " 1", MESSAGE_INVALID_COMMAND);
+        assertParseFailure(parser, " --no-rooms", MESSAGE_INVALID_COMMAND);
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.resireg.logic.parser;
+
+import static seedu.resireg.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.resireg.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.resireg.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.resireg.logic.commands.ExportCommand;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.student.Student;
+import seedu.resireg.storage.ExportFormat;
+
+class ExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_COMMAND =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.HELP.getFullMessage());
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    void parse_validArgs_success() {
+        assertParseSuccess(parser, " --students data/all students.csv",
+                new ExportCommand(Student.class, Paths.get("data/all students.csv"), ExportFormat.CSV));
+        assertParseSuccess(parser, " --rooms rooms.json ",
+                new ExportCommand(Room.class, Paths.get("rooms.json"), ExportFormat.JSON));
+    }
+
+    @Test
+    void parse_unsupportedExtension_failure() {
+        assertParseFailure(parser, " --rooms rooms.txt", ExportCommandParser.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+
+    @Test
+    void parse_invalidArgs_failure() {
+        assertParseFailure(parser, " rooms.csv", MESSAGE_INVALID_COMMAND);
+        assertParseFailure(parser, " --rooms", MESSAGE_INVALID_COMMAND);
+        assertParseFailure(parser, " --bin bin.csv", MESSAGE_INVALID_COMMAND);
+        assertParseFailure(parser, " --rooms --students rooms.csv", MESSAGE_INVALID_COMMAND);
+    }
+}
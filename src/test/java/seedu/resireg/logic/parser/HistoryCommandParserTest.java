@@ -0,0 +1,34 @@
+package seedu.resireg.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.resireg.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.resireg.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
+import static seedu.resireg.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.resireg.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.resireg.logic.commands.HistoryCommand;
+import seedu.resireg.logic.commands.HistoryStatsCommand;
+
+public class HistoryCommandParserTest {
+
+    private HistoryCommandParser parser = new HistoryCommandParser();
+
+    @Test
+    public void parse_noArguments_returnsHistoryCommand() throws Exception {
+        assertTrue(parser.parse("") instanceof HistoryCommand);
+        assertTrue(parser.parse(PREAMBLE_WHITESPACE) instanceof HistoryCommand);
+    }
+
+    @Test
+    public void parse_stats_returnsHistoryStatsCommand() {
+        assertParseSuccess(parser, " stats ", new HistoryStatsCommand());
+    }
+
+    @Test
+    public void parse_invalidArguments_failure() {
+        assertParseFailure(parser, "statistics",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, HistoryCommand.HELP.getFullMessage()));
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.resireg.logic.parser;
+
+import static seedu.resireg.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.resireg.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.resireg.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.resireg.logic.commands.ImportCommand;
+
+class ImportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_COMMAND =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.HELP.getFullMessage());
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    void parse_filePath_success() {
+        assertParseSuccess(parser, " data/new students.csv ",
+                new ImportCommand(Paths.get("data/new students.csv")));
+    }
+
+    @Test
+    void parse_invalidArgs_failure() {
+        assertParseFailure(parser, "  ", MESSAGE_INVALID_COMMAND);
+        assertParseFailure(parser, " a\0b", MESSAGE_INVALID_COMMAND);
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.resireg.logic.parser;
+
+import static seedu.resireg.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.resireg.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.resireg.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.resireg.logic.commands.ListBinCommand;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.student.Student;
+
+class ListBinCommandParserTest {
+
+    private static final String MESSAGE_INVALID_COMMAND =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListBinCommand.HELP.getFullMessage());
+
+    private final ListBinCommandParser parser = new ListBinCommandParser();
+
+    @Test
+    void parse_noFlag_returnsListBinCommand() {
+        assertParseSuccess(parser, "", new ListBinCommand());
+
+        // other text is ignored
+        assertParseSuccess(parser, " dn", new ListBinCommand());
+    }
+
+    @Test
+    void parse_typeFlag_returnsFilteredListBinCommand() {
+        assertParseSuccess(parser, " --" + ListBinCommand.COMMAND_STUDENTS_FLAG, new ListBinCommand(Student.class));
+        assertParseSuccess(parser, " --" + ListBinCommand.COMMAND_ROOMS_FLAG, new ListBinCommand(Room.class));
+    }
+
+    @Test
+    void parse_invalidFlags_failure() {
+        assertParseFailure(parser, " --deleted", MESSAGE_INVALID_COMMAND);
+        assertParseFailure(parser, " --" + ListBinCommand.COMMAND_STUDENTS_FLAG
+                + " --" + ListBinCommand.COMMAND_ROOMS_FLAG, MESSAGE_INVALID_COMMAND);
+    }
+}
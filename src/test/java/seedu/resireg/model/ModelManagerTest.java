@@ -13,15 +13,22 @@ import static seedu.resireg.testutil.TypicalStudents.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.resireg.commons.core.GuiSettings;
+import seedu.resireg.model.ModelPredicate.Dependency;
 import seedu.resireg.model.room.Room;
 import seedu.resireg.model.student.NameContainsKeywordsPredicate;
 import seedu.resireg.model.student.Student;
+import seedu.resireg.testutil.AllocationBuilder;
 import seedu.resireg.testutil.ResiRegBuilder;
+import seedu.resireg.testutil.RoomBuilder;
 import seedu.resireg.testutil.UserPrefsBuilder;
 
 public class ModelManagerTest {
@@ -99,6 +106,112 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredStudentList().remove(0));
     }
 
+    @Test
+    public void runInBatch_actionThrows_changesRolledBack() {
+        modelManager.addStudent(ALICE);
+        assertThrows(IllegalStateException.class, () -> modelManager.runInBatch(() -> {
+            modelManager.addStudent(BENSON);
+            modelManager.deleteStudent(ALICE);
+            throw new IllegalStateException();
+        }));
+
+        assertTrue(modelManager.hasStudent(ALICE));
+        assertFalse(modelManager.hasStudent(BENSON));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void runInBatch_actionThrowsError_changesRolledBack() {
+        assertThrows(AssertionError.class, () -> modelManager.runInBatch(() -> {
+            modelManager.addStudent(BENSON);
+            throw new AssertionError();
+        }));
+
+        assertFalse(modelManager.hasStudent(BENSON));
+        modelManager.addStudent(ALICE);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void runInBatch_actionSucceeds_filteredListsUpdated() {
+        modelManager.runInBatch(() -> {
+            modelManager.addStudent(ALICE);
+            modelManager.addStudent(BENSON);
+        });
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredStudentList());
+    }
+
+    @Test
+    public void updateFilteredRoomList_predicateWithDependencies_refilteredOnlyWhenDependenciesChange() {
+        modelManager.addRoom(ROOM_ONE);
+        List<Room> testedRooms = new ArrayList<>();
+        modelManager.updateFilteredRoomList(ModelPredicate.withDependencies((room, model) -> {
+            testedRooms.add(room);
+            return !model.isAllocated(room);
+        }, Dependency.ALLOCATIONS));
+        testedRooms.clear();
+
+        // unrelated list changed -> not refiltered
+        modelManager.addStudent(ALICE);
+        assertTrue(testedRooms.isEmpty());
+
+        // new room -> only the new room is tested
+        Room otherRoom = new RoomBuilder().withRoomNumber("101").build();
+        modelManager.addRoom(otherRoom);
+        assertEquals(Collections.singletonList(otherRoom), testedRooms);
+
+        // dependency changed -> refiltered
+        testedRooms.clear();
+        modelManager.addAllocation(new AllocationBuilder().withFloor(ROOM_ONE.getFloor().toString())
+                .withRoomNumber(ROOM_ONE.getRoomNumber().toString())
+                .withStudentId(ALICE.getStudentId().toString()).build());
+        assertEquals(Arrays.asList(ROOM_ONE, otherRoom), testedRooms);
+        assertEquals(Collections.singletonList(otherRoom), modelManager.getFilteredRoomList());
+    }
+
+    @Test
+    public void updateFilteredRoomList_roomEditedInBatch_onlyEditedRoomTested() {
+        Room otherRoom = new RoomBuilder().withRoomNumber("101").build();
+        modelManager.addRoom(ROOM_ONE);
+        modelManager.addRoom(otherRoom);
+        List<Room> testedRooms = new ArrayList<>();
+        List<ListChangeListener.Change<? extends Room>> changes = new ArrayList<>();
+        modelManager.updateFilteredRoomList(ModelPredicate.withDependencies((room, model) -> {
+            testedRooms.add(room);
+            return !model.isAllocated(room);
+        }, Dependency.ALLOCATIONS));
+        modelManager.getResiReg().getRoomList().addListener((ListChangeListener<Room>) changes::add);
+        testedRooms.clear();
+
+        // only the range of the room list which changed in the batch is published
+        Room editedRoom = new RoomBuilder(otherRoom).withRoomType("NA").build();
+        modelManager.runInBatch(() -> modelManager.setRoom(otherRoom, editedRoom));
+        assertEquals(Collections.singletonList(editedRoom), testedRooms);
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(ROOM_ONE, editedRoom), modelManager.getFilteredRoomList());
+    }
+
+    @Test
+    public void updateFilteredRoomList_unchangedRoomsAfterReset_resultsServedFromCache() {
+        Room otherRoom = new RoomBuilder().withRoomNumber("101").build();
+        modelManager.addRoom(ROOM_ONE);
+        List<Room> testedRooms = new ArrayList<>();
+        modelManager.updateFilteredRoomList(ModelPredicate.withDependencies((room, model) -> {
+            testedRooms.add(room);
+            return !model.isAllocated(room);
+        }, Dependency.ALLOCATIONS));
+        testedRooms.clear();
+        long hitsBefore = modelManager.getFilterCacheHits();
+
+        // the whole room list is replaced, but only the new room is tested
+        ResiReg newResiReg = new ResiReg(modelManager.getResiReg());
+        newResiReg.addRoom(otherRoom);
+        modelManager.setResiReg(newResiReg);
+        assertEquals(Collections.singletonList(otherRoom), testedRooms);
+        assertTrue(modelManager.getFilterCacheHits() > hitsBefore);
+        assertEquals(Arrays.asList(ROOM_ONE, otherRoom), modelManager.getFilteredRoomList());
+    }
+
     // Rooms
     @Test
     public void getFilteredRoomList_modifyList_throwsUnsupportedOperationException() {
@@ -0,0 +1,62 @@
+package seedu.resireg.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.resireg.testutil.Assert.assertThrows;
+import static seedu.resireg.testutil.TypicalStudents.ALICE;
+import static seedu.resireg.testutil.TypicalStudents.getTypicalResiReg;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.resireg.model.semester.Semester;
+
+public class ResiRegSnapshotTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ResiRegSnapshot(null));
+    }
+
+    @Test
+    public void constructor_resiRegChangedAfterwards_snapshotUnchanged() {
+        ResiReg resiReg = getTypicalResiReg();
+        ResiReg expected = new ResiReg(resiReg);
+
+        ResiRegSnapshot snapshot = new ResiRegSnapshot(resiReg);
+        resiReg.removeStudent(ALICE);
+        resiReg.setSemester(resiReg.getSemester().getNextSemester());
+
+        assertEquals(expected, new ResiReg(snapshot));
+    }
+
+    @Test
+    public void constructor_semesterChangedInPlaceAfterwards_snapshotSemesterUnchanged() {
+        ResiReg resiReg = getTypicalResiReg();
+        Semester expectedSemester = new Semester(resiReg.getSemester().getAcademicYear(),
+                resiReg.getSemester().getSemesterNumber());
+
+        ResiRegSnapshot snapshot = new ResiRegSnapshot(resiReg);
+        resiReg.setSemester(expectedSemester.getNextSemester());
+
+        assertEquals(expectedSemester, snapshot.getSemester());
+    }
+
+    @Test
+    public void constructor_typicalResiReg_entitiesShared() {
+        ResiReg resiReg = getTypicalResiReg();
+        ResiRegSnapshot snapshot = new ResiRegSnapshot(resiReg);
+
+        for (int i = 0; i < resiReg.getStudentList().size(); i++) {
+            assertSame(resiReg.getStudentList().get(i), snapshot.getStudentList().get(i));
+        }
+        for (int i = 0; i < resiReg.getRoomList().size(); i++) {
+            assertSame(resiReg.getRoomList().get(i), snapshot.getRoomList().get(i));
+        }
+    }
+
+    @Test
+    public void getStudentList_modifyList_throwsUnsupportedOperationException() {
+        ResiRegSnapshot snapshot = new ResiRegSnapshot(getTypicalResiReg());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getStudentList().remove(0));
+    }
+}
@@ -11,8 +11,11 @@ import static seedu.resireg.logic.commands.CommandTestUtil.VALID_TAG_RENOVATED;
 import static seedu.resireg.testutil.Assert.assertThrows;
 import static seedu.resireg.testutil.TypicalRooms.ROOM_ONE;
 import static seedu.resireg.testutil.TypicalStudents.ALICE;
+import static seedu.resireg.testutil.TypicalStudents.BENSON;
+import static seedu.resireg.testutil.TypicalStudents.CARL;
 import static seedu.resireg.testutil.TypicalStudents.getTypicalResiReg;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -23,6 +26,7 @@ import org.junit.jupiter.api.Test;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.resireg.model.allocation.Allocation;
 import seedu.resireg.model.bin.BinItem;
@@ -56,6 +60,55 @@ public class ResiRegTest {
         assertEquals(newData, resiReg);
     }
 
+    @Test
+    public void commitBatch_multipleChanges_changesPublishedOnce() {
+        resiReg.addStudent(ALICE);
+        List<Integer> listenerCalls = new ArrayList<>();
+        List<Integer> listChanges = new ArrayList<>();
+        resiReg.addListener(unused -> listenerCalls.add(1));
+        resiReg.getStudentList().addListener((ListChangeListener<Student>) unused -> listChanges.add(1));
+
+        resiReg.beginBatch();
+        resiReg.addStudent(BENSON);
+        resiReg.addStudent(CARL);
+        resiReg.removeStudent(ALICE);
+        assertTrue(resiReg.hasStudent(CARL));
+        assertEquals(Collections.singletonList(ALICE), resiReg.getStudentList());
+        assertTrue(listenerCalls.isEmpty());
+
+        resiReg.commitBatch();
+        assertEquals(Arrays.asList(BENSON, CARL), resiReg.getStudentList());
+        assertEquals(1, listenerCalls.size());
+        assertEquals(1, listChanges.size());
+    }
+
+    @Test
+    public void rollbackBatch_changesMade_changesDiscarded() {
+        resiReg.addStudent(ALICE);
+        resiReg.setSemester(TypicalSemesters.AY2020_SEM_1);
+        ResiReg expectedResiReg = new ResiReg(resiReg);
+
+        resiReg.beginBatch();
+        resiReg.addStudent(BENSON);
+        resiReg.removeStudent(ALICE);
+        resiReg.setSemester(resiReg.getSemester().getNextSemester());
+        resiReg.rollbackBatch();
+
+        assertEquals(expectedResiReg, resiReg);
+        assertEquals(TypicalSemesters.AY2020_SEM_1, resiReg.getSemester());
+        assertTrue(resiReg.hasStudent(ALICE));
+        assertFalse(resiReg.hasStudent(BENSON));
+    }
+
+    @Test
+    public void resetData_withResiReg_copiesDataIndependently() {
+        ResiReg source = getTypicalResiReg();
+        resiReg.resetData(source);
+        resiReg.removeStudent(ALICE);
+        assertTrue(source.hasStudent(ALICE));
+        assertFalse(resiReg.hasStudent(ALICE));
+    }
+
     @Test
     public void resetData_withDuplicateStudents_throwsDuplicateStudentException() {
         // Two students with the same identity fields
@@ -137,6 +190,20 @@ public class ResiRegTest {
         assertThrows(UnsupportedOperationException.class, () -> resiReg.getRoomList().remove(0));
     }
 
+    @Test
+    public void deleteExpiredBinItems_someItemsExpired_onlyExpiredItemsDeleted() {
+        LocalDate today = LocalDate.now();
+        BinItem expiredItem = new BinItem(ALICE, today.minusDays(8));
+        BinItem lastDayItem = new BinItem(BENSON, today.minusDays(7));
+        BinItem newItem = new BinItem(CARL, today);
+        resiReg.addBinItem(newItem);
+        resiReg.addBinItem(expiredItem);
+        resiReg.addBinItem(lastDayItem);
+
+        resiReg.deleteExpiredBinItems(7);
+        assertEquals(Arrays.asList(newItem, lastDayItem), resiReg.getBinItemList());
+    }
+
     /**
      * A stub ReadOnlyResiReg whose students list can violate interface constraints.
      */
@@ -8,15 +8,24 @@ import static seedu.resireg.testutil.TypicalStudents.AMY;
 import static seedu.resireg.testutil.TypicalStudents.BOB;
 import static seedu.resireg.testutil.TypicalStudents.CARL;
 
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.resireg.model.bin.BinItem;
 import seedu.resireg.model.exceptions.NoRedoableStateException;
 import seedu.resireg.model.exceptions.NoUndoableStateException;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.semester.Semester;
+import seedu.resireg.model.student.Student;
 import seedu.resireg.testutil.ResiRegBuilder;
+import seedu.resireg.testutil.StudentBuilder;
 
 class StatefulResiRegTest {
     private final ReadOnlyResiReg resiRegWithAmy = new ResiRegBuilder().withStudent(AMY).build();
@@ -210,6 +219,182 @@ class StatefulResiRegTest {
         assertThrows(NoRedoableStateException.class, statefulResiReg::redo);
     }
 
+    @Test
+    public void undo_removeStudentFromMiddle_studentRestoredAtSamePosition() {
+        ReadOnlyResiReg resiRegWithAmyBobCarl = new ResiRegBuilder()
+                .withStudent(AMY).withStudent(BOB).withStudent(CARL).build();
+        StatefulResiReg statefulResiReg = prepareResiReg(resiRegWithAmyBobCarl);
+        statefulResiReg.removeStudent(BOB);
+        statefulResiReg.save();
+
+        statefulResiReg.undo();
+        assertEquals(Arrays.asList(AMY, BOB, CARL), statefulResiReg.getStudentList());
+
+        statefulResiReg.redo();
+        assertEquals(Arrays.asList(AMY, CARL), statefulResiReg.getStudentList());
+    }
+
+    @Test
+    public void undo_afterExpiredBinItemsDeleted_binItemsStayDeleted() {
+        BinItem expiredItem = new BinItem(AMY, LocalDate.now().minusDays(40));
+        BinItem recentItem = new BinItem(BOB, LocalDate.now());
+        ResiReg resiRegWithBinItems = new ResiReg();
+        resiRegWithBinItems.addBinItem(expiredItem);
+        resiRegWithBinItems.addBinItem(recentItem);
+        StatefulResiReg statefulResiReg = prepareResiReg(resiRegWithBinItems);
+        statefulResiReg.addStudent(CARL);
+        statefulResiReg.save();
+
+        statefulResiReg.deleteExpiredBinItems(30);
+        assertEquals(Collections.singletonList(recentItem), statefulResiReg.getBinItemList());
+
+        // undoing the last command keeps the purge
+        statefulResiReg.addStudent(AMY);
+        statefulResiReg.save();
+        statefulResiReg.undo();
+        assertEquals(Collections.singletonList(CARL), statefulResiReg.getStudentList());
+        assertEquals(Collections.singletonList(recentItem), statefulResiReg.getBinItemList());
+    }
+
+    @Test
+    public void deleteExpiredBinItems_canRedo_redoHistoryKept() {
+        BinItem expiredItem = new BinItem(AMY, LocalDate.now().minusDays(40));
+        ResiReg resiRegWithBinItem = new ResiReg();
+        resiRegWithBinItem.addBinItem(expiredItem);
+        StatefulResiReg statefulResiReg = prepareResiReg(resiRegWithBinItem);
+        statefulResiReg.addStudent(CARL);
+        statefulResiReg.save();
+        statefulResiReg.undo();
+
+        statefulResiReg.deleteExpiredBinItems(30);
+        assertTrue(statefulResiReg.canRedo());
+        assertEquals(Collections.singletonList(expiredItem), statefulResiReg.getBinItemList());
+
+        statefulResiReg.redo();
+        assertEquals(Collections.singletonList(CARL), statefulResiReg.getStudentList());
+
+        // the expired item is purged once nothing is left to redo
+        statefulResiReg.deleteExpiredBinItems(30);
+        assertEquals(Collections.emptyList(), statefulResiReg.getBinItemList());
+        statefulResiReg.undo();
+        assertEquals(Collections.singletonList(CARL), statefulResiReg.getStudentList());
+        assertEquals(Collections.singletonList(expiredItem), statefulResiReg.getBinItemList());
+    }
+
+    @Test
+    public void undo_binItemDeleted_binItemSelectedByTypeAgain() {
+        BinItem binItem = new BinItem(AMY, LocalDate.now());
+        ResiReg resiRegWithBinItem = new ResiReg();
+        resiRegWithBinItem.addBinItem(binItem);
+        StatefulResiReg statefulResiReg = prepareResiReg(resiRegWithBinItem);
+        statefulResiReg.removeBinItem(binItem);
+        statefulResiReg.save();
+        assertFalse(statefulResiReg.selectBinItems(Student.class).test(binItem));
+
+        statefulResiReg.undo();
+        assertTrue(statefulResiReg.selectBinItems(Student.class).test(binItem));
+        assertFalse(statefulResiReg.selectBinItems(Room.class).test(binItem));
+    }
+
+    @Test
+    public void undo_unsavedEdits_unsavedEditsDiscarded() {
+        StatefulResiReg statefulResiReg = prepareResiReg(emptyResiReg, resiRegWithAmy);
+        statefulResiReg.addStudent(BOB);
+
+        statefulResiReg.undo();
+        assertEquals(emptyResiReg, new ResiReg(statefulResiReg));
+
+        statefulResiReg.redo();
+        assertEquals(resiRegWithAmy, new ResiReg(statefulResiReg));
+    }
+
+    @Test
+    public void save_moreLevelsThanMaxInMemory_oldestLevelsSpilled() {
+        StatefulResiReg statefulResiReg = new StatefulResiReg(emptyResiReg);
+        statefulResiReg.setMaxUndoLevelsInMemory(1);
+        statefulResiReg.setSpilledStateStack(new SpilledStateStackStub());
+        statefulResiReg.resetData(resiRegWithAmy);
+        statefulResiReg.save();
+        statefulResiReg.resetData(resiRegWithBob);
+        statefulResiReg.save();
+        statefulResiReg.resetData(resiRegWithCarl);
+        statefulResiReg.save();
+
+        UndoHistoryStats stats = statefulResiReg.getStats();
+        assertEquals(1, stats.getUndoLevelsInMemory());
+        assertEquals(2, stats.getLevelsOnDisk());
+
+        assertResiRegStatesStatus(statefulResiReg,
+                resiRegWithCarl,
+                Arrays.asList(emptyResiReg, resiRegWithAmy, resiRegWithBob),
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undo_spilledEntityEdits_statesRestoredAndRedoable() {
+        StatefulResiReg statefulResiReg = new StatefulResiReg(resiRegWithAmy);
+        statefulResiReg.setMaxUndoLevelsInMemory(1);
+        statefulResiReg.setSpilledStateStack(new SpilledStateStackStub());
+        List<ResiReg> states = new ArrayList<>();
+        states.add(new ResiReg(statefulResiReg));
+
+        statefulResiReg.addStudent(BOB);
+        statefulResiReg.addStudent(CARL, true);
+        statefulResiReg.save();
+        states.add(new ResiReg(statefulResiReg));
+        statefulResiReg.setStudent(AMY, new StudentBuilder(AMY).withPhone("91234567").build());
+        statefulResiReg.setSemester(new Semester(2021, 2));
+        statefulResiReg.save();
+        states.add(new ResiReg(statefulResiReg));
+        statefulResiReg.removeStudent(BOB);
+        statefulResiReg.save();
+        states.add(new ResiReg(statefulResiReg));
+        assertEquals(2, statefulResiReg.getStats().getLevelsOnDisk());
+
+        for (int i = states.size() - 2; i >= 0; i--) {
+            statefulResiReg.undo();
+            assertEquals(states.get(i), new ResiReg(statefulResiReg));
+            assertEquals(states.get(i).getSemester(), statefulResiReg.getSemester());
+        }
+        for (int i = 1; i < states.size(); i++) {
+            statefulResiReg.redo();
+            assertEquals(states.get(i), new ResiReg(statefulResiReg));
+            assertEquals(states.get(i).getSemester(), statefulResiReg.getSemester());
+        }
+        for (int i = states.size() - 2; i >= 0; i--) {
+            statefulResiReg.undo();
+            assertEquals(states.get(i), new ResiReg(statefulResiReg));
+        }
+        assertFalse(statefulResiReg.canUndo());
+    }
+
+    @Test
+    public void save_moreLevelsThanMaxInMemoryWithoutSpilledStateStack_oldestLevelsDiscarded() {
+        StatefulResiReg statefulResiReg = new StatefulResiReg(emptyResiReg);
+        statefulResiReg.setMaxUndoLevelsInMemory(1);
+        statefulResiReg.resetData(resiRegWithAmy);
+        statefulResiReg.save();
+        statefulResiReg.resetData(resiRegWithBob);
+        statefulResiReg.save();
+
+        statefulResiReg.undo();
+        assertEquals(resiRegWithAmy, new ResiReg(statefulResiReg));
+        assertFalse(statefulResiReg.canUndo());
+    }
+
+    @Test
+    public void rollbackBatch_editsInBatch_notSavedInHistory() {
+        StatefulResiReg statefulResiReg = prepareResiReg(emptyResiReg, resiRegWithAmy);
+        statefulResiReg.beginBatch();
+        statefulResiReg.addStudent(BOB);
+        statefulResiReg.rollbackBatch();
+        statefulResiReg.addStudent(CARL);
+        statefulResiReg.save();
+
+        statefulResiReg.undo();
+        assertEquals(resiRegWithAmy, new ResiReg(statefulResiReg));
+    }
+
     @Test
     public void equals() {
         StatefulResiReg statefulResiReg = prepareResiReg(resiRegWithAmy, resiRegWithBob);
@@ -302,4 +487,36 @@ class StatefulResiRegTest {
             statefulResiReg.undo();
         }
     }
+
+    /**
+     * A {@code SpilledStateStack} which keeps the levels in memory.
+     */
+    private static class SpilledStateStackStub implements SpilledStateStack {
+        private final Deque<ResiRegDelta> states = new ArrayDeque<>();
+
+        @Override
+        public void push(ResiRegDelta level) {
+            states.push(level);
+        }
+
+        @Override
+        public ResiRegDelta pop() {
+            return states.pop();
+        }
+
+        @Override
+        public int size() {
+            return states.size();
+        }
+
+        @Override
+        public long getSizeInBytes() {
+            return 0;
+        }
+
+        @Override
+        public void clear() {
+            states.clear();
+        }
+    }
 }
@@ -12,6 +12,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.resireg.commons.core.DataFileFormat;
 import seedu.resireg.commons.core.GuiSettings;
 import seedu.resireg.model.alias.CommandWordAlias;
 import seedu.resireg.model.alias.exceptions.DuplicateCommandWordAliasException;
@@ -85,10 +86,20 @@ public class UserPrefsTest {
             return resiRegFilePath;
         }
 
+        @Override
+        public DataFileFormat getResiRegFileFormat() {
+            return DataFileFormat.JSON;
+        }
+
         @Override
         public int getDaysStoredInBin() {
             return 0;
         }
+
+        @Override
+        public int getUndoLevelsInMemory() {
+            return UserPrefs.DEFAULT_UNDO_LEVELS_IN_MEMORY;
+        }
     }
 
 }
@@ -0,0 +1,115 @@
+package seedu.resireg.model.allocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.student.Student;
+import seedu.resireg.testutil.AllocationBuilder;
+import seedu.resireg.testutil.RoomBuilder;
+import seedu.resireg.testutil.StudentBuilder;
+
+public class AllocationEngineTest {
+
+    private static final AllocationConstraints NO_CONSTRAINTS = new AllocationConstraints(false, false, false);
+
+    @Test
+    public void allocate_moreStudentsThanRooms_everyRoomAllocatedOnce() {
+        List<Student> students = createStudents(5, "FASS");
+        List<Room> rooms = createRooms("8", 3, "CA");
+
+        List<Allocation> allocations = new AllocationEngine(AllocationConstraints.ALL)
+                .allocate(students, rooms, Collections.emptyList());
+        assertEquals(3, allocations.size());
+        assertEquals(3, allocations.stream().map(Allocation::getRoomLabel).distinct().count());
+        assertEquals(3, allocations.stream().map(Allocation::getStudentId).distinct().count());
+    }
+
+    @Test
+    public void allocate_roomTypePreferences_preferredRoomTypesGiven() {
+        Student prefersCa = new StudentBuilder().withStudentId("E0000001").withTags("CA").build();
+        Student prefersNn = new StudentBuilder().withStudentId("E0000002").withTags("nn").build();
+        Room nnRoom = new RoomBuilder().withFloor("8").withRoomNumber("101").withRoomType("NN").build();
+        Room caRoom = new RoomBuilder().withFloor("8").withRoomNumber("102").withRoomType("CA").build();
+
+        List<Allocation> allocations = new AllocationEngine(AllocationConstraints.ALL)
+                .allocate(Arrays.asList(prefersCa, prefersNn), Arrays.asList(nnRoom, caRoom), Collections.emptyList());
+        assertEquals(new HashSet<>(Arrays.asList(createAllocation(prefersCa, caRoom),
+                createAllocation(prefersNn, nnRoom))), new HashSet<>(allocations));
+    }
+
+    @Test
+    public void allocate_facultySpreading_facultiesSpreadAcrossFloors() {
+        List<Student> students = new ArrayList<>(createStudents(4, "FASS"));
+        students.addAll(createStudents(4, "SOC"));
+        List<Room> rooms = new ArrayList<>(createRooms("8", 4, "CA"));
+        rooms.addAll(createRooms("9", 4, "CA"));
+
+        List<Allocation> allocations = new AllocationEngine(AllocationConstraints.ALL)
+                .allocate(students, rooms, Collections.emptyList());
+        Map<String, Integer> studentsPerFacultyAndFloor = new HashMap<>();
+        for (Allocation allocation : allocations) {
+            String faculty = students.stream().filter(student -> student.getStudentId()
+                    .equals(allocation.getStudentId())).findFirst().get().getFaculty().toString();
+            studentsPerFacultyAndFloor.merge(faculty + allocation.getFloor(), 1, Integer::sum);
+        }
+
+        assertEquals(8, allocations.size());
+        assertEquals(new HashSet<>(Collections.singletonList(2)), new HashSet<>(studentsPerFacultyAndFloor.values()));
+    }
+
+    @Test
+    public void allocate_returningResident_previousRoomKept() {
+        List<Student> students = createStudents(3, "FASS");
+        List<Room> rooms = createRooms("8", 3, "CA");
+        Allocation previousAllocation = createAllocation(students.get(0), rooms.get(2));
+
+        List<Allocation> allocations = new AllocationEngine(AllocationConstraints.ALL)
+                .allocate(students, rooms, Collections.singletonList(previousAllocation));
+        assertEquals(3, allocations.size());
+        assertEquals(previousAllocation, allocations.get(0));
+    }
+
+    @Test
+    public void allocate_noConstraints_allStudentsAllocated() {
+        List<Student> students = createStudents(4, "FASS");
+        List<Room> rooms = createRooms("8", 5, "CA");
+
+        List<Allocation> allocations = new AllocationEngine(NO_CONSTRAINTS)
+                .allocate(students, rooms, Collections.emptyList());
+        assertEquals(4, allocations.size());
+    }
+
+    private static List<Student> createStudents(int count, String faculty) {
+        List<Student> students = new ArrayList<>();
+        int offset = faculty.hashCode() & 0xFFF;
+        for (int i = 0; i < count; i++) {
+            students.add(new StudentBuilder().withFaculty(faculty)
+                    .withStudentId(String.format("E0%06d", offset * 100 + i)).build());
+        }
+        return students;
+    }
+
+    private static List<Room> createRooms(String floor, int count, String roomType) {
+        List<Room> rooms = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rooms.add(new RoomBuilder().withFloor(floor).withRoomNumber(String.valueOf(100 + i))
+                    .withRoomType(roomType).build());
+        }
+        return rooms;
+    }
+
+    private static Allocation createAllocation(Student student, Room room) {
+        return new AllocationBuilder().withFloor(room.getFloor().value).withRoomNumber(room.getRoomNumber().value)
+                .withStudentId(student.getStudentId().value).build();
+    }
+}
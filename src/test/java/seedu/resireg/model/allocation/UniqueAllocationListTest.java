@@ -7,7 +7,9 @@ import static seedu.resireg.testutil.Assert.assertThrows;
 import static seedu.resireg.testutil.TypicalAllocations.ALLOCATION_ONE;
 import static seedu.resireg.testutil.TypicalAllocations.ALLOCATION_TWO;
 import static seedu.resireg.testutil.TypicalRooms.ROOM_B;
+import static seedu.resireg.testutil.TypicalRooms.ROOM_ONE;
 import static seedu.resireg.testutil.TypicalStudents.ALICE;
+import static seedu.resireg.testutil.TypicalStudents.BENSON;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -35,6 +37,46 @@ public class UniqueAllocationListTest {
         assertTrue(uniqueAllocationList.hasStudent(ALICE));
     }
 
+    @Test
+    public void hasRoom_roomNotInList_returnsFalse() {
+        assertFalse(uniqueAllocationList.hasRoom(ROOM_ONE));
+    }
+
+    @Test
+    public void hasRoom_roomInList_returnsTrue() {
+        uniqueAllocationList.add(ALLOCATION_ONE);
+        assertTrue(uniqueAllocationList.hasRoom(ROOM_ONE));
+    }
+
+    @Test
+    public void hasStudent_afterRemove_returnsFalse() {
+        uniqueAllocationList.add(ALLOCATION_ONE);
+        uniqueAllocationList.remove(ALLOCATION_ONE);
+        assertFalse(uniqueAllocationList.hasStudent(ALICE));
+        assertFalse(uniqueAllocationList.hasRoom(ROOM_ONE));
+    }
+
+    @Test
+    public void hasRoom_afterSetAllocationToDifferentRoom_returnsFalse() {
+        uniqueAllocationList.add(ALLOCATION_ONE);
+        Allocation editedAllocationOne = new AllocationBuilder(ALLOCATION_ONE)
+            .withFloor(ROOM_B.getFloor().value)
+            .withRoomNumber(ROOM_B.getRoomNumber().value)
+            .build();
+        uniqueAllocationList.setAllocation(ALLOCATION_ONE, editedAllocationOne);
+        assertFalse(uniqueAllocationList.hasRoom(ROOM_ONE));
+        assertTrue(uniqueAllocationList.hasRoom(ROOM_B));
+        assertTrue(uniqueAllocationList.hasStudent(ALICE));
+    }
+
+    @Test
+    public void hasStudent_afterSetAllocations_reflectsReplacement() {
+        uniqueAllocationList.add(ALLOCATION_ONE);
+        uniqueAllocationList.setAllocations(Collections.singletonList(ALLOCATION_TWO));
+        assertFalse(uniqueAllocationList.hasStudent(ALICE));
+        assertTrue(uniqueAllocationList.hasStudent(BENSON));
+    }
+
     @Test
     public void contains_nullAllocation_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueAllocationList.contains((Allocation) null));
@@ -80,6 +122,16 @@ public class UniqueAllocationListTest {
         assertThrows(DuplicateAllocationException.class, () -> uniqueAllocationList.add(ALLOCATION_ONE));
     }
 
+    @Test
+    public void add_conflictingAllocation_throwsDuplicateAllocationException() {
+        uniqueAllocationList.add(ALLOCATION_ONE);
+        Allocation sameStudentDifferentRoom = new AllocationBuilder(ALLOCATION_ONE)
+            .withFloor(ROOM_B.getFloor().value)
+            .withRoomNumber(ROOM_B.getRoomNumber().value)
+            .build();
+        assertThrows(DuplicateAllocationException.class, () -> uniqueAllocationList.add(sameStudentDifferentRoom));
+    }
+
     @Test
     public void setAllocation_nullTargetAllocation_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueAllocationList.setAllocation(null, ALLOCATION_ONE));
@@ -7,15 +7,21 @@ import static seedu.resireg.logic.commands.CommandTestUtil.VALID_DATE_DELETED_A;
 import static seedu.resireg.testutil.Assert.assertThrows;
 import static seedu.resireg.testutil.TypicalBinItems.BIN_ITEM_A;
 import static seedu.resireg.testutil.TypicalBinItems.BIN_ITEM_B;
+import static seedu.resireg.testutil.TypicalBinItems.BIN_ITEM_ONE;
+import static seedu.resireg.testutil.TypicalBinItems.BIN_ITEM_THREE;
+import static seedu.resireg.testutil.TypicalBinItems.BIN_ITEM_TWO;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.resireg.model.bin.exceptions.BinItemNotFoundException;
 import seedu.resireg.model.bin.exceptions.DuplicateBinItemException;
+import seedu.resireg.model.room.Room;
+import seedu.resireg.model.student.Student;
 import seedu.resireg.testutil.BinItemBuilder;
 
 public class UniqueBinItemListTest {
@@ -150,6 +156,99 @@ public class UniqueBinItemListTest {
         assertThrows(DuplicateBinItemException.class, () -> uniqueBinItemList.setBinItems(listWithDuplicateBinitems));
     }
 
+    @Test
+    public void findItemsDeletedBefore_itemsDeletedOnDifferentDates_onlyEarlierItemsFound() {
+        uniqueBinItemList.setBinItems(Arrays.asList(BIN_ITEM_A, BIN_ITEM_B));
+        assertEquals(Collections.singletonList(BIN_ITEM_B),
+            uniqueBinItemList.findItemsDeletedBefore(BIN_ITEM_A.getDateDeleted()));
+        assertEquals(Collections.emptyList(), uniqueBinItemList.findItemsDeletedBefore(BIN_ITEM_B.getDateDeleted()));
+    }
+
+    @Test
+    public void findItemsDeletedBefore_itemRemoved_itemNotFound() {
+        uniqueBinItemList.setBinItems(Arrays.asList(BIN_ITEM_A, BIN_ITEM_B));
+        uniqueBinItemList.remove(BIN_ITEM_B);
+        assertEquals(Collections.singletonList(BIN_ITEM_A),
+            uniqueBinItemList.findItemsDeletedBefore(BIN_ITEM_A.getDateDeleted().plusDays(1)));
+    }
+
+    @Test
+    public void indexOf_afterRemovingEarlierItem_positionShifted() {
+        uniqueBinItemList.setBinItems(Arrays.asList(BIN_ITEM_ONE, BIN_ITEM_TWO, BIN_ITEM_THREE));
+        uniqueBinItemList.remove(BIN_ITEM_ONE);
+        assertEquals(1, uniqueBinItemList.indexOf(BIN_ITEM_THREE));
+        assertEquals(-1, uniqueBinItemList.indexOf(BIN_ITEM_ONE));
+    }
+
+    @Test
+    public void isBinnedStudent_itemsOfEachType_partitionedByType() {
+        uniqueBinItemList.setBinItems(Arrays.asList(BIN_ITEM_ONE, BIN_ITEM_TWO));
+        assertTrue(uniqueBinItemList.isBinnedStudent(BIN_ITEM_ONE));
+        assertFalse(uniqueBinItemList.isBinnedStudent(BIN_ITEM_TWO));
+        assertTrue(uniqueBinItemList.isBinnedRoom(BIN_ITEM_TWO));
+
+        // not in the list
+        assertFalse(uniqueBinItemList.isBinnedStudent(BIN_ITEM_THREE));
+    }
+
+    @Test
+    public void getStudentItems_sameStudentBinnedTwice_bothItemsFound() {
+        BinItem binnedAgain = new BinItemBuilder(BIN_ITEM_ONE).withDateDeleted("2020-11-02").build();
+        uniqueBinItemList.setBinItems(Arrays.asList(BIN_ITEM_ONE, BIN_ITEM_TWO, binnedAgain));
+        assertEquals(new HashSet<>(Arrays.asList(BIN_ITEM_ONE, binnedAgain)),
+            uniqueBinItemList.getStudentItems((Student) BIN_ITEM_ONE.getBinnedItem()));
+
+        uniqueBinItemList.remove(binnedAgain);
+        assertEquals(Collections.singleton(BIN_ITEM_ONE),
+            uniqueBinItemList.getStudentItems((Student) BIN_ITEM_ONE.getBinnedItem()));
+    }
+
+    @Test
+    public void setBinItem_differentBinnedItem_indexesUpdated() {
+        uniqueBinItemList.setBinItems(Arrays.asList(BIN_ITEM_ONE, BIN_ITEM_TWO));
+        uniqueBinItemList.setBinItem(BIN_ITEM_ONE, BIN_ITEM_THREE);
+
+        assertFalse(uniqueBinItemList.isBinnedStudent(BIN_ITEM_ONE));
+        assertTrue(uniqueBinItemList.getStudentItems((Student) BIN_ITEM_ONE.getBinnedItem()).isEmpty());
+        assertTrue(uniqueBinItemList.isBinnedStudent(BIN_ITEM_THREE));
+        assertEquals(Collections.singleton(BIN_ITEM_THREE),
+            uniqueBinItemList.getStudentItems((Student) BIN_ITEM_THREE.getBinnedItem()));
+    }
+
+    @Test
+    public void removeAll_expiredItems_indexesUpdated() {
+        uniqueBinItemList.setBinItems(Arrays.asList(BIN_ITEM_ONE, BIN_ITEM_TWO, BIN_ITEM_THREE));
+        uniqueBinItemList.removeAll(Arrays.asList(BIN_ITEM_ONE, BIN_ITEM_TWO));
+
+        assertFalse(uniqueBinItemList.isBinnedStudent(BIN_ITEM_ONE));
+        assertFalse(uniqueBinItemList.isBinnedRoom(BIN_ITEM_TWO));
+        assertTrue(uniqueBinItemList.getRoomItems((Room) BIN_ITEM_TWO.getBinnedItem()).isEmpty());
+        assertTrue(uniqueBinItemList.isBinnedStudent(BIN_ITEM_THREE));
+    }
+
+    @Test
+    public void cancelBatch_itemsChangedInBatch_indexesRestored() {
+        uniqueBinItemList.setBinItems(Arrays.asList(BIN_ITEM_ONE, BIN_ITEM_TWO));
+        uniqueBinItemList.beginBatch();
+        uniqueBinItemList.remove(BIN_ITEM_ONE);
+        uniqueBinItemList.add(BIN_ITEM_THREE);
+        uniqueBinItemList.cancelBatch();
+
+        assertTrue(uniqueBinItemList.isBinnedStudent(BIN_ITEM_ONE));
+        assertTrue(uniqueBinItemList.isBinnedRoom(BIN_ITEM_TWO));
+        assertFalse(uniqueBinItemList.isBinnedStudent(BIN_ITEM_THREE));
+    }
+
+    @Test
+    public void removeAll_someItems_removesOnlyThoseItems() {
+        uniqueBinItemList.setBinItems(Arrays.asList(BIN_ITEM_A, BIN_ITEM_B));
+        uniqueBinItemList.removeAll(Collections.singletonList(BIN_ITEM_B));
+
+        UniqueBinItemList expectedUniqueBinItemList = new UniqueBinItemList();
+        expectedUniqueBinItemList.add(BIN_ITEM_A);
+        assertEquals(expectedUniqueBinItemList, uniqueBinItemList);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,101 @@
+package seedu.resireg.model.room;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.resireg.model.room.roomtype.RoomType;
+import seedu.resireg.testutil.RoomBuilder;
+
+public class RoomOccupancyIndexTest {
+
+    private static final Room ROOM_10_CA = new RoomBuilder().withFloor("10").withRoomNumber("101")
+            .withRoomType("CA").build();
+    private static final Room ROOM_10_NN = new RoomBuilder().withFloor("10").withRoomNumber("102")
+            .withRoomType("NN").build();
+    private static final Room ROOM_11_CA = new RoomBuilder().withFloor("11").withRoomNumber("101")
+            .withRoomType("CA").build();
+
+    private final RoomOccupancyIndex index = new RoomOccupancyIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.add(ROOM_10_CA, false);
+        index.add(ROOM_10_NN, true);
+        index.add(ROOM_11_CA, false);
+    }
+
+    @Test
+    public void select_noCriteria_selectsAllRooms() {
+        assertSelected(index.select(Collections.emptyList(), Collections.emptyList(), null),
+                ROOM_10_CA, ROOM_10_NN, ROOM_11_CA);
+    }
+
+    @Test
+    public void select_floorAndRoomType_selectsIntersection() {
+        Predicate<Room> selection = index.select(Collections.singletonList(new Floor("10")),
+                Collections.singletonList(new RoomType("CA")), null);
+        assertSelected(selection, ROOM_10_CA);
+    }
+
+    @Test
+    public void select_vacancy_followsOccupancyChanges() {
+        assertSelected(index.select(Collections.emptyList(), Collections.emptyList(), false),
+                ROOM_10_CA, ROOM_11_CA);
+
+        index.setOccupied(ROOM_10_CA.getRoomLabel(), true);
+        index.setOccupied(ROOM_10_NN.getRoomLabel(), false);
+        assertSelected(index.select(Collections.emptyList(), Collections.emptyList(), true), ROOM_10_CA);
+    }
+
+    @Test
+    public void select_afterRemoveAndAdd_slotReused() {
+        index.remove(ROOM_10_CA);
+        Room editedRoom = new RoomBuilder(ROOM_10_CA).withRoomType("NA").build();
+        index.add(editedRoom, false);
+
+        Predicate<Room> selection = index.select(Collections.emptyList(),
+                Collections.singletonList(new RoomType("CA")), null);
+        assertSelected(selection, ROOM_11_CA);
+        assertFalse(selection.test(editedRoom));
+    }
+
+    @Test
+    public void select_roomAddedToFreedSlotAfterSelection_notSelected() {
+        Predicate<Room> selection = index.select(Collections.emptyList(),
+                Collections.singletonList(new RoomType("CA")), null);
+        index.remove(ROOM_10_CA);
+        Room addedRoom = new RoomBuilder().withFloor("12").withRoomNumber("101").withRoomType("CA").build();
+        index.add(addedRoom, false);
+
+        assertFalse(selection.test(addedRoom));
+        assertTrue(selection.test(ROOM_11_CA));
+    }
+
+    @Test
+    public void select_roomNotIndexed_notSelected() {
+        Predicate<Room> selection = index.select(Collections.emptyList(), Collections.emptyList(), null);
+        assertFalse(selection.test(new RoomBuilder(ROOM_10_CA).build()));
+    }
+
+    @Test
+    public void reset_replacesRooms() {
+        index.reset(Collections.singletonList(ROOM_11_CA), room -> true);
+        assertSelected(index.select(Collections.emptyList(), Collections.emptyList(), true), ROOM_11_CA);
+    }
+
+    private void assertSelected(Predicate<Room> selection, Room... expectedRooms) {
+        List<Room> expected = Arrays.asList(expectedRooms);
+        for (Room room : Arrays.asList(ROOM_10_CA, ROOM_10_NN, ROOM_11_CA)) {
+            assertEquals(expected.contains(room), selection.test(room), room.getRoomLabel());
+        }
+    }
+}
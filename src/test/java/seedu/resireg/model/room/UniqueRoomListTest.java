@@ -8,15 +8,18 @@ import static seedu.resireg.logic.commands.CommandTestUtil.VALID_TAG_DAMAGED;
 import static seedu.resireg.testutil.Assert.assertThrows;
 import static seedu.resireg.testutil.TypicalRooms.ROOM_A;
 import static seedu.resireg.testutil.TypicalRooms.ROOM_B;
+import static seedu.resireg.testutil.TypicalRooms.ROOM_ONE;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.resireg.model.room.exceptions.DuplicateRoomException;
 import seedu.resireg.model.room.exceptions.RoomNotFoundException;
+import seedu.resireg.model.room.roomtype.RoomType;
 import seedu.resireg.testutil.RoomBuilder;
 
 public class UniqueRoomListTest {
@@ -127,6 +130,62 @@ public class UniqueRoomListTest {
         assertEquals(expectedUniqueRoomList, uniqueRoomList);
     }
 
+    @Test
+    public void findRooms_floorsAndRoomType_returnsMatchingRooms() {
+        Room roomOn10 = new RoomBuilder().withFloor("10").withRoomNumber("101").withRoomType("CA").build();
+        Room otherTypeOn10 = new RoomBuilder().withFloor("10").withRoomNumber("102").withRoomType("NN").build();
+        Room roomOn11 = new RoomBuilder().withFloor("11").withRoomNumber("101").withRoomType("CA").build();
+        Room roomOn12 = new RoomBuilder().withFloor("12").withRoomNumber("101").withRoomType("CA").build();
+        uniqueRoomList.setRooms(Arrays.asList(roomOn10, otherTypeOn10, roomOn11, roomOn12));
+
+        List<Room> foundRooms = uniqueRoomList.findRooms(Arrays.asList(new Floor("10"), new Floor("11")),
+                Collections.singletonList(new RoomType("CA")));
+        assertEquals(new HashSet<>(Arrays.asList(roomOn10, roomOn11)), new HashSet<>(foundRooms));
+
+        // no criteria -> all rooms
+        assertEquals(Arrays.asList(roomOn10, otherTypeOn10, roomOn11, roomOn12),
+                uniqueRoomList.findRooms(Collections.emptyList(), Collections.emptyList()));
+    }
+
+    @Test
+    public void findRooms_afterSetAndRemove_indexesUpdated() {
+        Room room = new RoomBuilder().withFloor("10").withRoomNumber("101").withRoomType("CA").build();
+        Room editedRoom = new RoomBuilder(room).withFloor("11").build();
+        uniqueRoomList.add(room);
+        uniqueRoomList.setRoom(room, editedRoom);
+
+        assertEquals(Collections.emptyList(),
+                uniqueRoomList.findRooms(Collections.singletonList(new Floor("10")), Collections.emptyList()));
+        assertEquals(Collections.singletonList(editedRoom),
+                uniqueRoomList.findRooms(Collections.singletonList(new Floor("11")), Collections.emptyList()));
+
+        uniqueRoomList.remove(editedRoom);
+        assertEquals(Collections.emptyList(),
+                uniqueRoomList.findRooms(Collections.emptyList(), Collections.singletonList(new RoomType("CA"))));
+    }
+
+    @Test
+    public void setRoom_afterRemoveFromMiddle_replacesCorrectRoom() {
+        uniqueRoomList.add(ROOM_A);
+        uniqueRoomList.add(ROOM_B);
+        uniqueRoomList.add(ROOM_ONE);
+        uniqueRoomList.remove(ROOM_B);
+        Room editedRoomOne = new RoomBuilder(ROOM_ONE).withTags(VALID_TAG_DAMAGED).build();
+        uniqueRoomList.setRoom(ROOM_ONE, editedRoomOne);
+        UniqueRoomList expectedUniqueRoomList = new UniqueRoomList();
+        expectedUniqueRoomList.add(ROOM_A);
+        expectedUniqueRoomList.add(editedRoomOne);
+        assertEquals(expectedUniqueRoomList, uniqueRoomList);
+    }
+
+    @Test
+    public void contains_afterSetRoomWithDifferentIdentity_returnsFalseForOldRoom() {
+        uniqueRoomList.add(ROOM_A);
+        uniqueRoomList.setRoom(ROOM_A, ROOM_B);
+        assertFalse(uniqueRoomList.contains(ROOM_A));
+        assertTrue(uniqueRoomList.contains(ROOM_B));
+    }
+
     @Test
     public void setRooms_nullUniqueRoomList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueRoomList.setRooms((UniqueRoomList) null));
@@ -1,9 +1,13 @@
 package seedu.resireg.model.room.roomtype;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.resireg.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 public class RoomTypeTest {
@@ -35,4 +39,15 @@ public class RoomTypeTest {
         assertTrue(RoomType.isValidRoomType("NA"));
         assertTrue(RoomType.isValidRoomType("NN"));
     }
+
+    @Test
+    public void toMask() {
+        long mask = RoomType.toMask(Arrays.asList(new RoomType("CA"), new RoomType("NN")));
+
+        assertEquals(0, RoomType.toMask(Collections.emptyList()));
+        assertTrue((new RoomType("CA").getMask() & mask) != 0);
+        assertTrue((new RoomType("NN").getMask() & mask) != 0);
+        assertFalse((new RoomType("CN").getMask() & mask) != 0);
+        assertFalse((new RoomType("NA").getMask() & mask) != 0);
+    }
 }
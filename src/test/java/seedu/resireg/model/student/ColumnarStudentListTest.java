@@ -0,0 +1,76 @@
+package seedu.resireg.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.resireg.testutil.Assert.assertThrows;
+import static seedu.resireg.testutil.TypicalStudents.ALICE;
+import static seedu.resireg.testutil.TypicalStudents.BENSON;
+import static seedu.resireg.testutil.TypicalStudents.CARL;
+import static seedu.resireg.testutil.TypicalStudents.getTypicalStudents;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.resireg.testutil.StudentBuilder;
+
+public class ColumnarStudentListTest {
+
+    private final ColumnarStudentList columnarStudentList = new ColumnarStudentList();
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> columnarStudentList.get(0));
+    }
+
+    @Test
+    public void addAll_typicalStudents_equalStudentsReturned() {
+        columnarStudentList.addAll(getTypicalStudents());
+        assertEquals(getTypicalStudents(), columnarStudentList);
+    }
+
+    @Test
+    public void add_atIndex_shiftsLaterStudents() {
+        columnarStudentList.addAll(ALICE, CARL);
+        columnarStudentList.add(1, BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), columnarStudentList);
+    }
+
+    @Test
+    public void set_studentWithDifferentTags_replacesStudent() {
+        columnarStudentList.addAll(ALICE, BENSON);
+        Student editedAlice = new StudentBuilder(ALICE).withTags("new", "tags").withName("Alice Tan").build();
+
+        assertEquals(ALICE, columnarStudentList.set(0, editedAlice));
+        assertEquals(Arrays.asList(editedAlice, BENSON), columnarStudentList);
+    }
+
+    @Test
+    public void remove_manyStudents_remainingStudentsUnchanged() {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            students.add(new StudentBuilder().withStudentId(String.format("E0%06d", i))
+                    .withName("Student " + i).build());
+        }
+        columnarStudentList.addAll(students);
+
+        // removing most students compacts the string pool
+        for (int i = 99; i >= 10; i--) {
+            columnarStudentList.remove(i);
+        }
+        assertEquals(students.subList(0, 10), columnarStudentList);
+    }
+
+    @Test
+    public void setAll_firesSingleChange() {
+        columnarStudentList.addAll(ALICE, BENSON);
+        List<ListChangeListener.Change<? extends Student>> changes = new ArrayList<>();
+        columnarStudentList.addListener((ListChangeListener<Student>) changes::add);
+
+        columnarStudentList.setAll(CARL);
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(CARL), columnarStudentList);
+    }
+}
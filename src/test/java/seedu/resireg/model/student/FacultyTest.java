@@ -1,12 +1,16 @@
 package seedu.resireg.model.student;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.resireg.testutil.Assert.assertThrows;
 
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.resireg.model.student.faculty.Faculty;
+import seedu.resireg.model.student.faculty.FacultyEnum;
 
 public class FacultyTest {
 
@@ -37,4 +41,22 @@ public class FacultyTest {
         assertTrue(Faculty.isValidFaculty("DEN"));
         assertTrue(Faculty.isValidFaculty("USP"));
     }
+
+    @Test
+    public void getMask_everyFaculty_roundTripsThroughMask() {
+        long allFacultiesMask = 0;
+        for (FacultyEnum facultyEnum : FacultyEnum.values()) {
+            Faculty faculty = new Faculty(facultyEnum.toString());
+            long mask = Faculty.toMask(Collections.singletonList(faculty));
+
+            assertEquals(facultyEnum, faculty.getFacultyEnum());
+            assertEquals(1, Long.bitCount(mask));
+            // the faculty can be recovered from its mask alone
+            assertEquals(facultyEnum, FacultyEnum.values()[Long.numberOfTrailingZeros(mask)]);
+            // no two faculties share a bit
+            assertEquals(0, allFacultiesMask & mask);
+            allFacultiesMask |= mask;
+        }
+        assertEquals(FacultyEnum.values().length, Long.bitCount(allFacultiesMask));
+    }
 }
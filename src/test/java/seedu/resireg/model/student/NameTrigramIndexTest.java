@@ -0,0 +1,58 @@
+package seedu.resireg.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.resireg.testutil.TypicalStudents.ALICE;
+import static seedu.resireg.testutil.TypicalStudents.BENSON;
+import static seedu.resireg.testutil.TypicalStudents.CARL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.resireg.testutil.StudentBuilder;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex index = new NameTrigramIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.reset(Arrays.asList(ALICE, BENSON, CARL));
+    }
+
+    @Test
+    public void findNamesContaining_longQuery_ignoresCase() {
+        assertEquals(Collections.singleton(ALICE.getStudentId()), index.findNamesContaining("PAULI"));
+    }
+
+    @Test
+    public void findNamesContaining_queryAcrossWords_found() {
+        assertEquals(Collections.singleton(ALICE.getStudentId()), index.findNamesContaining("e paul"));
+    }
+
+    @Test
+    public void findNamesContaining_shortQuery_found() {
+        assertEquals(new HashSet<>(Arrays.asList(ALICE.getStudentId(), CARL.getStudentId())),
+                index.findNamesContaining("l"));
+    }
+
+    @Test
+    public void findNamesContaining_noMatch_returnsEmptySet() {
+        assertEquals(Collections.emptySet(), index.findNamesContaining("xyz"));
+        // every trigram is indexed, but not in this order
+        assertEquals(Collections.emptySet(), index.findNamesContaining("paulpaul"));
+    }
+
+    @Test
+    public void remove_editedName_indexUpdated() {
+        Student editedAlice = new StudentBuilder(ALICE).withName("Alicia Tan").build();
+        index.remove(ALICE);
+        index.add(editedAlice);
+
+        assertEquals(Collections.emptySet(), index.findNamesContaining("pauline"));
+        assertEquals(Collections.singleton(ALICE.getStudentId()), index.findNamesContaining("alicia"));
+    }
+}
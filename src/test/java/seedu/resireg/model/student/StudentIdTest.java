@@ -1,6 +1,8 @@
 package seedu.resireg.model.student;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.resireg.testutil.Assert.assertThrows;
 
@@ -37,4 +39,26 @@ public class StudentIdTest {
         assertTrue(StudentId.isValidStudentId("E0123456"));
         assertTrue(StudentId.isValidStudentId("E0123457"));
     }
+
+    @Test
+    public void packedValue_roundTrip() {
+        StudentId studentId = new StudentId("E0012345");
+        assertEquals(12345, studentId.getPackedValue());
+        assertEquals(studentId, StudentId.fromPackedValue(studentId.getPackedValue()));
+        assertEquals("E0012345", StudentId.fromPackedValue(12345).toString());
+        assertEquals("E0999999", StudentId.fromPackedValue(999999).toString());
+
+        // out of range
+        assertThrows(IllegalArgumentException.class, () -> StudentId.fromPackedValue(-1));
+        assertThrows(IllegalArgumentException.class, () -> StudentId.fromPackedValue(1000000));
+    }
+
+    @Test
+    public void equals() {
+        StudentId studentId = new StudentId("E0123456");
+        assertEquals(studentId, new StudentId("E0123456"));
+        assertEquals(studentId.hashCode(), new StudentId("E0123456").hashCode());
+        assertNotEquals(studentId, new StudentId("E0123457"));
+        assertNotEquals(studentId, "E0123456");
+    }
 }
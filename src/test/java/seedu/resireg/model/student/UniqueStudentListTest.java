@@ -8,6 +8,7 @@ import static seedu.resireg.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.resireg.testutil.Assert.assertThrows;
 import static seedu.resireg.testutil.TypicalStudents.ALICE;
 import static seedu.resireg.testutil.TypicalStudents.BOB;
+import static seedu.resireg.testutil.TypicalStudents.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -127,6 +128,39 @@ public class UniqueStudentListTest {
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
     }
 
+    @Test
+    public void remove_afterInsertAtFront_removesCorrectStudent() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.add(0, CARL);
+        uniqueStudentList.remove(ALICE);
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(CARL);
+        expectedUniqueStudentList.add(BOB);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+    }
+
+    @Test
+    public void setStudent_afterRemoveFromMiddle_replacesCorrectStudent() {
+        uniqueStudentList.add(ALICE);
+        uniqueStudentList.add(BOB);
+        uniqueStudentList.add(CARL);
+        uniqueStudentList.remove(BOB);
+        Student editedCarl = new StudentBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+        uniqueStudentList.setStudent(CARL, editedCarl);
+        UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
+        expectedUniqueStudentList.add(ALICE);
+        expectedUniqueStudentList.add(editedCarl);
+        assertEquals(expectedUniqueStudentList, uniqueStudentList);
+    }
+
+    @Test
+    public void remove_studentWithSameIdentityDifferentFields_throwsStudentNotFoundException() {
+        uniqueStudentList.add(ALICE);
+        Student editedAlice = new StudentBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        assertThrows(StudentNotFoundException.class, () -> uniqueStudentList.remove(editedAlice));
+    }
+
     @Test
     public void setStudents_nullUniqueStudentList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueStudentList.setStudents((UniqueStudentList) null));
@@ -162,6 +196,28 @@ public class UniqueStudentListTest {
         assertThrows(DuplicateStudentException.class, () -> uniqueStudentList.setStudents(listWithDuplicateStudents));
     }
 
+    @Test
+    public void setStudents_listWithDuplicateStudents_reportsFirstDuplicate() {
+        Student editedAlice = new StudentBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        List<Student> listWithDuplicateStudents = Arrays.asList(ALICE, BOB, editedAlice, BOB);
+        assertThrows(DuplicateStudentException.class, new DuplicateStudentException(editedAlice).getMessage(), () ->
+                uniqueStudentList.setStudents(listWithDuplicateStudents));
+    }
+
+    @Test
+    public void createColumnar_listOperations_sameAsDefaultList() {
+        UniqueStudentList columnarStudentList = UniqueStudentList.createColumnar();
+        columnarStudentList.setStudents(Arrays.asList(ALICE, BOB));
+        Student editedAlice = new StudentBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        columnarStudentList.setStudent(ALICE, editedAlice);
+        columnarStudentList.remove(BOB);
+
+        uniqueStudentList.add(editedAlice);
+        assertEquals(uniqueStudentList, columnarStudentList);
+        assertTrue(columnarStudentList.contains(editedAlice));
+        assertEquals(Collections.singleton(ALICE.getStudentId()), columnarStudentList.findNamesContaining("alice"));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
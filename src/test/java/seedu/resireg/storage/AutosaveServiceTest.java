@@ -0,0 +1,133 @@
+package seedu.resireg.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.resireg.testutil.TypicalStudents.ALICE;
+import static seedu.resireg.testutil.TypicalStudents.BENSON;
+import static seedu.resireg.testutil.TypicalStudents.CARL;
+import static seedu.resireg.testutil.TypicalStudents.getTypicalResiReg;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.resireg.model.ReadOnlyResiReg;
+import seedu.resireg.model.ResiReg;
+import seedu.resireg.model.UserPrefs;
+
+public class AutosaveServiceTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonResiRegStorage(testFolder.resolve("resireg.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+    }
+
+    @Test
+    public void save_dataChangedAfterSave_savesDataAsItWas() throws Exception {
+        AutosaveService autosaveService = new AutosaveService(storage);
+        ResiReg resiReg = getTypicalResiReg();
+        ResiReg expected = new ResiReg(resiReg);
+
+        autosaveService.save(resiReg, new UserPrefs());
+        resiReg.removeStudent(ALICE);
+        autosaveService.flush();
+
+        assertEquals(expected, new ResiReg(storage.readResiReg().get()));
+        assertEquals(new UserPrefs(), storage.readUserPrefs().get());
+    }
+
+    @Test
+    public void save_whileWriting_savesCoalesced() throws Exception {
+        BlockingStorageStub blockingStorage = new BlockingStorageStub(storage);
+        AutosaveService autosaveService = new AutosaveService(blockingStorage);
+        ResiReg resiReg = getTypicalResiReg();
+
+        autosaveService.save(resiReg, new UserPrefs());
+        assertTrue(blockingStorage.writeStarted.await(AutosaveService.FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        while (resiReg.getStudentList().size() > 3) {
+            resiReg.removeStudent(resiReg.getStudentList().get(0));
+            autosaveService.save(resiReg, new UserPrefs());
+        }
+        blockingStorage.canWrite.countDown();
+        autosaveService.flush();
+
+        // the first save, then only the latest of those requested while it was written
+        assertEquals(2, blockingStorage.savedResiRegs.size());
+        assertEquals(resiReg, new ResiReg(blockingStorage.savedResiRegs.get(1)));
+        assertEquals(resiReg, new ResiReg(storage.readResiReg().get()));
+    }
+
+    @Test
+    public void save_storageThrowsIoException_failureReportedToListener() {
+        IOException exception = new IOException("dummy exception");
+        AutosaveService autosaveService = new AutosaveService(new StorageManager(
+                new JsonResiRegStorage(testFolder.resolve("resireg.json")) {
+                    @Override
+                    public void saveResiReg(ReadOnlyResiReg resiReg, Path filePath) throws IOException {
+                        throw exception;
+                    }
+                }, new JsonUserPrefsStorage(testFolder.resolve("prefs.json"))));
+        List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+        autosaveService.setFailureListener(failures::add);
+
+        autosaveService.save(getTypicalResiReg(), new UserPrefs());
+        autosaveService.flush();
+
+        assertEquals(Collections.singletonList(exception), failures);
+    }
+
+    @Test
+    public void stop_pendingSave_savedBeforeStopping() throws Exception {
+        AutosaveService autosaveService = new AutosaveService(storage);
+        ResiReg resiReg = getTypicalResiReg();
+
+        autosaveService.save(resiReg, new UserPrefs());
+        autosaveService.stop();
+        assertEquals(resiReg, new ResiReg(storage.readResiReg().get()));
+
+        // once stopped, the data is saved straight away
+        resiReg.removeStudent(BENSON);
+        resiReg.removeStudent(CARL);
+        autosaveService.save(resiReg, new UserPrefs());
+        assertEquals(resiReg, new ResiReg(storage.readResiReg().get()));
+    }
+
+    /**
+     * A {@code StorageManager} which records each ResiReg saved, and blocks the first save until it is allowed.
+     */
+    private static class BlockingStorageStub extends StorageManager {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch canWrite = new CountDownLatch(1);
+        private final List<ReadOnlyResiReg> savedResiRegs = Collections.synchronizedList(new ArrayList<>());
+
+        BlockingStorageStub(StorageManager storage) {
+            super(storage, storage);
+        }
+
+        @Override
+        public void saveResiReg(ReadOnlyResiReg resiReg) throws IOException {
+            writeStarted.countDown();
+            try {
+                canWrite.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            savedResiRegs.add(resiReg);
+            super.saveResiReg(resiReg);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package seedu.resireg.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.resireg.testutil.Assert.assertThrows;
+import static seedu.resireg.testutil.TypicalAllocations.getTypicalResiReg;
+import static seedu.resireg.testutil.TypicalStudents.HOON;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.resireg.commons.exceptions.DataConversionException;
+import seedu.resireg.commons.util.FileUtil;
+import seedu.resireg.model.ResiReg;
+import seedu.resireg.model.bin.BinItem;
+import seedu.resireg.model.semester.Semester;
+import seedu.resireg.testutil.TypicalBinItems;
+
+public class BinaryResiRegStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Returns a ResiReg with every kind of entity.
+     */
+    private static ResiReg getFullResiReg() {
+        ResiReg resiReg = getTypicalResiReg();
+        resiReg.setSemester(new Semester(2021, 2));
+        for (BinItem binItem : TypicalBinItems.getTypicalBinItems()) {
+            resiReg.addBinItem(binItem);
+        }
+        return resiReg;
+    }
+
+    @Test
+    public void toBinaryFilePath() {
+        assertEquals(Paths.get("data", "resireg.bin"),
+                BinaryResiRegStorage.toBinaryFilePath(Paths.get("data", "resireg.json")));
+        assertEquals(Paths.get("resireg.bin"), BinaryResiRegStorage.toBinaryFilePath(Paths.get("resireg")));
+    }
+
+    @Test
+    public void readResiReg_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryResiRegStorage(testFolder.resolve("missing.bin")).readResiReg().isPresent());
+    }
+
+    @Test
+    public void saveAndReadResiReg_allEntities_success() throws Exception {
+        BinaryResiRegStorage storage = new BinaryResiRegStorage(testFolder.resolve("resireg.bin"));
+        ResiReg original = getFullResiReg();
+        storage.saveResiReg(original);
+        assertEquals(original, new ResiReg(storage.readResiReg().get()));
+
+        original.addStudent(HOON);
+        storage.saveResiReg(original);
+        assertEquals(original, new ResiReg(storage.readResiReg().get()));
+    }
+
+    @Test
+    public void archiveResiReg_readArchivedResiReg_success() throws Exception {
+        BinaryResiRegStorage storage = new BinaryResiRegStorage(testFolder.resolve("resireg.bin"));
+        ResiReg original = getFullResiReg();
+        storage.archiveResiReg(original);
+        assertEquals(original, new ResiReg(storage.readArchivedResiReg(original.getSemester()).get()));
+    }
+
+    @Test
+    public void write_smallerThanJson() throws Exception {
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        BinaryResiRegFormat.write(getFullResiReg(), binary);
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        JsonResiRegStream.write(getFullResiReg(), json);
+        assertTrue(binary.size() * 3 < json.size());
+    }
+
+    @Test
+    public void readResiReg_damagedFileWithoutBackup_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("resireg.bin");
+        BinaryResiRegStorage storage = new BinaryResiRegStorage(filePath);
+        storage.saveResiReg(getFullResiReg());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        // truncated
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataConversionException.class, () -> storage.readResiReg());
+
+        // a byte changed
+        byte[] changed = bytes.clone();
+        changed[bytes.length / 2] ^= 1;
+        Files.write(filePath, changed);
+        assertThrows(DataConversionException.class, () -> storage.readResiReg());
+
+        // not a binary file
+        Files.write(filePath, "{}".getBytes("UTF-8"));
+        assertThrows(DataConversionException.class, () -> storage.readResiReg());
+
+        // a later version of the format
+        changed = bytes.clone();
+        ByteBuffer.wrap(changed).putInt(Integer.BYTES, BinaryResiRegFormat.VERSION + 1);
+        Files.write(filePath, changed);
+        assertThrows(DataConversionException.class, () -> storage.readResiReg());
+    }
+
+    @Test
+    public void readResiReg_damagedFile_backupRead() throws Exception {
+        Path filePath = testFolder.resolve("resireg.bin");
+        BinaryResiRegStorage storage = new BinaryResiRegStorage(filePath);
+        ResiReg original = getFullResiReg();
+        storage.saveResiReg(original);
+        ResiReg changed = new ResiReg(original);
+        changed.addStudent(HOON);
+        storage.saveResiReg(changed);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertEquals(original, new ResiReg(storage.readResiReg().get()));
+
+        // the damaged file does not replace the backup
+        storage.saveResiReg(changed);
+        assertEquals(original, new ResiReg(storage.readResiReg(FileUtil.getBackupPath(filePath)).get()));
+        assertEquals(changed, new ResiReg(storage.readResiReg().get()));
+    }
+
+}
@@ -0,0 +1,59 @@
+package seedu.resireg.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class ExportFormatTest {
+
+    private static final List<String> COLUMNS = Arrays.asList("name", "tags");
+
+    @Test
+    public void of_fileExtension_matchingFormat() {
+        assertEquals(Optional.of(ExportFormat.CSV), ExportFormat.of(Paths.get("data", "students.csv")));
+        assertEquals(Optional.of(ExportFormat.JSON), ExportFormat.of(Paths.get("ROOMS.JSON")));
+        assertEquals(Optional.empty(), ExportFormat.of(Paths.get("students.txt")));
+        assertEquals(Optional.empty(), ExportFormat.of(Paths.get("csv")));
+    }
+
+    @Test
+    public void createWriter_csv_headerAndRowsWritten() throws IOException {
+        StringWriter output = new StringWriter();
+        try (TableWriter writer = ExportFormat.CSV.createWriter(output, COLUMNS)) {
+            writer.writeRow(Arrays.asList("Tan, Kim", "ca leader"));
+            writer.writeRow(Arrays.asList("Jane", ""));
+        }
+
+        String lineSeparator = System.lineSeparator();
+        assertEquals("name,tags" + lineSeparator + "\"Tan, Kim\",ca leader" + lineSeparator + "Jane,"
+                + lineSeparator, output.toString());
+    }
+
+    @Test
+    public void createWriter_json_arrayOfObjectsWritten() throws IOException {
+        StringWriter output = new StringWriter();
+        try (TableWriter writer = ExportFormat.JSON.createWriter(output, COLUMNS)) {
+            writer.writeRow(Arrays.asList("Tan \"Kim\"", "ca leader"));
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        assertEquals(mapper.readTree("[{\"name\": \"Tan \\\"Kim\\\"\", \"tags\": \"ca leader\"}]"),
+                mapper.readTree(output.toString()));
+    }
+
+    @Test
+    public void createWriter_noRows_emptyTable() throws IOException {
+        StringWriter output = new StringWriter();
+        ExportFormat.JSON.createWriter(output, COLUMNS).close();
+        assertEquals(0, new ObjectMapper().readTree(output.toString()).size());
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.resireg.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.resireg.testutil.TypicalAllocations.ALLOCATION_ONE;
+import static seedu.resireg.testutil.TypicalAllocations.getTypicalResiReg;
+import static seedu.resireg.testutil.TypicalRooms.ROOM_FOUR;
+import static seedu.resireg.testutil.TypicalStudents.ALICE;
+import static seedu.resireg.testutil.TypicalStudents.HOON;
+import static seedu.resireg.testutil.TypicalStudents.IDA;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.resireg.model.ResiReg;
+import seedu.resireg.model.ResiRegDelta;
+import seedu.resireg.model.ResiRegDelta.EntityList;
+import seedu.resireg.model.ResiRegDelta.ListChange;
+import seedu.resireg.testutil.AllocationBuilder;
+import seedu.resireg.testutil.StudentBuilder;
+
+public class JsonResiRegJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+    private ResiReg resiReg;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("resireg.json");
+        journalPath = new JsonResiRegJournal(filePath).getPath();
+        resiReg = getTypicalResiReg();
+    }
+
+    @Test
+    public void between_changesInMiddleOfList_onlyChangedRange() {
+        Map<EntityList, List<Object>> before = ResiRegDelta.copyLists(resiReg);
+        resiReg.setStudent(resiReg.getStudentList().get(2),
+                new StudentBuilder(resiReg.getStudentList().get(2)).withPhone("98765432").build());
+
+        ResiRegDelta delta = ResiRegDelta.between(before, resiReg);
+
+        assertEquals(1, delta.getChanges().size());
+        ListChange change = delta.getChanges().get(0);
+        assertEquals(EntityList.STUDENTS, change.getList());
+        assertEquals(2, change.getFrom());
+        assertEquals(1, change.getRemovedCount());
+        assertEquals(Arrays.asList(resiReg.getStudentList().get(2)), change.getAdded());
+    }
+
+    @Test
+    public void saveResiReg_journaled_changesAppendedAndReplayed() throws Exception {
+        JsonResiRegStorage storage = new JsonResiRegStorage(filePath, JsonResiRegStorage.DEFAULT_MAX_JOURNAL_SIZE);
+        storage.saveResiReg(resiReg);
+        byte[] fileBeforeChanges = Files.readAllBytes(filePath);
+
+        resiReg.addStudent(HOON);
+        resiReg.setStudent(ALICE, new StudentBuilder(ALICE).withPhone("98765432").build());
+        storage.saveResiReg(resiReg);
+        resiReg.removeAllocation(ALLOCATION_ONE);
+        resiReg.addAllocation(new AllocationBuilder(ALLOCATION_ONE).withFloor(ROOM_FOUR.getFloor().value)
+                .withRoomNumber(ROOM_FOUR.getRoomNumber().value).build());
+        resiReg.setSemester(resiReg.getSemester());
+        storage.saveResiReg(resiReg);
+
+        // the file is not rewritten, and the journal has a header and a record for each save
+        assertArrayEquals(fileBeforeChanges, Files.readAllBytes(filePath));
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals(resiReg, new ResiReg(storage.readResiReg().get()));
+    }
+
+    @Test
+    public void readResiReg_tornLastRecord_recordDroppedAndJournalTruncated() throws Exception {
+        JsonResiRegStorage storage = new JsonResiRegStorage(filePath, JsonResiRegStorage.DEFAULT_MAX_JOURNAL_SIZE);
+        storage.saveResiReg(resiReg);
+        resiReg.addStudent(HOON);
+        storage.saveResiReg(resiReg);
+        ResiReg expected = new ResiReg(resiReg);
+        byte[] completeJournal = Files.readAllBytes(journalPath);
+
+        resiReg.addStudent(IDA);
+        storage.saveResiReg(resiReg);
+        byte[] journal = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(journal, journal.length - 10));
+
+        assertEquals(expected, new ResiReg(storage.readResiReg().get()));
+        assertArrayEquals(completeJournal, Files.readAllBytes(journalPath));
+    }
+
+    @Test
+    public void saveResiReg_journalLargerThanMaximum_fileRewritten() throws Exception {
+        JsonResiRegStorage storage = new JsonResiRegStorage(filePath, 1);
+        storage.saveResiReg(resiReg);
+        resiReg.addStudent(HOON);
+        storage.saveResiReg(resiReg);
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(resiReg, new JsonResiRegStorage(filePath).readResiReg().get());
+    }
+
+    @Test
+    public void readResiReg_journalOfEarlierFile_journalIgnored() throws Exception {
+        JsonResiRegStorage storage = new JsonResiRegStorage(filePath, JsonResiRegStorage.DEFAULT_MAX_JOURNAL_SIZE);
+        storage.saveResiReg(resiReg);
+        ResiReg expected = new ResiReg(resiReg);
+        resiReg.addStudent(HOON);
+        storage.saveResiReg(resiReg);
+        byte[] earlierJournal = Files.readAllBytes(journalPath);
+
+        // the file is rewritten, but the journal is left as it was, as if the app stopped in between
+        new JsonResiRegStorage(filePath, JsonResiRegStorage.DEFAULT_MAX_JOURNAL_SIZE).saveResiReg(expected);
+        Files.write(journalPath, earlierJournal);
+
+        assertEquals(expected, new ResiReg(storage.readResiReg().get()));
+    }
+
+    @Test
+    public void archiveResiReg_thenSave_fileRewritten() throws Exception {
+        JsonResiRegStorage storage = new JsonResiRegStorage(filePath, JsonResiRegStorage.DEFAULT_MAX_JOURNAL_SIZE);
+        storage.saveResiReg(resiReg);
+        storage.archiveResiReg(resiReg);
+        resiReg.addStudent(HOON);
+        storage.saveResiReg(resiReg);
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(resiReg, new JsonResiRegStorage(filePath).readResiReg().get());
+    }
+
+    @Test
+    public void saveResiReg_afterFileRewritten_changesAppendedToNewJournal() throws Exception {
+        JsonResiRegStorage storage = new JsonResiRegStorage(filePath, JsonResiRegStorage.DEFAULT_MAX_JOURNAL_SIZE);
+        storage.saveResiReg(resiReg);
+        resiReg.addStudent(HOON);
+        storage.saveResiReg(resiReg);
+
+        // the file is rewritten and the journal replaced, while appends were going to the previous journal
+        storage.archiveResiReg(resiReg);
+        storage.saveResiReg(resiReg);
+        resiReg.addStudent(IDA);
+        storage.saveResiReg(resiReg);
+
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(resiReg, new ResiReg(new JsonResiRegStorage(filePath).readResiReg().get()));
+    }
+}
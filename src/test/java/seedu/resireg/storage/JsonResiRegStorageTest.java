@@ -9,13 +9,16 @@ import static seedu.resireg.testutil.TypicalStudents.IDA;
 import static seedu.resireg.testutil.TypicalStudents.getTypicalResiReg;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.resireg.commons.exceptions.DataConversionException;
+import seedu.resireg.commons.util.FileUtil;
 import seedu.resireg.model.ReadOnlyResiReg;
 import seedu.resireg.model.ResiReg;
 
@@ -125,4 +128,36 @@ public class JsonResiRegStorageTest {
         assertThrows(NullPointerException.class, () -> archiveResiReg(null, "SomeFile.json"));
     }
 
+    @Test
+    public void readResiReg_fileDoesNotMatchChecksum_backupRead() throws Exception {
+        Path filePath = testFolder.resolve("TempResiReg.json");
+        JsonResiRegStorage jsonResiRegStorage = new JsonResiRegStorage(filePath);
+        ResiReg original = getTypicalResiReg();
+        jsonResiRegStorage.saveResiReg(original);
+        ResiReg changed = new ResiReg(original);
+        changed.addStudent(HOON);
+        jsonResiRegStorage.saveResiReg(changed);
+
+        // a damaged file which is still valid json
+        String json = FileUtil.readFromFile(filePath);
+        Files.write(filePath, json.replace(HOON.getPhone().value, "99999999").getBytes("UTF-8"));
+        assertEquals(original, new ResiReg(jsonResiRegStorage.readResiReg().get()));
+
+        // the damaged file does not replace the backup
+        jsonResiRegStorage.saveResiReg(changed);
+        assertEquals(original, new ResiReg(jsonResiRegStorage.readResiReg(FileUtil.getBackupPath(filePath)).get()));
+        assertEquals(changed, new ResiReg(jsonResiRegStorage.readResiReg().get()));
+    }
+
+    @Test
+    public void readResiReg_truncatedFileWithoutBackup_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempResiReg.json");
+        JsonResiRegStorage jsonResiRegStorage = new JsonResiRegStorage(filePath);
+        jsonResiRegStorage.saveResiReg(getTypicalResiReg());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataConversionException.class, () -> jsonResiRegStorage.readResiReg());
+    }
+
 }
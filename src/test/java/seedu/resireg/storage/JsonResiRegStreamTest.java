@@ -0,0 +1,83 @@
+package seedu.resireg.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.resireg.testutil.Assert.assertThrows;
+import static seedu.resireg.testutil.TypicalAllocations.getTypicalResiReg;
+import static seedu.resireg.testutil.TypicalBinItems.BIN_ITEM_ONE;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.resireg.commons.exceptions.IllegalValueException;
+import seedu.resireg.commons.util.JsonUtil;
+import seedu.resireg.model.ResiReg;
+import seedu.resireg.testutil.TypicalStudents;
+
+public class JsonResiRegStreamTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableResiRegTest");
+
+    private static final String SEMESTER = "\"semester\": {\"academicYear\": 2020, \"semesterNumber\": 1}";
+
+    @Test
+    public void write_typicalResiReg_readBackAsSameResiReg() throws Exception {
+        ResiReg original = getTypicalResiReg();
+        original.addBinItem(BIN_ITEM_ONE);
+
+        String json = write(original);
+
+        assertEquals(original, JsonResiRegStream.read(toStream(json)));
+        // the format is the one which JsonSerializableResiReg reads
+        assertEquals(original, JsonUtil.fromJsonString(json, JsonSerializableResiReg.class).toModelType());
+    }
+
+    @Test
+    public void read_fileSavedAsJsonSerializableResiReg_sameResiReg() throws Exception {
+        try (InputStream inputStream = Files.newInputStream(TEST_DATA_FOLDER.resolve("typicalStudentsResiReg.json"))) {
+            assertEquals(TypicalStudents.getTypicalResiReg(), JsonResiRegStream.read(inputStream));
+        }
+    }
+
+    @Test
+    public void read_missingLists_emptyResiReg() throws Exception {
+        assertEquals(new ResiReg(), JsonResiRegStream.read(toStream("{" + SEMESTER + ", \"rooms\": null}")));
+    }
+
+    @Test
+    public void read_duplicateStudents_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableResiReg.MESSAGE_DUPLICATE_STUDENT, () ->
+                JsonResiRegStream.read(Files.newInputStream(TEST_DATA_FOLDER.resolve("duplicateStudentResiReg.json"))));
+    }
+
+    @Test
+    public void read_missingSemester_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonResiRegStream.MESSAGE_MISSING_SEMESTER, () ->
+                JsonResiRegStream.read(toStream("{\"students\": []}")));
+    }
+
+    @Test
+    public void read_notResiReg_throwsIoException() {
+        assertThrows(IOException.class, () -> JsonResiRegStream.read(toStream("[]")));
+        assertThrows(IOException.class, () -> JsonResiRegStream.read(toStream("{" + SEMESTER + ", \"rooms\": {}}")));
+        assertThrows(IOException.class, () -> JsonResiRegStream.read(toStream("{\"rooms\": [null]}")));
+        assertThrows(IOException.class, () -> JsonResiRegStream.read(toStream("{" + SEMESTER + ", \"rooms\": [")));
+    }
+
+    private static String write(ResiReg resiReg) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JsonResiRegStream.write(resiReg, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.resireg.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.resireg.testutil.Assert.assertThrows;
+import static seedu.resireg.testutil.TypicalAllocations.ALLOCATION_ONE;
+import static seedu.resireg.testutil.TypicalRooms.ROOM_FOUR;
+import static seedu.resireg.testutil.TypicalStudents.ALICE;
+import static seedu.resireg.testutil.TypicalStudents.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.resireg.model.ResiRegDelta;
+import seedu.resireg.model.ResiRegDelta.EntityList;
+import seedu.resireg.model.ResiRegDelta.ListChange;
+import seedu.resireg.model.semester.Semester;
+
+public class JsonSpilledStateStackTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static ResiRegDelta getDelta(int from) {
+        return new ResiRegDelta(null, Arrays.asList(
+                new ListChange(EntityList.STUDENTS, from, 1, Arrays.asList(ALICE, HOON)),
+                new ListChange(EntityList.ROOMS, from, 0, Collections.singletonList(ROOM_FOUR)),
+                new ListChange(EntityList.ALLOCATIONS, from, 1, Collections.singletonList(ALLOCATION_ONE))));
+    }
+
+    @Test
+    public void pushAndPop_multipleLevels_lastInFirstOut() throws Exception {
+        JsonSpilledStateStack stack = new JsonSpilledStateStack(testFolder);
+        ResiRegDelta first = getDelta(1);
+        ResiRegDelta second = new ResiRegDelta(new Semester(2021, 2), Collections.emptyList());
+
+        stack.push(first);
+        long sizeAfterFirstPush = stack.getSizeInBytes();
+        stack.push(second);
+        assertEquals(2, stack.size());
+        assertTrue(stack.getSizeInBytes() > sizeAfterFirstPush);
+
+        ResiRegDelta popped = stack.pop();
+        assertEquals(second.getSemester(), popped.getSemester());
+        assertTrue(popped.getChanges().isEmpty());
+        assertEquals(sizeAfterFirstPush, stack.getSizeInBytes());
+
+        popped = stack.pop();
+        assertNull(popped.getSemester());
+        assertEquals(first.getChanges().size(), popped.getChanges().size());
+        for (int i = 0; i < first.getChanges().size(); i++) {
+            ListChange expected = first.getChanges().get(i);
+            ListChange actual = popped.getChanges().get(i);
+            assertEquals(expected.getList(), actual.getList());
+            assertEquals(expected.getFrom(), actual.getFrom());
+            assertEquals(expected.getRemovedCount(), actual.getRemovedCount());
+            assertEquals(expected.getAdded(), actual.getAdded());
+        }
+        assertEquals(0, stack.size());
+        assertEquals(0, stack.getSizeInBytes());
+    }
+
+    @Test
+    public void push_overMaxSize_oldestLevelsDropped() throws Exception {
+        JsonSpilledStateStack unlimitedStack = new JsonSpilledStateStack(testFolder.resolve("unlimited"));
+        unlimitedStack.push(getDelta(0));
+        long levelSize = unlimitedStack.getSizeInBytes();
+
+        // the compressed levels differ in size by a few bytes
+        long maxSize = levelSize * 3 + levelSize / 2;
+        JsonSpilledStateStack stack = new JsonSpilledStateStack(testFolder.resolve("limited"), maxSize);
+        for (int i = 0; i < 10; i++) {
+            stack.push(getDelta(i));
+            assertTrue(stack.getSizeInBytes() <= maxSize);
+        }
+        assertEquals(3, stack.size());
+        // the file is compacted as levels are dropped
+        Path file = Files.list(testFolder.resolve("limited")).findFirst().get();
+        assertTrue(Files.size(file) <= maxSize * 2);
+
+        // the newest levels are kept
+        for (int i = 9; i >= 7; i--) {
+            assertEquals(i, stack.pop().getChanges().get(0).getFrom());
+        }
+        assertEquals(0, stack.size());
+    }
+
+    @Test
+    public void pop_emptyStack_throwsNoSuchElementException() {
+        assertThrows(NoSuchElementException.class, () -> new JsonSpilledStateStack(testFolder).pop());
+    }
+
+    @Test
+    public void clear_afterPush_fileDeleted() throws Exception {
+        JsonSpilledStateStack stack = new JsonSpilledStateStack(testFolder);
+        stack.push(getDelta(0));
+        assertEquals(1, Files.list(testFolder).count());
+
+        stack.clear();
+        assertEquals(0, stack.size());
+        assertEquals(0, Files.list(testFolder).count());
+    }
+}
@@ -1,15 +1,21 @@
 package seedu.resireg.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.resireg.testutil.TypicalStudents.HOON;
 import static seedu.resireg.testutil.TypicalStudents.getTypicalResiReg;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.resireg.commons.core.DataFileFormat;
 import seedu.resireg.commons.core.GuiSettings;
 import seedu.resireg.model.ReadOnlyResiReg;
 import seedu.resireg.model.ResiReg;
@@ -65,4 +71,42 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getResiRegFilePath());
     }
 
+    @Test
+    public void createResiRegStorage_formatSwitchedTwice_latestDataRead() throws Exception {
+        Path jsonFilePath = getTempFilePath("resireg.json");
+        ResiReg resiReg = getTypicalResiReg();
+        StorageManager.createResiRegStorage(jsonFilePath, DataFileFormat.JSON).saveResiReg(resiReg);
+
+        // switched to binary, the json data is converted
+        ResiRegStorage binaryStorage = StorageManager.createResiRegStorage(jsonFilePath, DataFileFormat.BINARY);
+        assertEquals(resiReg, new ResiReg(binaryStorage.readResiReg().get()));
+        assertFalse(Files.exists(jsonFilePath));
+        resiReg.addStudent(HOON);
+        binaryStorage.saveResiReg(resiReg);
+
+        // switched back to json, the changes made in binary are converted
+        ResiRegStorage jsonStorage = StorageManager.createResiRegStorage(jsonFilePath, DataFileFormat.JSON);
+        assertEquals(resiReg, new ResiReg(jsonStorage.readResiReg().get()));
+        resiReg.removeStudent(HOON);
+        jsonStorage.saveResiReg(resiReg);
+
+        // and to binary again
+        binaryStorage = StorageManager.createResiRegStorage(jsonFilePath, DataFileFormat.BINARY);
+        assertEquals(resiReg, new ResiReg(binaryStorage.readResiReg().get()));
+    }
+
+    @Test
+    public void createResiRegStorage_olderFileInOtherFormat_notConverted() throws Exception {
+        Path jsonFilePath = getTempFilePath("resireg.json");
+        ResiReg resiReg = getTypicalResiReg();
+        new JsonResiRegStorage(jsonFilePath).saveResiReg(resiReg);
+        Files.setLastModifiedTime(jsonFilePath, FileTime.fromMillis(0));
+        ResiReg binaryResiReg = new ResiReg(resiReg);
+        binaryResiReg.addStudent(HOON);
+        new BinaryResiRegStorage(BinaryResiRegStorage.toBinaryFilePath(jsonFilePath)).saveResiReg(binaryResiReg);
+
+        ResiRegStorage binaryStorage = StorageManager.createResiRegStorage(jsonFilePath, DataFileFormat.BINARY);
+        assertEquals(binaryResiReg, new ResiReg(binaryStorage.readResiReg().get()));
+        assertTrue(Files.exists(jsonFilePath));
+    }
 }
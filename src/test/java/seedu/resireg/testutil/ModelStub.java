@@ -1,21 +1,27 @@
 package seedu.resireg.testutil;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.resireg.commons.core.GuiSettings;
+import seedu.resireg.model.BatchAction;
 import seedu.resireg.model.Model;
 import seedu.resireg.model.ModelPredicate;
 import seedu.resireg.model.ReadOnlyResiReg;
 import seedu.resireg.model.ReadOnlyUserPrefs;
+import seedu.resireg.model.UndoHistoryStats;
 import seedu.resireg.model.alias.CommandWordAlias;
 import seedu.resireg.model.allocation.Allocation;
 import seedu.resireg.model.bin.BinItem;
 import seedu.resireg.model.bin.Binnable;
+import seedu.resireg.model.room.Floor;
 import seedu.resireg.model.room.Room;
+import seedu.resireg.model.room.roomtype.RoomType;
 import seedu.resireg.model.semester.Semester;
+import seedu.resireg.model.student.Name;
 import seedu.resireg.model.student.Student;
 
 /**
@@ -102,6 +108,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasStudent(Student student) {
         throw new AssertionError("This method should not be called.");
@@ -117,6 +128,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Predicate<Student> selectStudentsByName(Collection<Name> names) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean isAllocated(Student student) {
         return false;
@@ -127,6 +143,12 @@ public class ModelStub implements Model {
         return false;
     }
 
+    @Override
+    public Predicate<Room> selectRooms(Collection<Floor> floors, Collection<RoomType> roomTypes,
+            Boolean isAllocated) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setRoom(Room target, Room editedRoom) {
         throw new AssertionError("This method should not be called.");
@@ -197,6 +219,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Predicate<BinItem> selectBinItems(Class<? extends Binnable> binnedItemType) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void deleteExpiredBinItems() {
         throw new AssertionError("This method should not be called.");
@@ -296,5 +323,15 @@ public class ModelStub implements Model {
     public void saveStateResiReg() {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public <E extends Exception> void runInBatch(BatchAction<E> action) throws E {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public UndoHistoryStats getUndoHistoryStats() {
+        throw new AssertionError("This method should not be called.");
+    }
 }
 
@@ -9,6 +9,7 @@ import seedu.resireg.commons.exceptions.DataConversionException;
 import seedu.resireg.model.ReadOnlyResiReg;
 import seedu.resireg.model.ReadOnlyUserPrefs;
 import seedu.resireg.model.UserPrefs;
+import seedu.resireg.model.semester.Semester;
 import seedu.resireg.storage.Storage;
 
 /**
@@ -60,4 +61,10 @@ public class StorageStub implements Storage {
     public void archiveResiReg(ReadOnlyResiReg resiReg) throws IOException {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public Optional<ReadOnlyResiReg> readArchivedResiReg(Semester semester)
+            throws DataConversionException, IOException {
+        throw new AssertionError("This method should not be called.");
+    }
 }